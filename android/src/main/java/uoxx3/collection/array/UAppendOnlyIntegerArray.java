@@ -0,0 +1,26 @@
+package uoxx3.collection.array;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Thread-safe int array that only supports appending elements.
+ * <p>
+ * The elements are stored in segments that are never copied or reallocated. The writers
+ * reserve their slots with an atomic operation, so many threads can append elements
+ * at the same time without locks, and the readers always see a consistent prefix of the array.
+ * The writers never wait for each other: an element becomes visible once all the elements
+ * reserved before it are written.
+ * The operations that insert or remove elements throw an {@link UnsupportedOperationException}.
+ */
+public interface UAppendOnlyIntegerArray extends UIntegerArray {
+	
+	/**
+	 * Gets an immutable view of the elements published when this method is called.
+	 * The view shares the segments of the array, so no element is copied.
+	 *
+	 * @return an immutable view of the published elements
+	 */
+	@NonNull
+	UIntegerArray snapshot();
+	
+}
\ No newline at end of file
@@ -0,0 +1,271 @@
+package uoxx3.collection.array;
+
+import androidx.annotation.NonNull;
+import uoxx3.UCopyable;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.internal.UArrayType;
+
+/**
+ * Boolean array stored as a bitset.
+ * <p>
+ * Every element uses a single bit of a packed {@code long} word, so the array needs 64 times
+ * less memory than a {@code UArray<Boolean>}. Counting, searching and the bulk logical
+ * operations process a whole word of 64 elements at a time.
+ */
+public interface UBooleanArray extends UArrayType<Boolean>, UCopyable<UBooleanArray> {
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	void add(boolean element);
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	void addAll(boolean... elements);
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied a word at a time.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NonNull UBooleanArray elements);
+	
+	/**
+	 * Sets every element of the array to the logical AND of the element and the element at
+	 * the same position of the given array. The elements without a counterpart in the given
+	 * array are set to {@code false}.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	void and(@NonNull UBooleanArray elements);
+	
+	/**
+	 * Sets every element of the array to {@code false} if the element at the same position
+	 * of the given array is {@code true}.
+	 *
+	 * @param elements The array with the elements to clear
+	 */
+	void andNot(@NonNull UBooleanArray elements);
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
+	/**
+	 * Counts the elements of the array that are {@code true}.
+	 *
+	 * @return the number of {@code true} elements
+	 */
+	int cardinality();
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	boolean contains(boolean value);
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Inverts the element at the specified position of the array.
+	 *
+	 * @param index The position of the element to invert
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	void flip(int index);
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	boolean get(int index);
+	
+	/**
+	 * Gets the elements of the array as a native array. The elements are stored packed,
+	 * so the result is always a new array.
+	 *
+	 * @return a native array
+	 */
+	boolean[] getArray();
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	int indexOf(boolean value);
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, boolean element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insertAll(int index, boolean... elements);
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	int lastIndexOf(boolean value);
+	
+	/**
+	 * Returns the index of the first {@code false} element at or after the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the next {@code false} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 * @throws IndexOutOfBoundsException if the index is negative
+	 */
+	int nextClearBit(int fromIndex);
+	
+	/**
+	 * Returns the index of the first {@code true} element at or after the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the next {@code true} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 * @throws IndexOutOfBoundsException if the index is negative
+	 */
+	int nextSetBit(int fromIndex);
+	
+	/**
+	 * Sets every element of the array to the logical OR of the element and the element at
+	 * the same position of the given array. If the given array is larger, the array grows
+	 * to its size.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	void or(@NonNull UBooleanArray elements);
+	
+	/**
+	 * Returns the index of the last {@code false} element at or before the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the previous {@code false} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 */
+	int previousClearBit(int fromIndex);
+	
+	/**
+	 * Returns the index of the last {@code true} element at or before the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the previous {@code true} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 */
+	int previousSetBit(int fromIndex);
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	boolean removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Replaces the element at the specified position of the array.
+	 *
+	 * @param index   The position of the element to replace
+	 * @param element The new element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	void set(int index, boolean element);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NonNull
+	@Override
+	UBooleanArray slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Gets a copy of the packed words of the array. The element at index {@code i} is
+	 * the bit {@code i % 64} of the word {@code i / 64}.
+	 *
+	 * @return a native array with the packed elements
+	 */
+	long[] toLongArray();
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
+	/**
+	 * Sets every element of the array to the logical XOR of the element and the element at
+	 * the same position of the given array. If the given array is larger, the array grows
+	 * to its size.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	void xor(@NonNull UBooleanArray elements);
+	
+}
@@ -0,0 +1,39 @@
+package uoxx3.collection.array;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Read-only long array stored in compressed blocks.
+ * <p>
+ * The elements are split in blocks of 128 elements and every block is encoded with
+ * the smallest of delta varint, delta bit-packing and frame of reference encodings. Sorted or
+ * clustered elements, like identifiers or offsets, usually use between 3 and 8 times less memory
+ * than a plain array. Sequential access decodes a whole block at a time, and random access only
+ * decodes the block of the requested element.
+ * <p>
+ * The operations that modify the array throw an {@link UnsupportedOperationException}.
+ */
+public interface UCompressedLongArray extends ULongArray {
+	
+	/**
+	 * Gets the number of bytes used to store the compressed elements.
+	 *
+	 * @return the size in bytes of the compressed storage
+	 */
+	int compressedBytes();
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the compressed blocks of the array,
+	 * so no element is copied.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NonNull
+	@Override
+	UCompressedLongArray slice(int fromIndex, int toIndex);
+	
+}
\ No newline at end of file
@@ -1,10 +1,26 @@
 package uoxx3.collection.array;
 
 import androidx.annotation.NonNull;
+import uoxx3.UAssert;
 import uoxx3.UCopyable;
+import uoxx3.collection.UArrays;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.ULongSet;
+import uoxx3.collection.collection.USet;
 import uoxx3.collection.internal.UArrayType;
+import uoxx3.collection.internal.array.UArrayCodec;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 import java.util.stream.LongStream;
 
 public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
@@ -23,6 +39,74 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	 */
 	void addAll(long... elements);
 	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NonNull ULongArray elements);
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	void addAll(@NonNull LongStream elements);
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	void addAll(@NonNull Spliterator.OfLong elements);
+	
+	/**
+	 * Calculates the arithmetic mean of the elements of the array. Large arrays are reduced in
+	 * parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the mean of the elements, or an empty optional if the array is empty
+	 */
+	@NonNull
+	default OptionalDouble average() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).average();
+	}
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	default int binarySearch(long value) {
+		int low = 0;
+		int high = size() - 1;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			long element = get(middle);
+			
+			if (element < value) low = middle + 1;
+			else if (element > value) high = middle - 1;
+			else return middle;
+		}
+		
+		return -(low + 1);
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
 	/**
 	 * Checks if the array contains the specified value.
 	 *
@@ -31,6 +115,55 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	 */
 	boolean contains(long value);
 	
+	/**
+	 * Counts the number of elements of the array equal to the specified value.
+	 *
+	 * @param value The value to count.
+	 * @return the number of occurrences of the value in the array
+	 */
+	default int count(long value) {
+		int count = 0;
+		for (int i = 0; i < size(); i++) {
+			if (get(i) == value) count++;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	default void forEachLong(@NonNull LongConsumer action) {
+		UAssert.paramNotNull(action, "LongConsumer action");
+		iterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	default void forEachIndexedLong(@NonNull UIndexedConsumer.OfLong consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfLong consumer");
+		
+		int counter = 0;
+		for (PrimitiveIterator.OfLong iterator = iterator(); iterator.hasNext(); ) {
+			consumer.accept(counter++, iterator.nextLong());
+		}
+	}
+	
 	/**
 	 * Gets the index of the array
 	 *
@@ -53,6 +186,20 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	 */
 	long[] getArray();
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 * <p>
+	 * The default implementation returns {@link #getArray()}, which already returns a copy
+	 * for every array that does not wrap a native array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	default long[] toArray() {
+		return getArray();
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -63,6 +210,51 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	 */
 	int indexOf(long value);
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, long element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insertAll(int index, long... elements);
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan. The arrays that do not track their
+	 * order always return {@code false}.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	default boolean isSorted() {
+		return false;
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfLong#nextLong()}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NonNull
+	@Override
+	PrimitiveIterator.OfLong iterator();
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -73,6 +265,173 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	 */
 	int lastIndexOf(long value);
 	
+	/**
+	 * Finds the largest element of the array. Large arrays are reduced in parallel by the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return the largest element, or an empty optional if the array is empty
+	 */
+	@NonNull
+	default OptionalLong max() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).max();
+	}
+	
+	/**
+	 * Finds the smallest element of the array. Large arrays are reduced in parallel by the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return the smallest element, or an empty optional if the array is empty
+	 */
+	@NonNull
+	default OptionalLong min() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).min();
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool with a two-pass algorithm. The first pass scans ranges of the array in
+	 * parallel, and the second pass combines every range with the result of the ranges before it.
+	 * Small arrays are scanned sequentially.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void parallelScan(@NonNull LongBinaryOperator operator) {
+		scan(operator);
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void parallelSort() {
+		sort();
+	}
+	
+	/**
+	 * Gets a parallel LongStream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return A parallel LongStream of the elements in the array.
+	 */
+	@NonNull
+	@Override
+	default LongStream parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Replaces every element of the array with the sum of the element and all the elements before
+	 * it (an inclusive prefix sum). The sums overflow like the {@code long} additions. Large
+	 * arrays are scanned in parallel by the threads of the common fork/join pool.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void prefixSum() {
+		if (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD) {
+			scan(Long::sum);
+		} else {
+			parallelScan(Long::sum);
+		}
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo(WritableByteChannel)} from the given channel
+	 * and adds all its elements to the end of this array. The elements are transferred in large
+	 * chunks and the channel is never read beyond the end of the array.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a long array
+	 */
+	default void readFrom(@NonNull ReadableByteChannel channel) throws IOException {
+		addAll(UArrayCodec.readLongs(channel));
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	long removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	boolean removeIf(@NonNull LongPredicate filter);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	boolean retainAll(@NonNull ULongArray elements);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NonNull
+	@Override
+	ULongArray slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element, so every element holds the cumulative result of all
+	 * the elements up to it (an inclusive scan). The first element does not change. The operator
+	 * is applied in order, so it does not need to be associative.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void scan(@NonNull LongBinaryOperator operator) {
+		throw new UnsupportedOperationException("The array cannot be modified");
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void sort() {
+		throw new UnsupportedOperationException("The array cannot be sorted");
+	}
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
 	 *
@@ -81,4 +440,73 @@ public interface ULongArray extends UArrayType<Long>, UCopyable<ULongArray> {
 	@NonNull
 	LongStream stream();
 	
+	/**
+	 * Converts the array to a mutable long set. The elements are stored unboxed
+	 * in an open-addressing hash table sized for the array.
+	 *
+	 * @return a mutable set containing the elements of the array
+	 */
+	default @NonNull ULongSet toLongSet() {
+		return USet.makeLong(this);
+	}
+	
+	/**
+	 * Adds all the elements of the array. The sum overflows like the {@code long} additions. Large
+	 * arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	default long sum() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).sum();
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements of the array in a single
+	 * pass. Large arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the statistics of the elements
+	 */
+	@NonNull
+	default LongSummaryStatistics summaryStatistics() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).summaryStatistics();
+	}
+	
+	/**
+	 * Gets a new array with the inclusive prefix sums of the elements, without modifying this
+	 * array. The sums overflow like the {@code long} additions. The elements are added in order
+	 * by a single thread; the implementations may scan large arrays in parallel.
+	 *
+	 * @return a new array where every element is the sum of the elements up to its index
+	 */
+	@NonNull
+	default ULongArray toPrefixSum() {
+		long[] sums = new long[size()];
+		long sum = 0;
+		int index = 0;
+		for (PrimitiveIterator.OfLong iterator = iterator(); iterator.hasNext(); ) {
+			sum += iterator.nextLong();
+			sums[index++] = sum;
+		}
+		
+		return UArrays.ofLong(sums);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are transferred in large chunks instead of one by one.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	default void writeTo(@NonNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, toArray());
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package uoxx3.collection.array;
+
+/**
+ * Array stored in a memory-mapped file.
+ * <p>
+ * The content of the file is paged in by the operating system when it is accessed,
+ * so opening the array does not read the file and the elements are not part of the heap.
+ * The elements are stored with the big-endian byte order and the file size is always
+ * a multiple of the element size. The memory of the array is released when the array
+ * is closed; any access after that throws an {@link IllegalStateException}.
+ * <p>
+ * The arrays opened in read-only mode and the views of the arrays cannot be modified,
+ * their modifications throw an {@link UnsupportedOperationException}. This array is not thread-safe.
+ */
+public interface UMappedArray extends AutoCloseable {
+	
+	/**
+	 * Releases the mapped memory and closes the file. The file of a writable array is
+	 * truncated to the size of the array. Closing a view has no effect.
+	 * <p>
+	 * Closing an array that is already closed has no effect.
+	 *
+	 * @throws java.io.UncheckedIOException if the file cannot be closed
+	 */
+	@Override
+	void close();
+	
+	/**
+	 * Writes all the changes of the array to the file. The file of a writable array is
+	 * truncated to the size of the array, so the file holds exactly the elements of
+	 * the array if it is opened again before the array is closed.
+	 *
+	 * @throws IllegalStateException        if the array is closed
+	 * @throws java.io.UncheckedIOException if the file cannot be truncated
+	 */
+	void force();
+	
+	/**
+	 * Checks if the array is closed.
+	 *
+	 * @return {@code true} if the file of the array is closed
+	 */
+	boolean isClosed();
+	
+	/**
+	 * Checks if the array can be modified.
+	 *
+	 * @return {@code true} if the array was opened in read-only mode or it is a view
+	 */
+	boolean isReadOnly();
+	
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package uoxx3.collection.array;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Array of long elements stored in a memory-mapped file.
+ *
+ * @see UMappedArray
+ */
+public interface UMappedLongArray extends ULongArray, UMappedArray {
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the mapped file of the array, so no
+	 * element is copied.
+	 * <p>
+	 * The view is read-only and it cannot be used after the array is closed.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NonNull
+	@Override
+	UMappedLongArray slice(int fromIndex, int toIndex);
+	
+}
\ No newline at end of file
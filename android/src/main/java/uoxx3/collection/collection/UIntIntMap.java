@@ -0,0 +1,122 @@
+package uoxx3.collection.collection;
+
+import androidx.annotation.NonNull;
+import uoxx3.UCopyable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mutable map of int keys to int values.
+ * <p>
+ * The entries are stored unboxed in two parallel open-addressing hash tables, so the
+ * lookups and the updates never allocate memory.
+ */
+public interface UIntIntMap extends UCopyable<UIntIntMap> {
+	
+	/**
+	 * Adds the given increment to the value of the key. If the map does not contain the key,
+	 * the increment is stored as its value.
+	 *
+	 * @param key       The key of the value
+	 * @param increment The amount to add to the value
+	 * @return the new value of the key
+	 */
+	int addTo(int key, int increment);
+	
+	/**
+	 * Removes all the entries of the map. The table keeps its capacity.
+	 */
+	void clear();
+	
+	/**
+	 * Gets the value of the key. If the map does not contain the key, the value is calculated
+	 * with the given function and stored in the map.
+	 *
+	 * @param key     The key of the value
+	 * @param mapping The function that calculates the value of a missing key
+	 * @return the current or the calculated value of the key
+	 */
+	int computeIfAbsent(int key, @NonNull IntUnaryOperator mapping);
+	
+	/**
+	 * Checks if the map contains the specified key.
+	 *
+	 * @param key The key to check for.
+	 * @return true if the map contains the key, false otherwise.
+	 */
+	boolean containsKey(int key);
+	
+	/**
+	 * Increases the capacity of the map, if necessary, to ensure that it can hold
+	 * at least the given number of entries without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Gets the value of the key, or the given default value if the map does not contain the key.
+	 *
+	 * @param key          The key of the value
+	 * @param defaultValue The value returned if the map does not contain the key
+	 * @return the value of the key, or the default value
+	 */
+	int getOrDefault(int key, int defaultValue);
+	
+	/**
+	 * Returns true if the map is empty, false otherwise.
+	 *
+	 * @return true if the map is empty, false otherwise.
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Returns an iterator over the keys of the map, without boxing and in no particular order.
+	 *
+	 * @return an iterator over the keys of the map
+	 */
+	@NonNull
+	PrimitiveIterator.OfInt keyIterator();
+	
+	/**
+	 * Gets the keys of the map as a native array, in the same order as {@link #values()}.
+	 *
+	 * @return a native array with the keys
+	 */
+	int[] keys();
+	
+	/**
+	 * Associates the value with the key, replacing the previous value of the key.
+	 *
+	 * @param key   The key of the value
+	 * @param value The value of the key
+	 * @return {@code true} if the map did not contain the key
+	 */
+	boolean put(int key, int value);
+	
+	/**
+	 * Removes the key and its value from the map.
+	 *
+	 * @param key The key to remove
+	 * @return {@code true} if the map contained the key
+	 */
+	boolean remove(int key);
+	
+	/**
+	 * Returns the number of entries of the map.
+	 *
+	 * @return The number of entries of the map.
+	 */
+	int size();
+	
+	/**
+	 * Gets the values of the map as a native array, in the same order as {@link #keys()}.
+	 *
+	 * @return a native array with the values
+	 */
+	int[] values();
+	
+}
@@ -0,0 +1,104 @@
+package uoxx3.collection.collection;
+
+import androidx.annotation.NonNull;
+import uoxx3.UCopyable;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * Mutable set of long elements.
+ * <p>
+ * The elements are stored unboxed in an open-addressing hash table, so adding, searching
+ * and removing an element never allocates memory, and every element uses 8 bytes of the table
+ * instead of a boxed {@code Long} and a node of a {@code HashSet}.
+ */
+public interface ULongSet extends Iterable<Long>, UCopyable<ULongSet> {
+	
+	/**
+	 * Add a new element to the set
+	 *
+	 * @param element The element to add
+	 * @return {@code true} if the set did not contain the element
+	 */
+	boolean add(long element);
+	
+	/**
+	 * Add multiple elements to the set
+	 *
+	 * @param elements All the elements wants to add
+	 * @return {@code true} if the set changed
+	 */
+	boolean addAll(long... elements);
+	
+	/**
+	 * Removes all the elements of the set. The table keeps its capacity.
+	 */
+	void clear();
+	
+	/**
+	 * Checks if the set contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the set contains the value, false otherwise.
+	 */
+	boolean contains(long value);
+	
+	/**
+	 * Increases the capacity of the set, if necessary, to ensure that it can hold
+	 * at least the given number of elements without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Returns true if the set is empty, false otherwise.
+	 *
+	 * @return true if the set is empty, false otherwise.
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the set. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfLong#nextLong()}, in no particular order.
+	 *
+	 * @return an Iterator.
+	 */
+	@NonNull
+	@Override
+	PrimitiveIterator.OfLong iterator();
+	
+	/**
+	 * Removes the specified element from the set.
+	 *
+	 * @param element The element to remove
+	 * @return {@code true} if the set contained the element
+	 */
+	boolean remove(long element);
+	
+	/**
+	 * Returns the number of elements of the set.
+	 *
+	 * @return The number of elements of the set.
+	 */
+	int size();
+	
+	/**
+	 * Gets a sequential Stream with the elements of the set as its source.
+	 *
+	 * @return A Stream of the elements in the set.
+	 */
+	@NonNull
+	LongStream stream();
+	
+	/**
+	 * Gets the elements of the set as a native array, in no particular order.
+	 *
+	 * @return a native array
+	 */
+	long[] toArray();
+	
+}
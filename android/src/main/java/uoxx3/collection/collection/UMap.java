@@ -0,0 +1,616 @@
+package uoxx3.collection.collection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UArray;
+import uoxx3.collection.array.UIntegerArray;
+import uoxx3.collection.array.ULongArray;
+import uoxx3.collection.internal.collection.UCollectionCommon;
+import uoxx3.collection.internal.collection.UCompactMapImpl;
+import uoxx3.collection.internal.collection.UIntIntMapImpl;
+import uoxx3.collection.internal.collection.ULongLongMapImpl;
+import uoxx3.collection.internal.collection.ULongObjectMapImpl;
+
+import java.util.*;
+
+public final class UMap extends UCollectionCommon {
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UMap() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Map entry methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates an immutable entry with the specified key and value, to be used with the
+	 * map generator methods.
+	 *
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @param <K>   the type of the key
+	 * @param <V>   the type of the value
+	 * @return an immutable entry with the key and the value
+	 */
+	public static <K, V> @NonNull Map.Entry<K, V> entry(K key, V value) {
+		return new AbstractMap.SimpleImmutableEntry<>(key, value);
+	}
+	
+	/* -----------------------------------------------------
+	 * Unmodifiable map generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates an immutable map containing the specified entries. The entries are stored
+	 * in compact arrays, in insertion order, and a repeated key keeps the last of its values.
+	 *
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return an immutable map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> make(@NonNull Map.Entry<K, V>... entries) {
+		UAssert.paramNotNull(entries, "Map.Entry<K, V>[] entries");
+		return new UCompactMapImpl<>(entries.length, Arrays.asList(entries).iterator());
+	}
+	
+	/**
+	 * Creates an immutable map that associates every key with the value at the same index.
+	 * The entries are stored in compact arrays, in insertion order, and a repeated key keeps
+	 * the last of its values.
+	 *
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return an immutable map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> make(@NonNull K[] keys, @NonNull V[] values) {
+		return new UCompactMapImpl<>(keys, values);
+	}
+	
+	/**
+	 * Creates an immutable map containing the entries of the specified map. The entries are
+	 * stored in compact arrays, in the iteration order of the map.
+	 *
+	 * @param map the map providing the entries
+	 * @param <K> the type of keys in the map
+	 * @param <V> the type of values in the map
+	 * @return an immutable map containing the entries of the map
+	 */
+	public static <K, V> @NonNull Map<K, V> make(@NonNull Map<K, V> map) {
+		UAssert.paramNotNull(map, "Map<K, V> map");
+		// An immutable map can be shared, there is nothing to copy
+		if (map instanceof UCompactMapImpl) return map;
+		
+		return new UCompactMapImpl<>(map.size(), map.entrySet().iterator());
+	}
+	
+	/**
+	 * Creates an immutable map containing the entries from the specified iterator. The entries
+	 * are stored in compact arrays, in insertion order, and a repeated key keeps the last of its values.
+	 *
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return an immutable map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> make(@NonNull Iterator<Map.Entry<K, V>> iterator) {
+		return new UCompactMapImpl<>(UCollectionConstants.EMPTY_SIZE, iterator);
+	}
+	
+	/* -----------------------------------------------------
+	 * Mutable map generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a mutable map containing the specified entries with an initial size hint.
+	 * The map is sized to hold the given number of entries without rebuilding its table.
+	 *
+	 * @param size    the initial size hint for the map
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return a mutable map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeMutable(int size, @NonNull Map.Entry<K, V>... entries) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new HashMap<>(capacityFactor), entries);
+	}
+	
+	/**
+	 * Creates a mutable map containing the specified entries.
+	 * The map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return a mutable map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeMutable(@NonNull Map.Entry<K, V>... entries) {
+		return makeMutable(entries.length, entries);
+	}
+	
+	/**
+	 * Creates a mutable map that associates every key with the value at the same index,
+	 * with an initial size hint.
+	 *
+	 * @param size   the initial size hint for the map
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return a mutable map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeMutable(int size, @NonNull K[] keys, @NonNull V[] values) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new HashMap<>(capacityFactor), keys, values);
+	}
+	
+	/**
+	 * Creates a mutable map that associates every key with the value at the same index.
+	 * The map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return a mutable map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeMutable(@NonNull K[] keys, @NonNull V[] values) {
+		return makeMutable(keys.length, keys, values);
+	}
+	
+	/**
+	 * Creates a mutable map containing the entries from the specified iterator with an initial size hint.
+	 *
+	 * @param size     the initial size hint for the map
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return a mutable map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeMutable(int size, @NonNull Iterator<Map.Entry<K, V>> iterator) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new HashMap<>(capacityFactor), iterator);
+	}
+	
+	/**
+	 * Creates a mutable map containing the entries from the specified iterator.
+	 *
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return a mutable map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeMutable(@NonNull Iterator<Map.Entry<K, V>> iterator) {
+		return mapPutAll(new HashMap<>(), iterator);
+	}
+	
+	/**
+	 * Creates a mutable map containing the entries of the specified map.
+	 * The new map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param map the map providing the entries
+	 * @param <K> the type of keys in the map
+	 * @param <V> the type of values in the map
+	 * @return a mutable map containing the entries of the map
+	 */
+	public static <K, V> @NonNull Map<K, V> makeMutable(@NonNull Map<K, V> map) {
+		UAssert.paramNotNull(map, "Map<K, V> map");
+		return makeMutable(map.size(), map.entrySet().iterator());
+	}
+	
+	/* -----------------------------------------------------
+	 * Linked map generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a linked hash map containing the specified entries with an initial size hint.
+	 * The map is sized to hold the given number of entries without rebuilding its table.
+	 *
+	 * @param size    the initial size hint for the map
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return a linked hash map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeLinked(int size, @NonNull Map.Entry<K, V>... entries) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new LinkedHashMap<>(capacityFactor), entries);
+	}
+	
+	/**
+	 * Creates a linked hash map containing the specified entries.
+	 * The map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return a linked hash map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeLinked(@NonNull Map.Entry<K, V>... entries) {
+		return makeLinked(entries.length, entries);
+	}
+	
+	/**
+	 * Creates a linked hash map that associates every key with the value at the same index,
+	 * with an initial size hint.
+	 *
+	 * @param size   the initial size hint for the map
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return a linked hash map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeLinked(int size, @NonNull K[] keys, @NonNull V[] values) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new LinkedHashMap<>(capacityFactor), keys, values);
+	}
+	
+	/**
+	 * Creates a linked hash map that associates every key with the value at the same index.
+	 * The map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return a linked hash map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeLinked(@NonNull K[] keys, @NonNull V[] values) {
+		return makeLinked(keys.length, keys, values);
+	}
+	
+	/**
+	 * Creates a linked hash map containing the entries from the specified iterator with an initial size hint.
+	 *
+	 * @param size     the initial size hint for the map
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return a linked hash map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeLinked(int size, @NonNull Iterator<Map.Entry<K, V>> iterator) {
+		int capacityFactor = ensureCapacityHashThreshold(size, UCollectionConstants.EMPTY_SIZE);
+		return mapPutAll(new LinkedHashMap<>(capacityFactor), iterator);
+	}
+	
+	/**
+	 * Creates a linked hash map containing the entries from the specified iterator.
+	 *
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return a linked hash map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeLinked(@NonNull Iterator<Map.Entry<K, V>> iterator) {
+		return mapPutAll(new LinkedHashMap<>(), iterator);
+	}
+	
+	/**
+	 * Creates a linked hash map containing the entries of the specified map.
+	 * The new map is sized to hold exactly the given entries without rebuilding its table.
+	 *
+	 * @param map the map providing the entries
+	 * @param <K> the type of keys in the map
+	 * @param <V> the type of values in the map
+	 * @return a linked hash map containing the entries of the map
+	 */
+	public static <K, V> @NonNull Map<K, V> makeLinked(@NonNull Map<K, V> map) {
+		UAssert.paramNotNull(map, "Map<K, V> map");
+		return makeLinked(map.size(), map.entrySet().iterator());
+	}
+	
+	/* -----------------------------------------------------
+	 * Tree map generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a tree map containing the specified entries with the given comparator.
+	 *
+	 * @param comparator the comparator to use for ordering the keys, or null to use the natural ordering
+	 * @param entries    the entries to include in the map
+	 * @param <K>        the type of keys in the map
+	 * @param <V>        the type of values in the map
+	 * @return a tree map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeTree(@Nullable Comparator<K> comparator, @NonNull Map.Entry<K, V>... entries) {
+		return mapPutAll(new TreeMap<>(comparator), entries);
+	}
+	
+	/**
+	 * Creates a tree map containing the specified entries using natural ordering.
+	 *
+	 * @param entries the entries to include in the map
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @return a tree map containing the specified entries
+	 */
+	@SafeVarargs
+	public static <K, V> @NonNull Map<K, V> makeTree(@NonNull Map.Entry<K, V>... entries) {
+		return makeTree((Comparator<K>) null, entries);
+	}
+	
+	/**
+	 * Creates a tree map that associates every key with the value at the same index,
+	 * with the given comparator.
+	 *
+	 * @param comparator the comparator to use for ordering the keys, or null to use the natural ordering
+	 * @param keys       the keys of the map
+	 * @param values     the values of the keys
+	 * @param <K>        the type of keys in the map
+	 * @param <V>        the type of values in the map
+	 * @return a tree map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@Nullable Comparator<K> comparator, @NonNull K[] keys,
+		@NonNull V[] values) {
+		return mapPutAll(new TreeMap<>(comparator), keys, values);
+	}
+	
+	/**
+	 * Creates a tree map that associates every key with the value at the same index,
+	 * using natural ordering.
+	 *
+	 * @param keys   the keys of the map
+	 * @param values the values of the keys
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @return a tree map containing the specified entries
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@NonNull K[] keys, @NonNull V[] values) {
+		return makeTree((Comparator<K>) null, keys, values);
+	}
+	
+	/**
+	 * Creates a tree map containing the entries from the specified iterator with the given comparator.
+	 *
+	 * @param comparator the comparator to use for ordering the keys, or null to use the natural ordering
+	 * @param iterator   the iterator providing the entries
+	 * @param <K>        the type of keys in the map
+	 * @param <V>        the type of values in the map
+	 * @return a tree map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@Nullable Comparator<K> comparator,
+		@NonNull Iterator<Map.Entry<K, V>> iterator) {
+		return mapPutAll(new TreeMap<>(comparator), iterator);
+	}
+	
+	/**
+	 * Creates a tree map containing the entries from the specified iterator using natural ordering.
+	 *
+	 * @param iterator the iterator providing the entries
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @return a tree map containing the entries from the iterator
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@NonNull Iterator<Map.Entry<K, V>> iterator) {
+		return makeTree((Comparator<K>) null, iterator);
+	}
+	
+	/**
+	 * Creates a tree map containing the entries of the specified map with the given comparator.
+	 *
+	 * @param comparator the comparator to use for ordering the keys, or null to use the natural ordering
+	 * @param map        the map providing the entries
+	 * @param <K>        the type of keys in the map
+	 * @param <V>        the type of values in the map
+	 * @return a tree map containing the entries of the map
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@Nullable Comparator<K> comparator, @NonNull Map<K, V> map) {
+		UAssert.paramNotNull(map, "Map<K, V> map");
+		return makeTree(comparator, map.entrySet().iterator());
+	}
+	
+	/**
+	 * Creates a tree map containing the entries of the specified map using natural ordering.
+	 *
+	 * @param map the map providing the entries
+	 * @param <K> the type of keys in the map
+	 * @param <V> the type of values in the map
+	 * @return a tree map containing the entries of the map
+	 */
+	public static <K, V> @NonNull Map<K, V> makeTree(@NonNull Map<K, V> map) {
+		return makeTree((Comparator<K>) null, map);
+	}
+	
+	/* -----------------------------------------------------
+	 * Primitive map generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates an empty mutable int to int map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected   the expected number of entries of the map
+	 * @param loadFactor the maximum ratio of used slots of the table, between zero and one
+	 * @return an empty mutable int to int map
+	 * @throws IllegalArgumentException if the expected size is negative or the load factor is not between zero and one
+	 */
+	public static @NonNull UIntIntMap makeIntInt(int expected, float loadFactor) {
+		return new UIntIntMapImpl(expected, loadFactor);
+	}
+	
+	/**
+	 * Creates an empty mutable int to int map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected the expected number of entries of the map
+	 * @return an empty mutable int to int map
+	 * @throws IllegalArgumentException if the expected size is negative
+	 */
+	public static @NonNull UIntIntMap makeIntInt(int expected) {
+		return new UIntIntMapImpl(expected);
+	}
+	
+	/**
+	 * Creates an empty mutable int to int map.
+	 *
+	 * @return an empty mutable int to int map
+	 */
+	public static @NonNull UIntIntMap makeIntInt() {
+		return new UIntIntMapImpl();
+	}
+	
+	/**
+	 * Creates a mutable int to int map with the entries of the specified parallel arrays.
+	 * The map is sized for all the entries before they are inserted, and a repeated key
+	 * keeps the last of its values.
+	 *
+	 * @param keys   the array providing the keys of the map
+	 * @param values the array providing the values of the map, at the same index as their keys
+	 * @return a mutable int to int map containing the entries of the arrays
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 */
+	public static @NonNull UIntIntMap makeIntInt(@NonNull UIntegerArray keys, @NonNull UIntegerArray values) {
+		UAssert.paramNotNull(keys, "UIntegerArray keys");
+		UAssert.paramNotNull(values, "UIntegerArray values");
+		int size = checkEntries(keys.size(), values.size());
+		
+		UIntIntMap map = new UIntIntMapImpl(size);
+		for (int i = 0; i < size; i++) {
+			map.put(keys.get(i), values.get(i));
+		}
+		
+		return map;
+	}
+	
+	/**
+	 * Creates an empty mutable long to long map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected   the expected number of entries of the map
+	 * @param loadFactor the maximum ratio of used slots of the table, between zero and one
+	 * @return an empty mutable long to long map
+	 * @throws IllegalArgumentException if the expected size is negative or the load factor is not between zero and one
+	 */
+	public static @NonNull ULongLongMap makeLongLong(int expected, float loadFactor) {
+		return new ULongLongMapImpl(expected, loadFactor);
+	}
+	
+	/**
+	 * Creates an empty mutable long to long map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected the expected number of entries of the map
+	 * @return an empty mutable long to long map
+	 * @throws IllegalArgumentException if the expected size is negative
+	 */
+	public static @NonNull ULongLongMap makeLongLong(int expected) {
+		return new ULongLongMapImpl(expected);
+	}
+	
+	/**
+	 * Creates an empty mutable long to long map.
+	 *
+	 * @return an empty mutable long to long map
+	 */
+	public static @NonNull ULongLongMap makeLongLong() {
+		return new ULongLongMapImpl();
+	}
+	
+	/**
+	 * Creates a mutable long to long map with the entries of the specified parallel arrays.
+	 * The map is sized for all the entries before they are inserted, and a repeated key
+	 * keeps the last of its values.
+	 *
+	 * @param keys   the array providing the keys of the map
+	 * @param values the array providing the values of the map, at the same index as their keys
+	 * @return a mutable long to long map containing the entries of the arrays
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 */
+	public static @NonNull ULongLongMap makeLongLong(@NonNull ULongArray keys, @NonNull ULongArray values) {
+		UAssert.paramNotNull(keys, "ULongArray keys");
+		UAssert.paramNotNull(values, "ULongArray values");
+		int size = checkEntries(keys.size(), values.size());
+		
+		ULongLongMap map = new ULongLongMapImpl(size);
+		for (int i = 0; i < size; i++) {
+			map.put(keys.get(i), values.get(i));
+		}
+		
+		return map;
+	}
+	
+	/**
+	 * Creates an empty mutable long to object map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected   the expected number of entries of the map
+	 * @param loadFactor the maximum ratio of used slots of the table, between zero and one
+	 * @param <V>        the type of the values
+	 * @return an empty mutable long to object map
+	 * @throws IllegalArgumentException if the expected size is negative or the load factor is not between zero and one
+	 */
+	public static <V> @NonNull ULongObjectMap<V> makeLongObject(int expected, float loadFactor) {
+		return new ULongObjectMapImpl<>(expected, loadFactor);
+	}
+	
+	/**
+	 * Creates an empty mutable long to object map able to hold the expected number of entries
+	 * without rebuilding its table.
+	 *
+	 * @param expected the expected number of entries of the map
+	 * @param <V>      the type of the values
+	 * @return an empty mutable long to object map
+	 * @throws IllegalArgumentException if the expected size is negative
+	 */
+	public static <V> @NonNull ULongObjectMap<V> makeLongObject(int expected) {
+		return new ULongObjectMapImpl<>(expected);
+	}
+	
+	/**
+	 * Creates an empty mutable long to object map.
+	 *
+	 * @param <V> the type of the values
+	 * @return an empty mutable long to object map
+	 */
+	public static <V> @NonNull ULongObjectMap<V> makeLongObject() {
+		return new ULongObjectMapImpl<>();
+	}
+	
+	/**
+	 * Creates a mutable long to object map with the entries of the specified parallel arrays.
+	 * The map is sized for all the entries before they are inserted, and a repeated key
+	 * keeps the last of its values.
+	 *
+	 * @param keys   the array providing the keys of the map
+	 * @param values the array providing the non-null values of the map, at the same index as their keys
+	 * @param <V>    the type of the values
+	 * @return a mutable long to object map containing the entries of the arrays
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 */
+	public static <V> @NonNull ULongObjectMap<V> makeLongObject(@NonNull ULongArray keys, @NonNull UArray<V> values) {
+		UAssert.paramNotNull(keys, "ULongArray keys");
+		UAssert.paramNotNull(values, "UArray<V> values");
+		int size = checkEntries(keys.size(), values.size());
+		
+		ULongObjectMap<V> map = new ULongObjectMapImpl<>(size);
+		for (int i = 0; i < size; i++) {
+			map.put(keys.get(i), values.get(i));
+		}
+		
+		return map;
+	}
+	
+}
@@ -2,8 +2,15 @@ package uoxx3.collection.collection;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import uoxx3.UAssert;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UCharacterArray;
+import uoxx3.collection.array.UIntegerArray;
+import uoxx3.collection.array.ULongArray;
+import uoxx3.collection.internal.collection.UCharacterSetImpl;
 import uoxx3.collection.internal.collection.UCollectionCommon;
+import uoxx3.collection.internal.collection.UIntSetImpl;
+import uoxx3.collection.internal.collection.ULongSetImpl;
 
 import java.util.*;
 import java.util.function.Function;
@@ -295,6 +302,142 @@ public final class USet extends UCollectionCommon {
 		return makeTree(null, collection);
 	}
 	
+	/* -----------------------------------------------------
+	 * Primitive set generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a mutable int set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable int set containing the specified elements
+	 */
+	public static @NonNull UIntSet makeInt(int size, @NonNull int[] elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		UIntSet set = new UIntSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable int set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable int set containing the specified elements
+	 */
+	public static @NonNull UIntSet makeInt(@NonNull int... elements) {
+		return makeInt(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable int set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable int set containing the elements of the array
+	 */
+	public static @NonNull UIntSet makeInt(@NonNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		UIntSet set = new UIntSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable long set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable long set containing the specified elements
+	 */
+	public static @NonNull ULongSet makeLong(int size, @NonNull long[] elements) {
+		UAssert.paramNotNull(elements, "long[] elements");
+		ULongSet set = new ULongSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable long set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable long set containing the specified elements
+	 */
+	public static @NonNull ULongSet makeLong(@NonNull long... elements) {
+		return makeLong(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable long set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable long set containing the elements of the array
+	 */
+	public static @NonNull ULongSet makeLong(@NonNull ULongArray elements) {
+		UAssert.paramNotNull(elements, "ULongArray elements");
+		ULongSet set = new ULongSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable char set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable char set containing the specified elements
+	 */
+	public static @NonNull UCharacterSet makeChar(int size, @NonNull char[] elements) {
+		UAssert.paramNotNull(elements, "char[] elements");
+		UCharacterSet set = new UCharacterSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable char set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable char set containing the specified elements
+	 */
+	public static @NonNull UCharacterSet makeChar(@NonNull char... elements) {
+		return makeChar(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable char set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable char set containing the elements of the array
+	 */
+	public static @NonNull UCharacterSet makeChar(@NonNull UCharacterArray elements) {
+		UAssert.paramNotNull(elements, "UCharacterArray elements");
+		UCharacterSet set = new UCharacterSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
 	/* -----------------------------------------------------
 	 * Set transform methods
 	 * ----------------------------------------------------- */
@@ -0,0 +1,131 @@
+package uoxx3.collection.internal.array;
+
+import androidx.annotation.NonNull;
+import uoxx3.collection.array.UGrowthPolicy;
+
+/**
+ * Common operations shared by all the array implementations.
+ */
+final class UArrayCommon {
+	
+	/* -----------------------------------------------------
+	 * Constants
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Size in bytes used for the elements of the reference arrays. This is the size
+	 * of a compressed object pointer, the most common layout of the virtual machine.
+	 */
+	static final int REFERENCE_BYTES = Integer.BYTES;
+	
+	/**
+	 * The maximum length of an array. Some virtual machines reserve header words
+	 * in the array, so larger arrays may fail even if there is enough memory.
+	 */
+	static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArrayCommon() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Capacity actions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks if the given value is a valid array capacity.
+	 *
+	 * @param capacity the capacity to check
+	 * @return the same capacity
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	static int checkCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + capacity);
+		}
+		
+		return capacity;
+	}
+	
+	/**
+	 * Checks if the given index is part of the array limits.
+	 *
+	 * @param index the index to check
+	 * @param size  the size of the array
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+	}
+	
+	/**
+	 * Checks if the given index is a valid insertion position of the array. The position
+	 * after the last element is valid.
+	 *
+	 * @param index the index to check
+	 * @param size  the size of the array
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	static void checkPositionIndex(int index, int size) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+	}
+	
+	/**
+	 * Checks if the given range is part of the array limits.
+	 *
+	 * @param fromIndex the start index of the range, inclusive
+	 * @param toIndex   the end index of the range, exclusive
+	 * @param size      the size of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	static void checkRange(int fromIndex, int toIndex, int size) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("Range out of bounds: [" + fromIndex + ", " + toIndex + ")");
+		}
+	}
+	
+	/**
+	 * Calculates the capacity required to append the given number of elements to an array.
+	 *
+	 * @param size   the current size of the array
+	 * @param length the number of elements to append
+	 * @return the capacity required by the array
+	 * @throws OutOfMemoryError if the required capacity is greater than the maximum length of an array
+	 */
+	static int requiredCapacity(int size, long length) {
+		long required = size + length;
+		if (required > Integer.MAX_VALUE) throw new OutOfMemoryError("Required array length is too large");
+		
+		return (int) required;
+	}
+	
+	/**
+	 * Calculates the new capacity of an array storage using the given growth policy.
+	 *
+	 * @param policy       the growth policy of the array
+	 * @param capacity     the current capacity of the array
+	 * @param minCapacity  the minimum capacity the array requires
+	 * @param elementBytes the size in bytes of a single element of the array
+	 * @return the new capacity of the array, always greater or equal than the minimum capacity
+	 * @throws OutOfMemoryError if the minimum capacity is greater than the maximum length of an array
+	 */
+	static int newCapacity(@NonNull UGrowthPolicy policy, int capacity, int minCapacity, int elementBytes) {
+		// A negative capacity is the result of an arithmetic overflow
+		if (minCapacity < 0) throw new OutOfMemoryError("Required array length is too large");
+		
+		// The policy result is only a suggestion, the array always needs
+		// at least the minimum capacity to store all its elements.
+		long suggested = policy.grow(capacity, minCapacity, elementBytes);
+		if (suggested < minCapacity) return minCapacity;
+		
+		return (int) Math.min(suggested, Math.max(minCapacity, MAX_ARRAY_LENGTH));
+	}
+	
+}
@@ -6,6 +6,8 @@ import uoxx3.UAssert;
 import uoxx3.UClass;
 import uoxx3.collection.UCollectionConstants;
 import uoxx3.collection.array.UArray;
+import uoxx3.collection.array.UGrowthPolicy;
+import uoxx3.collection.array.UIndexedConsumer;
 import uoxx3.collection.collection.UList;
 import uoxx3.collection.collection.USet;
 import uoxx3.collection.collection.UStack;
@@ -13,6 +15,7 @@ import uoxx3.collection.collection.UVector;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -23,6 +26,10 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 * ----------------------------------------------------- */
 	
 	private T[] array;
+	private int size;
+	private int offset;
+	private boolean view;
+	private final UGrowthPolicy policy;
 	private final Class<T> componentType;
 	
 	/* -----------------------------------------------------
@@ -33,16 +40,37 @@ public final class UArrayImpl<T> implements UArray<T> {
 	public UArrayImpl(T... elements) {
 		UAssert.paramNotNull(elements, "T[] elements");
 		array = elements;
+		size = elements.length;
+		policy = UGrowthPolicy.defaultPolicy();
 		componentType = UClass.arrayComponentType(elements);
 	}
 	
-	@SuppressWarnings("unchecked")
 	public UArrayImpl(@NonNull Class<T> cls) {
+		this(cls, UCollectionConstants.EMPTY_SIZE, UGrowthPolicy.defaultPolicy());
+	}
+	
+	@SuppressWarnings("unchecked")
+	public UArrayImpl(@NonNull Class<T> cls, int capacity, @NonNull UGrowthPolicy policy) {
 		UAssert.paramNotNull(cls, "Class<T> cls");
-		array = (T[]) Array.newInstance(cls, UCollectionConstants.EMPTY_SIZE);
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		array = (T[]) Array.newInstance(cls, UArrayCommon.checkCapacity(capacity));
+		this.policy = policy;
 		componentType = cls;
 	}
 	
+	private UArrayImpl(T[] array, int size, @NonNull UGrowthPolicy policy) {
+		this.array = array;
+		this.size = size;
+		this.policy = policy;
+		componentType = UClass.arrayComponentType(array);
+	}
+	
+	private UArrayImpl(T[] array, int offset, int size, @NonNull UGrowthPolicy policy) {
+		this(array, size, policy);
+		this.offset = offset;
+		this.view = true;
+	}
+	
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -52,18 +80,13 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 *
 	 * @param element The element to add
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public void add(@Nullable T element) {
-		// Generate new array
-		T[] targetArray = (T[]) Array.newInstance(componentType(), size() + 1);
-		
-		// Copy the old information to the target array
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		targetArray[size()] = element;
-		
-		// Replace the instance array
-		array = targetArray;
+		if (view) compact();
+		// The storage only grows when it is full, so most of the calls
+		// are a single store into the backing array.
+		if (size == array.length) grow(size + 1);
+		array[size++] = element;
 	}
 	
 	/**
@@ -74,17 +97,109 @@ public final class UArrayImpl<T> implements UArray<T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	public void addAll(T... elements) {
+		if (view) compact();
 		UAssert.paramNotNull(elements, "T[] elements");
-		// Generate new array
-		final int newSize = size() + elements.length;
-		T[] targetArray = (T[]) Array.newInstance(componentType(), newSize);
+		// Reserve the space for all the elements at once
+		ensureCapacity(size + elements.length);
+		
+		// Copy the new elements after the last element
+		System.arraycopy(elements, 0, array, size, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Add all the elements of the given iterable. If the iterable is a collection,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The iterable with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull Iterable<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Iterable<? extends T> elements");
+		if (elements instanceof Collection) {
+			ensureCapacity(UArrayCommon.requiredCapacity(size, ((Collection<? extends T>) elements).size()));
+		}
+		
+		for (T element : elements) {
+			add(element);
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UArray<? extends T> elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UArray<? extends T> elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		if (elements instanceof UArrayImpl) {
+			UArrayImpl<? extends T> other = (UArrayImpl<? extends T>) elements;
+			System.arraycopy(other.array, other.offset, array, size, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array[size + i] = elements.get(i);
+			}
+		}
+		size += length;
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull Spliterator<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Spliterator<? extends T> elements");
+		long length = elements.getExactSizeIfKnown();
+		if (length > 0) ensureCapacity(UArrayCommon.requiredCapacity(size, length));
 		
-		// Copy the old array information
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		System.arraycopy(elements, 0, targetArray, size(), elements.length);
+		elements.forEachRemaining(this::add);
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull Stream<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Stream<? extends T> elements");
+		addAll(elements.spliterator());
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return view ? size : array.length;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
 		
-		// Replace the instance array
-		array = targetArray;
+		array = Arrays.copyOfRange(array, offset, offset + size);
+		offset = 0;
+		view = false;
 	}
 	
 	/**
@@ -108,6 +223,18 @@ public final class UArrayImpl<T> implements UArray<T> {
 		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		if (minCapacity > array.length) grow(minCapacity);
+	}
+	
 	/**
 	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
 	 *
@@ -119,13 +246,49 @@ public final class UArrayImpl<T> implements UArray<T> {
 		return Optional.ofNullable(get(0));
 	}
 	
+	/**
+	 * Performs the given action on each item in the array, passing the index of the item
+	 * as a parameter. The index is never boxed.
+	 *
+	 * @param consumer The action to perform on each item in the array.
+	 */
+	@Override
+	public void forEachIndexedObj(@NonNull UIndexedConsumer<? super T> consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer<? super T> consumer");
+		T[] elements = array;
+		for (int i = 0; i < size; i++) {
+			consumer.accept(i, elements[offset + i]);
+		}
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		
+		return array[offset + index];
+	}
+	
 	/**
 	 * Gets the native wrapped array.
+	 * <p>
+	 * The unused capacity is released before returning the array, so its length is always
+	 * equal to the size of the array.
 	 *
 	 * @return a native array
 	 */
 	@Override
 	public T[] getArray() {
+		if (view) compact();
+		if (array.length != size) trimToSize();
 		return array;
 	}
 	
@@ -144,8 +307,8 @@ public final class UArrayImpl<T> implements UArray<T> {
 			if (isEmpty()) break checkArray;
 			// Check if the element is a <null> case
 			if (value == null) {
-				for (int i = 0; i < size(); i++) {
-					T element = get(i);
+				for (int i = 0; i < size; i++) {
+					T element = array[offset + i];
 					
 					// In this specific case, it is not necessary to
 					// determine if the value is equal to the one in the array
@@ -154,8 +317,8 @@ public final class UArrayImpl<T> implements UArray<T> {
 					if (element == null) return i;
 				}
 			} else {
-				for (int i = 0; i < size(); i++) {
-					T element = get(i);
+				for (int i = 0; i < size; i++) {
+					T element = array[offset + i];
 					
 					// In this case we verify that the object is equal to any of
 					// the elements of the array.
@@ -167,6 +330,47 @@ public final class UArrayImpl<T> implements UArray<T> {
 		return UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, @Nullable T element) {
+		if (view) compact();
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == array.length) grow(size + 1);
+		
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = element;
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void insertAll(int index, T... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "T[] elements");
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		// Open a gap for the new elements with a single move of the tail
+		System.arraycopy(array, index, array, index + elements.length, size - index);
+		System.arraycopy(elements, 0, array, index, elements.length);
+		size += elements.length;
+	}
+	
 	/**
 	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
 	 *
@@ -193,8 +397,8 @@ public final class UArrayImpl<T> implements UArray<T> {
 			if (isEmpty()) break checkArray;
 			// Check if the element is a <null> case
 			if (value == null) {
-				for (int i = size() - 1; i >= 0; i--) {
-					T element = get(i);
+				for (int i = size - 1; i >= 0; i--) {
+					T element = array[offset + i];
 					
 					// In this specific case, it is not necessary to
 					// determine if the value is equal to the one in the array
@@ -203,8 +407,8 @@ public final class UArrayImpl<T> implements UArray<T> {
 					if (element == null) return i;
 				}
 			} else {
-				for (int i = size() - 1; i >= 0; i--) {
-					T element = get(i);
+				for (int i = size - 1; i >= 0; i--) {
+					T element = array[offset + i];
 					
 					// In this case we verify that the object is equal to any of
 					// the elements of the array.
@@ -216,6 +420,89 @@ public final class UArrayImpl<T> implements UArray<T> {
 		return UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public T removeAt(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		T element = array[index];
+		
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		// Clear the unused slot to let the garbage collector do its work
+		array[--size] = null;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull Predicate<? super T> filter) {
+		if (view) compact();
+		UAssert.paramNotNull(filter, "Predicate<? super T> filter");
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				T element = array[read];
+				if (!filter.test(element)) array[write++] = element;
+			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			System.arraycopy(array, read, array, write, oldSize - read);
+			size = write + oldSize - read;
+			Arrays.fill(array, size, oldSize, null);
+		}
+		
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		int newSize = size - (toIndex - fromIndex);
+		
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+		Arrays.fill(array, newSize, size, null);
+		size = newSize;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given collection.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The collection with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull Collection<?> elements) {
+		UAssert.paramNotNull(elements, "Collection<?> elements");
+		return removeIf(element -> !elements.contains(element));
+	}
+	
 	/**
 	 * Returns the size of the array.
 	 *
@@ -223,7 +510,26 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public int size() {
-		return array.length;
+		return size;
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UArray<T> slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		return new UArrayImpl<>(array, offset + fromIndex, toIndex - fromIndex, policy);
 	}
 	
 	/**
@@ -236,11 +542,21 @@ public final class UArrayImpl<T> implements UArray<T> {
 		if (isEmpty()) return Stream.empty();
 		// Generate new array stream
 		return StreamSupport.stream(
-			Arrays.spliterator(getArray(), 0, size()),
+			Arrays.spliterator(array, offset, offset + size),
 			false
 		);
 	}
 	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		if (array.length != size) array = Arrays.copyOf(array, size);
+	}
+	
 	/**
 	 * Returns an iterator over elements of type {@code T}.
 	 *
@@ -261,7 +577,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull UArray<T> copy() {
-		return new UArrayImpl<>(getArray().clone());
+		return new UArrayImpl<>(Arrays.copyOfRange(array, offset, offset + size), size, policy);
 	}
 	
 	/**
@@ -272,7 +588,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	@NonNull
 	@Override
 	public String toString() {
-		return Arrays.toString(getArray());
+		return elements().toString();
 	}
 	
 	/* -----------------------------------------------------
@@ -286,7 +602,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull List<T> toList() {
-		return UList.make(getArray());
+		return UList.make(elements());
 	}
 	
 	/**
@@ -296,7 +612,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull List<T> toMutableList() {
-		return UList.makeMutable(getArray());
+		return UList.makeMutable(elements());
 	}
 	
 	/**
@@ -306,7 +622,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull Set<T> toSet() {
-		return USet.make(getArray());
+		return USet.make(elements());
 	}
 	
 	/**
@@ -316,7 +632,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull Set<T> toMutableSet() {
-		return USet.makeMutable(getArray());
+		return USet.makeMutable(elements());
 	}
 	
 	/**
@@ -326,7 +642,7 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull Vector<T> toVector() {
-		return UVector.make(getArray());
+		return UVector.make(elements());
 	}
 	
 	/**
@@ -336,7 +652,31 @@ public final class UArrayImpl<T> implements UArray<T> {
 	 */
 	@Override
 	public @NonNull Stack<T> toStack() {
-		return UStack.make(getArray());
+		return UStack.make(elements());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 * The new capacity is calculated by the growth policy of the array.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		int newCapacity = UArrayCommon.newCapacity(policy, array.length, minCapacity, UArrayCommon.REFERENCE_BYTES);
+		array = Arrays.copyOf(array, newCapacity);
+	}
+	
+	/**
+	 * Gets a list view of the elements of the array, ignoring the unused capacity.
+	 *
+	 * @return a fixed-size list backed by the array storage
+	 */
+	private @NonNull List<T> elements() {
+		return Arrays.asList(array).subList(offset, offset + size);
 	}
 	
 }
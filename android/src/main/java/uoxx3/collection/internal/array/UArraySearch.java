@@ -0,0 +1,570 @@
+package uoxx3.collection.internal.array;
+
+import uoxx3.collection.UCollectionConstants;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Linear searches shared by the heap arrays of primitive elements.
+ * <p>
+ * The numeric and character searches compare the elements in blocks of {@link #BLOCK} elements,
+ * joining the comparisons of a block without short-circuit, so the loop takes a single branch per
+ * block instead of one per element and the compiler can keep the comparisons of the block in parallel.
+ * The element of the block that matched is found by a scalar scan, which also handles the remaining
+ * elements.
+ * <p>
+ * The elements are compared with {@code ==}, like the scalar searches of the arrays, so
+ * {@code NaN} is never found and both zeros are equal.
+ * <p>
+ * The byte searches read the array as {@code long} words and test the 8 bytes of a word
+ * at once with bitwise operations (SIMD within a register), so a scan over a buffer of
+ * bytes takes one step every 8 bytes. The words are read through a little endian buffer view
+ * of the array, since the variable handles of the arrays need a newer API level.
+ */
+final class UArraySearch {
+	
+	/* -----------------------------------------------------
+	 * Constants
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Number of elements compared by every step of the searches.
+	 */
+	static final int BLOCK = 4;
+	
+	/**
+	 * Maximum number of values searched at once by the word searches of any of the bytes.
+	 * Beyond it, the bytes are checked against a table of the values.
+	 */
+	static final int ANY_WORD_LIMIT = 4;
+	
+	/**
+	 * Word with every byte equal to one.
+	 */
+	private static final long BYTE_ONES = 0x0101010101010101L;
+	
+	/**
+	 * Word with the seven low bits of every byte set.
+	 */
+	private static final long BYTE_LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArraySearch() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Integer searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(int[] array, int from, int to, int value) {
+		int i = from;
+		for (int end = to - BLOCK; i <= end; i += BLOCK) {
+			if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(int[] array, int from, int to, int value) {
+		int i = to - 1;
+		for (int end = from + BLOCK - 1; i >= end; i -= BLOCK) {
+			if (array[i] == value | array[i - 1] == value | array[i - 2] == value | array[i - 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Counts the occurrences of the value between the given storage positions.
+	 * The loop has no branches, so the compiler can vectorize it.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to count, inclusive
+	 * @param to    the last position to count, exclusive
+	 * @param value the value to count
+	 * @return the number of elements equal to the value
+	 */
+	static int count(int[] array, int from, int to, int value) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			count += array[i] == value ? 1 : 0;
+		}
+		
+		return count;
+	}
+	
+	/* -----------------------------------------------------
+	 * Long searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(long[] array, int from, int to, long value) {
+		int i = from;
+		for (int end = to - BLOCK; i <= end; i += BLOCK) {
+			if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(long[] array, int from, int to, long value) {
+		int i = to - 1;
+		for (int end = from + BLOCK - 1; i >= end; i -= BLOCK) {
+			if (array[i] == value | array[i - 1] == value | array[i - 2] == value | array[i - 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Counts the occurrences of the value between the given storage positions.
+	 * The loop has no branches, so the compiler can vectorize it.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to count, inclusive
+	 * @param to    the last position to count, exclusive
+	 * @param value the value to count
+	 * @return the number of elements equal to the value
+	 */
+	static int count(long[] array, int from, int to, long value) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			count += array[i] == value ? 1 : 0;
+		}
+		
+		return count;
+	}
+	
+	/* -----------------------------------------------------
+	 * Float searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(float[] array, int from, int to, float value) {
+		int i = from;
+		for (int end = to - BLOCK; i <= end; i += BLOCK) {
+			if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(float[] array, int from, int to, float value) {
+		int i = to - 1;
+		for (int end = from + BLOCK - 1; i >= end; i -= BLOCK) {
+			if (array[i] == value | array[i - 1] == value | array[i - 2] == value | array[i - 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Counts the occurrences of the value between the given storage positions.
+	 * The loop has no branches, so the compiler can vectorize it.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to count, inclusive
+	 * @param to    the last position to count, exclusive
+	 * @param value the value to count
+	 * @return the number of elements equal to the value
+	 */
+	static int count(float[] array, int from, int to, float value) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			count += array[i] == value ? 1 : 0;
+		}
+		
+		return count;
+	}
+	
+	/* -----------------------------------------------------
+	 * Double searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(double[] array, int from, int to, double value) {
+		int i = from;
+		for (int end = to - BLOCK; i <= end; i += BLOCK) {
+			if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(double[] array, int from, int to, double value) {
+		int i = to - 1;
+		for (int end = from + BLOCK - 1; i >= end; i -= BLOCK) {
+			if (array[i] == value | array[i - 1] == value | array[i - 2] == value | array[i - 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Counts the occurrences of the value between the given storage positions.
+	 * The loop has no branches, so the compiler can vectorize it.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to count, inclusive
+	 * @param to    the last position to count, exclusive
+	 * @param value the value to count
+	 * @return the number of elements equal to the value
+	 */
+	static int count(double[] array, int from, int to, double value) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			count += array[i] == value ? 1 : 0;
+		}
+		
+		return count;
+	}
+	
+	/* -----------------------------------------------------
+	 * Character searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(char[] array, int from, int to, char value) {
+		int i = from;
+		for (int end = to - BLOCK; i <= end; i += BLOCK) {
+			if (array[i] == value | array[i + 1] == value | array[i + 2] == value | array[i + 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(char[] array, int from, int to, char value) {
+		int i = to - 1;
+		for (int end = from + BLOCK - 1; i >= end; i -= BLOCK) {
+			if (array[i] == value | array[i - 1] == value | array[i - 2] == value | array[i - 3] == value) break;
+		}
+		// Locates the match inside the block, or checks the elements that do not fill a block
+		for (; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/* -----------------------------------------------------
+	 * Byte searches
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Finds the first position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int indexOf(byte[] array, int from, int to, byte value) {
+		ByteBuffer words = words(array);
+		long pattern = broadcast(value);
+		int i = from;
+		for (int end = to - Long.BYTES; i <= end; i += Long.BYTES) {
+			long found = zeroBytes(words.getLong(i) ^ pattern);
+			// The first element of the word is its lowest byte
+			if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+		}
+		// Checks the elements that do not fill a word
+		for (; i < to; i++) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the last position of the value between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position to search, inclusive
+	 * @param to    the last position to search, exclusive
+	 * @param value the value to search for
+	 * @return the storage position of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found
+	 */
+	static int lastIndexOf(byte[] array, int from, int to, byte value) {
+		ByteBuffer words = words(array);
+		long pattern = broadcast(value);
+		int i = to - Long.BYTES;
+		for (; i >= from; i -= Long.BYTES) {
+			long found = zeroBytes(words.getLong(i) ^ pattern);
+			// The last element of the word is its highest byte
+			if (found != 0) return i + Long.BYTES - 1 - (Long.numberOfLeadingZeros(found) >>> 3);
+		}
+		// Checks the elements that do not fill a word, before the last word read
+		for (i += Long.BYTES - 1; i >= from; i--) {
+			if (array[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the first position of any of the values between the given storage positions.
+	 * A few values are searched with words, more values are checked byte by byte
+	 * against a table with a bit for every byte value.
+	 *
+	 * @param array  the storage of the elements
+	 * @param from   the first position to search, inclusive
+	 * @param to     the last position to search, exclusive
+	 * @param values the values to search for
+	 * @return the storage position of the first of the values, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if none of the values is found
+	 */
+	static int indexOfAny(byte[] array, int from, int to, byte[] values) {
+		if (values.length == 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		if (values.length == 1) return indexOf(array, from, to, values[0]);
+		
+		long[] table = new long[4];
+		for (byte value : values) {
+			table[(value & 0xFF) >>> 6] |= 1L << value;
+		}
+		
+		int i = from;
+		if (values.length <= ANY_WORD_LIMIT) {
+			ByteBuffer words = words(array);
+			long[] patterns = new long[values.length];
+			for (int v = 0; v < values.length; v++) {
+				patterns[v] = broadcast(values[v]);
+			}
+			
+			for (int end = to - Long.BYTES; i <= end; i += Long.BYTES) {
+				long word = words.getLong(i);
+				long found = 0;
+				for (long pattern : patterns) {
+					found |= zeroBytes(word ^ pattern);
+				}
+				if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+			}
+		}
+		// Checks the elements that do not fill a word, or all the elements for many values
+		for (; i < to; i++) {
+			byte element = array[i];
+			if ((table[(element & 0xFF) >>> 6] & 1L << element) != 0) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Finds the first position where the given sequence of bytes starts, between the given
+	 * storage positions. The candidates are found by a word search of the first byte
+	 * of the sequence.
+	 *
+	 * @param array    the storage of the elements
+	 * @param from     the first position to search, inclusive
+	 * @param to       the last position to search, exclusive
+	 * @param sequence the bytes to search for
+	 * @return the storage position where the sequence starts, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the sequence is not found. An empty sequence is found at the first position.
+	 */
+	static int indexOf(byte[] array, int from, int to, byte[] sequence) {
+		if (sequence.length == 0) return from;
+		
+		int last = to - sequence.length;
+		for (int i = from; i <= last; i++) {
+			i = indexOf(array, i, last + 1, sequence[0]);
+			if (i == UCollectionConstants.INDEX_NOT_FOUND) break;
+			if (startsWith(array, i, sequence)) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a view of the array as little endian words, so the first byte of the array
+	 * is the lowest byte of the word.
+	 *
+	 * @param array the storage of the elements
+	 * @return the buffer that reads the words of the array
+	 */
+	private static ByteBuffer words(byte[] array) {
+		return ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	/**
+	 * Creates a word with every byte equal to the given value.
+	 *
+	 * @param value the value of the bytes
+	 * @return the word with the repeated value
+	 */
+	private static long broadcast(byte value) {
+		return (value & 0xFFL) * BYTE_ONES;
+	}
+	
+	/**
+	 * Marks the bytes of the word that are zero. The result has the high bit set in every
+	 * zero byte and no other bit set, without the false positives of the borrow of a subtraction,
+	 * so the marks can be counted and searched from both ends.
+	 *
+	 * @param word the word to check
+	 * @return the word with the marks of the zero bytes
+	 */
+	private static long zeroBytes(long word) {
+		long low = (word & BYTE_LOW_BITS) + BYTE_LOW_BITS;
+		return ~(low | word | BYTE_LOW_BITS);
+	}
+	
+	/**
+	 * Checks if the sequence of bytes is at the given position of the array.
+	 * The caller guarantees that the sequence fits in the array.
+	 *
+	 * @param array    the storage of the elements
+	 * @param index    the position to check
+	 * @param sequence the bytes to compare
+	 * @return {@code true} if the array contains the sequence at the position
+	 */
+	private static boolean startsWith(byte[] array, int index, byte[] sequence) {
+		for (int i = 1; i < sequence.length; i++) {
+			if (array[index + i] != sequence[i]) return false;
+		}
+		
+		return true;
+	}
+	
+}
@@ -1,18 +1,25 @@
 package uoxx3.collection.internal.array;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import uoxx3.UAssert;
 import uoxx3.collection.UCollectionConstants;
 import uoxx3.collection.array.UCharacterArray;
+import uoxx3.collection.array.UIndexedConsumer;
+import uoxx3.collection.array.UGrowthPolicy;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class UCharacterArrayImpl implements UCharacterArray {
 	
@@ -21,6 +28,11 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 * ----------------------------------------------------- */
 	
 	private char[] array;
+	private int size;
+	private int offset;
+	private boolean view;
+	private boolean sorted;
+	private final UGrowthPolicy policy;
 	private final Class<Character> componentType;
 	
 	/* -----------------------------------------------------
@@ -30,6 +42,15 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	public UCharacterArrayImpl(char... elements) {
 		UAssert.paramNotNull(elements, "char[] elements");
 		array = elements;
+		size = elements.length;
+		policy = UGrowthPolicy.defaultPolicy();
+		componentType = char.class;
+	}
+	
+	public UCharacterArrayImpl(int capacity, @NonNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		array = new char[UArrayCommon.checkCapacity(capacity)];
+		this.policy = policy;
 		componentType = char.class;
 	}
 	
@@ -37,6 +58,19 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 		this(new char[0]);
 	}
 	
+	private UCharacterArrayImpl(char[] array, int size, @NonNull UGrowthPolicy policy) {
+		this.array = array;
+		this.size = size;
+		this.policy = policy;
+		componentType = char.class;
+	}
+	
+	private UCharacterArrayImpl(char[] array, int offset, int size, @NonNull UGrowthPolicy policy) {
+		this(array, size, policy);
+		this.offset = offset;
+		this.view = true;
+	}
+	
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -58,16 +92,13 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public void add(char element) {
-		// Generate new array
-		final int newSize = size() + 1;
-		char[] targetArray = new char[newSize];
-		
-		// Copy the old information to the target array
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		targetArray[size()] = element;
-		
-		// Replace the instance array
-		array = targetArray;
+		if (view) compact();
+		// Appending a value not lower than the last one keeps the elements sorted
+		sorted = size == 0 || sorted && element >= array[size - 1];
+		// The storage only grows when it is full, so most of the calls
+		// are a single store into the backing array.
+		if (size == array.length) grow(size + 1);
+		array[size++] = element;
 	}
 	
 	/**
@@ -77,14 +108,16 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public void addAll(int... elements) {
+		if (view) compact();
+		sorted = false;
 		UAssert.paramNotNull(elements, "int[] elements");
-		// Convert the int array to byte array
-		char[] charElements = Arrays.stream(elements)
-			.mapToObj(v -> (char) v)
-			.collect(charArrayCollector());
+		// Reserve the space for all the elements at once
+		ensureCapacity(size + elements.length);
 		
-		// Add the elements to the array
-		addAll(charElements);
+		// Narrow every element directly into the backing array
+		for (int element : elements) {
+			array[size++] = (char) element;
+		}
 	}
 	
 	/**
@@ -94,17 +127,173 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public void addAll(char... elements) {
+		if (view) compact();
+		sorted = false;
 		UAssert.paramNotNull(elements, "char[] elements");
-		// Generate new array
-		final int newSize = size() + elements.length;
-		char[] targetArray = new char[newSize];
+		// Reserve the space for all the elements at once
+		ensureCapacity(size + elements.length);
 		
-		// Copy the old array information
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		System.arraycopy(elements, 0, targetArray, size(), elements.length);
+		// Copy the new elements after the last element
+		System.arraycopy(elements, 0, array, size, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UCharacterArray elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "UCharacterArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		if (elements instanceof UCharacterArrayImpl) {
+			UCharacterArrayImpl other = (UCharacterArrayImpl) elements;
+			System.arraycopy(other.array, other.offset, array, size, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array[size + i] = elements.get(i);
+			}
+		}
+		size += length;
+	}
+	
+	/**
+	 * Appends the given character to the end of the array.
+	 *
+	 * @param element The character to append
+	 * @return this array
+	 */
+	@Override
+	public @NonNull UCharacterArray append(char element) {
+		add(element);
+		return this;
+	}
+	
+	/**
+	 * Appends all the characters of the given sequence to the end of the array. The characters
+	 * of strings, string builders and char arrays are copied in bulk. If the sequence is {@code null},
+	 * the four characters {@code "null"} are appended.
+	 *
+	 * @param sequence The sequence to append
+	 * @return this array
+	 */
+	@Override
+	public @NonNull UCharacterArray append(@Nullable CharSequence sequence) {
+		if (sequence == null) sequence = "null";
+		return append(sequence, 0, sequence.length());
+	}
+	
+	/**
+	 * Appends the characters of the given sequence between the start index, inclusive, and
+	 * the end index, exclusive, to the end of the array. If the sequence is {@code null},
+	 * the characters are taken from the four characters {@code "null"}.
+	 *
+	 * @param sequence The sequence to append
+	 * @param start    The index of the first character to append
+	 * @param end      The index after the last character to append
+	 * @return this array
+	 * @throws IndexOutOfBoundsException if the range is not part of the sequence limits
+	 */
+	@Override
+	public @NonNull UCharacterArray append(@Nullable CharSequence sequence, int start, int end) {
+		if (sequence == null) sequence = "null";
+		UArrayCommon.checkRange(start, end, sequence.length());
+		if (view) compact();
+		sorted = false;
+		// The length is read before the storage grows, so the array
+		// can be safely appended to itself.
+		int length = end - start;
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
 		
-		// Replace the instance array
-		array = targetArray;
+		// The known sequences copy their characters straight into the storage
+		if (sequence instanceof String) {
+			((String) sequence).getChars(start, end, array, size);
+		} else if (sequence instanceof StringBuilder) {
+			((StringBuilder) sequence).getChars(start, end, array, size);
+		} else if (sequence instanceof StringBuffer) {
+			((StringBuffer) sequence).getChars(start, end, array, size);
+		} else if (sequence instanceof UCharacterArrayImpl) {
+			UCharacterArrayImpl other = (UCharacterArrayImpl) sequence;
+			System.arraycopy(other.array, other.offset + start, array, size, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array[size + i] = sequence.charAt(start + i);
+			}
+		}
+		size += length;
+		return this;
+	}
+	
+	/**
+	 * Creates a string with the characters of the array. The characters are copied once,
+	 * straight from the storage into the string.
+	 *
+	 * @return a string with the characters of the array
+	 */
+	@Override
+	public @NonNull String asString() {
+		return new String(array, offset, size);
+	}
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	@Override
+	public int binarySearch(char value) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		// Translate the result from the storage positions to the array indexes
+		return found >= 0 ? found - offset : found + offset;
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return view ? size : array.length;
+	}
+	
+	/**
+	 * Gets a sequential stream with the characters of the array as int values,
+	 * without boxing them.
+	 *
+	 * @return An IntStream of the characters in the array.
+	 */
+	@Override
+	public @NonNull IntStream chars() {
+		// The stream keeps the current storage, even if the array grows later
+		return StreamSupport.intStream(UArraySpliterators.spliterator(array, offset, offset + size), false);
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
+		
+		array = Arrays.copyOfRange(array, offset, offset + size);
+		offset = 0;
+		view = false;
 	}
 	
 	/**
@@ -129,16 +318,63 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		if (minCapacity > array.length) grow(minCapacity);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public char get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		
+		return array[offset + index];
+	}
+	
 	/**
 	 * Gets the native wrapped array.
+	 * <p>
+	 * The unused capacity is released before returning the array, so its length is always
+	 * equal to the size of the array.
 	 *
 	 * @return a native array
 	 */
 	@Override
 	public char[] getArray() {
+		if (view) compact();
+		// The returned storage can be modified, so the order is no longer known
+		sorted = false;
+		if (array.length != size) trimToSize();
 		return array;
 	}
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	@Override
+	public char[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -149,20 +385,10 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public int indexOf(char value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = 0; i < size(); i++) {
-				char element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
-			}
-		}
-		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		// While the elements are sorted, a binary search finds the value in logarithmic time
+		if (sorted) return sortedIndexOf(value, false);
+		int found = UArraySearch.indexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
 	}
 	
 	/**
@@ -178,6 +404,63 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 		return indexOf((char) value);
 	}
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, char element) {
+		if (view) compact();
+		sorted = false;
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == array.length) grow(size + 1);
+		
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = element;
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, char... elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "char[] elements");
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		// Open a gap for the new elements with a single move of the tail
+		System.arraycopy(array, index, array, index + elements.length, size - index);
+		System.arraycopy(elements, 0, array, index, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	@Override
+	public boolean isSorted() {
+		return sorted;
+	}
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -188,20 +471,10 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public int lastIndexOf(char value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = size() - 1; i >= 0; i--) {
-				char element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
-			}
-		}
-		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		// While the elements are sorted, a binary search finds the value in logarithmic time
+		if (sorted) return sortedIndexOf(value, true);
+		int found = UArraySearch.lastIndexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
 	}
 	
 	/**
@@ -217,6 +490,168 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 		return lastIndexOf((char) value);
 	}
 	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 */
+	@Override
+	public void parallelSort() {
+		if (view) compact();
+		Arrays.parallelSort(array, 0, size);
+		sorted = true;
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo} from the given channel
+	 * and adds all its elements to the end of this array. The storage is reserved as the elements
+	 * arrive, and every chunk is decoded straight into it. The elements are only added when the
+	 * whole array is read.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a char array
+	 */
+	@Override
+	public void readFrom(@NonNull ReadableByteChannel channel) throws IOException {
+		if (view) compact();
+		sorted = false;
+		int start = size;
+		
+		// Every reservation can replace the storage, so each chunk is copied into the current one
+		int length = UArrayCodec.readChars(channel, reserved -> ensureCapacity(UArrayCommon.requiredCapacity(start, reserved)),
+										   (buffer, from, count) -> buffer.asCharBuffer().get(array, start + from, count));
+		size = start + length;
+	}
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are encoded straight from the storage, so the array is only read.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeTo(@NonNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, array, offset, size);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public char removeAt(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		char element = array[index];
+		
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size--;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull IntPredicate filter) {
+		if (view) compact();
+		UAssert.paramNotNull(filter, "IntPredicate filter");
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				char element = array[read];
+				if (!filter.test(element)) array[write++] = element;
+			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			System.arraycopy(array, read, array, write, oldSize - read);
+			size = write + oldSize - read;
+		}
+		
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull UCharacterArray elements) {
+		UAssert.paramNotNull(elements, "UCharacterArray elements");
+		// A sorted copy of the elements turns every lookup into a binary search
+		char[] values = new char[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = elements.get(i);
+		}
+		Arrays.sort(values);
+		
+		return removeIf(element -> Arrays.binarySearch(values, (char) element) < 0);
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UCharacterArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		UCharacterArrayImpl slice = new UCharacterArrayImpl(array, offset + fromIndex, toIndex - fromIndex, policy);
+		slice.sorted = sorted;
+		return slice;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 */
+	@Override
+	public void sort() {
+		if (view) compact();
+		Arrays.sort(array, 0, size);
+		sorted = true;
+	}
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
 	 *
@@ -226,9 +661,17 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	public @NonNull Stream<Character> stream() {
 		if (isEmpty()) return Stream.empty();
 		// Generate new array stream
-		return IntStream.range(UCollectionConstants.EMPTY_SIZE, size())
-			.map(this::get)
-			.mapToObj(v -> (char) v);
+		return chars().mapToObj(v -> (char) v);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		if (array.length != size) array = Arrays.copyOf(array, size);
 	}
 	
 	/**
@@ -238,7 +681,9 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public @NonNull UCharacterArray copy() {
-		return new UCharacterArrayImpl(getArray().clone());
+		UCharacterArrayImpl copy = new UCharacterArrayImpl(Arrays.copyOfRange(array, offset, offset + size), size, policy);
+		copy.sorted = sorted;
+		return copy;
 	}
 	
 	/**
@@ -280,7 +725,7 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	 */
 	@Override
 	public int size() {
-		return array.length;
+		return size;
 	}
 	
 	/**
@@ -291,38 +736,97 @@ public final class UCharacterArrayImpl implements UCharacterArray {
 	@NonNull
 	@Override
 	public Iterator<Character> iterator() {
-		if (isEmpty()) return Collections.emptyIterator();
-		// Generate new array iterator
-		return stream().iterator();
+		// The boxed elements are adapted from the primitive iterator, without a stream pipeline
+		return UArrayIterators.boxed(charIterator(), value -> (char) value);
 	}
 	
 	/**
-	 * Object string representation
+	 * Gets an iterator over the elements of the array that returns them without boxing,
+	 * as int values.
 	 *
-	 * @return object string representation
+	 * @return an iterator over the elements of the array
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfInt charIterator() {
+		return UArrayIterators.iterator(array, offset, offset + size);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements, as int values.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	@Override
+	public void forEachChar(@NonNull IntConsumer action) {
+		UAssert.paramNotNull(action, "IntConsumer action");
+		char[] elements = array;
+		int end = offset + size;
+		for (int i = offset; i < end; i++) {
+			action.accept(elements[i]);
+		}
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed, widened to {@code int}.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	@Override
+	public void forEachIndexedChar(@NonNull UIndexedConsumer.OfInt consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfInt consumer");
+		char[] elements = array;
+		for (int i = 0; i < size; i++) {
+			consumer.accept(i, elements[offset + i]);
+		}
+	}
+	
+	/**
+	 * Gets the characters of the array as a string, as required by {@link CharSequence}.
+	 * This is the same string returned by {@link #asString()}.
+	 *
+	 * @return a string with the characters of the array
 	 */
 	@NonNull
 	@Override
 	public String toString() {
-		return Arrays.toString(getArray());
+		return asString();
 	}
 	
 	/* -----------------------------------------------------
 	 * Internal methods
 	 * ----------------------------------------------------- */
 	
-	private static @NonNull Collector<Character, ?, char[]> charArrayCollector() {
-		return Collectors.collectingAndThen(
-			Collectors.toList(),
-			list -> {
-				char[] result = new char[list.size()];
-				for (int i = 0; i < result.length; i++) {
-					result[i] = list.get(i);
-				}
-				
-				return result;
-			}
-		);
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		int newCapacity = UArrayCommon.newCapacity(policy, array.length, minCapacity, Character.BYTES);
+		array = Arrays.copyOf(array, newCapacity);
+	}
+	
+	/**
+	 * Searches the value in the sorted elements with a binary search, then moves to the first
+	 * or the last of its occurrences.
+	 *
+	 * @param value the value to search
+	 * @param last  {@code true} to find the last occurrence, {@code false} to find the first one
+	 * @return the index of the occurrence, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found
+	 */
+	private int sortedIndexOf(char value, boolean last) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		if (found < 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		if (last) {
+			int end = offset + size - 1;
+			while (found < end && array[found + 1] == value) found++;
+		} else {
+			while (found > offset && array[found - 1] == value) found--;
+		}
+		return found - offset;
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,700 @@
+package uoxx3.collection.internal.array;
+
+import androidx.annotation.NonNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UByteArray;
+import uoxx3.collection.array.UDirectByteArray;
+import uoxx3.collection.array.UGrowthPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public final class UDirectByteArrayImpl implements UDirectByteArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int MOVE_CHUNK = 8192;
+	
+	private ByteBuffer buffer;
+	private int size;
+	private int offset;
+	private boolean view;
+	private boolean closed;
+	private boolean shared;
+	private UDirectByteArrayImpl owner;
+	private final UGrowthPolicy policy;
+	private final Class<Byte> componentType;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UDirectByteArrayImpl(byte... elements) {
+		UAssert.paramNotNull(elements, "byte[] elements");
+		buffer = ByteBuffer.allocateDirect(elements.length);
+		buffer.put(elements);
+		size = elements.length;
+		owner = this;
+		policy = UGrowthPolicy.defaultPolicy();
+		componentType = byte.class;
+	}
+	
+	public UDirectByteArrayImpl(int capacity, @NonNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		buffer = ByteBuffer.allocateDirect(UArrayCommon.checkCapacity(capacity));
+		owner = this;
+		this.policy = policy;
+		componentType = byte.class;
+	}
+	
+	private UDirectByteArrayImpl(@NonNull UDirectByteArrayImpl source, int offset, int size) {
+		buffer = source.buffer;
+		owner = source.owner;
+		policy = source.policy;
+		componentType = byte.class;
+		this.offset = offset;
+		this.size = size;
+		this.view = true;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(int element) {
+		if (view) compact();
+		checkOpen();
+		if (size == buffer.capacity()) grow(size + 1);
+		buffer.put(size++, (byte) element);
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(int... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "int[] elements");
+		// Reserve the space for all the elements at once
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		for (int element : elements) {
+			buffer.put(size++, (byte) element);
+		}
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(byte... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "byte[] elements");
+		// Reserve the space for all the elements at once
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		region(size, elements.length).put(elements);
+		size += elements.length;
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UByteArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UByteArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		if (elements instanceof UDirectByteArrayImpl) {
+			UDirectByteArrayImpl other = (UDirectByteArrayImpl) elements;
+			other.checkOpen();
+			region(size, length).put(other.region(other.offset, length));
+		} else {
+			region(size, length).put(elements.toArray(), 0, length);
+		}
+		size += length;
+	}
+	
+	/**
+	 * Gets a read-only buffer with the elements of the array. The buffer shares
+	 * the memory of the array, so no element is copied.
+	 * <p>
+	 * The buffer must not be used after the array is closed or modified.
+	 *
+	 * @return a read-only direct buffer with the elements of the array
+	 * @throws IllegalStateException if the array is closed
+	 */
+	@Override
+	public @NonNull ByteBuffer asByteBuffer() {
+		checkOpen();
+		owner.shared = true;
+		return region(offset, size).slice().asReadOnlyBuffer();
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		checkOpen();
+		return view ? size : buffer.capacity();
+	}
+	
+	/**
+	 * Releases the memory of the array. Closing a view only detaches it from the array,
+	 * the memory is released when the array that owns it is closed.
+	 * <p>
+	 * Closing an array that is already closed has no effect.
+	 */
+	@Override
+	public void close() {
+		if (closed) return;
+		closed = true;
+		
+		// The views never own the memory they access
+		if (owner == this) UDirectMemory.release(buffer);
+		buffer = null;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
+		checkOpen();
+		
+		ByteBuffer detached = ByteBuffer.allocateDirect(size);
+		detached.put(region(offset, size));
+		
+		buffer = detached;
+		offset = 0;
+		view = false;
+		owner = this;
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		checkOpen();
+		if (minCapacity > buffer.capacity()) grow(minCapacity);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 * @throws IllegalStateException     if the array is closed
+	 */
+	@Override
+	public byte get(int index) {
+		checkOpen();
+		UArrayCommon.checkIndex(index, size);
+		return buffer.get(offset + index);
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The elements are stored off-heap, so this method returns a copy of them.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public byte[] getArray() {
+		checkOpen();
+		byte[] result = new byte[size];
+		
+		region(offset, size).get(result);
+		return result;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(int value) {
+		checkOpen();
+		for (int i = 0; i < size; i++) {
+			if (buffer.get(offset + i) == (byte) value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, int element) {
+		if (view) compact();
+		checkOpen();
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == buffer.capacity()) grow(size + 1);
+		
+		move(index, index + 1, size - index);
+		buffer.put(index, (byte) element);
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, byte... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "byte[] elements");
+		checkOpen();
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		move(index, index + elements.length, size - index);
+		region(index, elements.length).put(elements);
+		size += elements.length;
+	}
+	
+	/**
+	 * Checks if the array is closed.
+	 *
+	 * @return {@code true} if the array or the array that owns its memory is closed
+	 */
+	@Override
+	public boolean isClosed() {
+		return closed || owner.closed;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(int value) {
+		checkOpen();
+		for (int i = size - 1; i >= 0; i--) {
+			if (buffer.get(offset + i) == (byte) value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. The elements are copied to the heap, sorted
+	 * and written back to the off-heap memory.
+	 */
+	@Override
+	public void parallelSort() {
+		if (view) compact();
+		byte[] elements = getArray();
+		Arrays.parallelSort(elements);
+		region(offset, size).put(elements);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public byte removeAt(int index) {
+		if (view) compact();
+		checkOpen();
+		UArrayCommon.checkIndex(index, size);
+		byte element = buffer.get(index);
+		
+		move(index + 1, index, size - index - 1);
+		size--;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull IntPredicate filter) {
+		if (view) compact();
+		UAssert.paramNotNull(filter, "IntPredicate filter");
+		checkOpen();
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				byte element = buffer.get(read);
+				if (!filter.test(element)) buffer.put(write++, element);
+			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			move(read, write, oldSize - read);
+			size = write + oldSize - read;
+		}
+		
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		checkOpen();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		move(toIndex, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull UByteArray elements) {
+		UAssert.paramNotNull(elements, "UByteArray elements");
+		// A sorted copy of the elements turns every lookup into a binary search
+		byte[] values = new byte[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = elements.get(i);
+		}
+		Arrays.sort(values);
+		
+		return removeIf(element -> Arrays.binarySearch(values, (byte) element) < 0);
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the memory of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The view cannot be used after the array is closed. The content of the view is
+	 * unspecified if the array is structurally modified after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UDirectByteArray slice(int fromIndex, int toIndex) {
+		checkOpen();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		owner.shared = true;
+		return new UDirectByteArrayImpl(this, offset + fromIndex, toIndex - fromIndex);
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order. The elements are copied to the heap,
+	 * sorted and written back to the off-heap memory.
+	 */
+	@Override
+	public void sort() {
+		if (view) compact();
+		byte[] elements = getArray();
+		Arrays.sort(elements);
+		region(offset, size).put(elements);
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NonNull IntStream stream() {
+		checkOpen();
+		if (isEmpty()) return IntStream.empty();
+		// Generate new array stream
+		return IntStream.range(UCollectionConstants.EMPTY_SIZE, size)
+			.map(this::get);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		checkOpen();
+		if (buffer.capacity() != size) reallocate(size);
+	}
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements.
+	 * <p>
+	 * The elements are written straight from the off-heap memory, without copying them.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeTo(@NonNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, asByteBuffer());
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 * <p>
+	 * The copy owns its memory, so it must be closed independently of this array.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NonNull UByteArray copy() {
+		checkOpen();
+		UDirectByteArrayImpl copy = new UDirectByteArrayImpl(size, policy);
+		
+		copy.buffer.put(region(offset, size));
+		copy.size = size;
+		return copy;
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NonNull Optional<Byte> first() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(0));
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NonNull Class<Byte> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NonNull Optional<Byte> last() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(size() - 1));
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns an iterator over elements of type {@code T}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NonNull
+	@Override
+	public Iterator<Byte> iterator() {
+		if (isEmpty()) return Collections.emptyIterator();
+		// Generate new array iterator
+		return stream()
+			.mapToObj(v -> (byte) v)
+			.iterator();
+	}
+	
+	/**
+	 * Gets an iterator over the elements of the array that returns them without boxing,
+	 * as int values.
+	 *
+	 * @return an iterator over the elements of the array
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfInt byteIterator() {
+		return stream().iterator();
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@NonNull
+	@Override
+	public String toString() {
+		if (isClosed()) return "[closed]";
+		return Arrays.toString(getArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks that the memory of the array was not released.
+	 *
+	 * @throws IllegalStateException if the array is closed
+	 */
+	private void checkOpen() {
+		if (isClosed()) throw new IllegalStateException("The array is closed");
+	}
+	
+	/**
+	 * Gets a buffer that covers the given region of the storage. The buffer
+	 * shares the memory of the storage.
+	 *
+	 * @param from   the index of the first element of the region
+	 * @param length the number of elements of the region
+	 * @return a buffer positioned at the start of the region
+	 */
+	private @NonNull ByteBuffer region(int from, int length) {
+		ByteBuffer region = buffer.duplicate();
+		region.limit(from + length);
+		region.position(from);
+		return region;
+	}
+	
+	/**
+	 * Moves a region of the storage to a new position. The source and the destination can overlap.
+	 *
+	 * @param from   the index of the first element to move
+	 * @param to     the index where the first element is moved
+	 * @param length the number of elements to move
+	 */
+	private void move(int from, int to, int length) {
+		if (length == 0 || from == to) return;
+		byte[] chunk = new byte[Math.min(length, MOVE_CHUNK)];
+		
+		// The chunks are moved starting at the side that is not overwritten
+		for (int moved = 0; moved < length; moved += chunk.length) {
+			int count = Math.min(chunk.length, length - moved);
+			int start = to < from ? moved : length - moved - count;
+			
+			region(from + start, count).get(chunk, 0, count);
+			region(to + start, count).put(chunk, 0, count);
+		}
+	}
+	
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		reallocate(UArrayCommon.newCapacity(policy, buffer.capacity(), minCapacity, Byte.BYTES));
+	}
+	
+	/**
+	 * Moves the elements to a new storage with the given capacity.
+	 * <p>
+	 * The memory of the old storage is released, unless a view or a buffer of the array
+	 * can still reference it; in that case it is released by the garbage collector.
+	 *
+	 * @param capacity the capacity of the new storage
+	 */
+	private void reallocate(int capacity) {
+		ByteBuffer previous = buffer;
+		ByteBuffer reallocated = ByteBuffer.allocateDirect(capacity);
+		reallocated.put(region(0, size));
+		buffer = reallocated;
+		
+		if (shared) {
+			shared = false;
+		} else {
+			UDirectMemory.release(previous);
+		}
+	}
+	
+}
@@ -0,0 +1,78 @@
+package uoxx3.collection.internal.array;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Utilities to release the memory of direct and mapped buffers.
+ */
+final class UDirectMemory {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * The platform method that releases the memory of a direct buffer. The Android runtime
+	 * does not provide it, so there the memory is released when the buffer is garbage
+	 * collected; this is the expected behavior of the platform, not an error.
+	 */
+	private static final @Nullable Object UNSAFE;
+	private static final @Nullable Method INVOKE_CLEANER;
+	
+	static {
+		Object unsafe;
+		Method invokeCleaner;
+		
+		try {
+			Class<?> cls = Class.forName("sun.misc.Unsafe");
+			Field field = cls.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			
+			unsafe = field.get(null);
+			invokeCleaner = cls.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException ignored) {
+			unsafe = null;
+			invokeCleaner = null;
+		}
+		
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UDirectMemory() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Releases the memory of the given direct buffer, if the platform allows it.
+	 * The buffer and all the buffers that share its memory must not be used after this call.
+	 *
+	 * @param buffer the buffer to release
+	 * @throws IllegalStateException if the platform method fails to release the memory
+	 */
+	static void release(@NonNull ByteBuffer buffer) {
+		if (INVOKE_CLEANER == null) return;
+		
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+		} catch (InvocationTargetException e) {
+			throw new IllegalStateException("The direct memory cannot be released", e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The direct memory cannot be released", e);
+		}
+	}
+	
+}
\ No newline at end of file
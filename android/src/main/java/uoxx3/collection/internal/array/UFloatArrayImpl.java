@@ -3,14 +3,25 @@ package uoxx3.collection.internal.array;
 import androidx.annotation.NonNull;
 import uoxx3.UAssert;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UDoubleArray;
 import uoxx3.collection.array.UFloatArray;
+import uoxx3.collection.array.UIndexedConsumer;
+import uoxx3.collection.array.UGrowthPolicy;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 import java.util.stream.DoubleStream;
-import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 public final class UFloatArrayImpl implements UFloatArray {
 	
@@ -19,6 +30,11 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 * ----------------------------------------------------- */
 	
 	private float[] array;
+	private int size;
+	private int offset;
+	private boolean view;
+	private boolean sorted;
+	private final UGrowthPolicy policy;
 	private final Class<Float> componentType;
 	
 	/* -----------------------------------------------------
@@ -28,6 +44,15 @@ public final class UFloatArrayImpl implements UFloatArray {
 	public UFloatArrayImpl(float... elements) {
 		UAssert.paramNotNull(elements, "long[] elements");
 		array = elements;
+		size = elements.length;
+		policy = UGrowthPolicy.defaultPolicy();
+		componentType = float.class;
+	}
+	
+	public UFloatArrayImpl(int capacity, @NonNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		array = new float[UArrayCommon.checkCapacity(capacity)];
+		this.policy = policy;
 		componentType = float.class;
 	}
 	
@@ -35,6 +60,19 @@ public final class UFloatArrayImpl implements UFloatArray {
 		this(new float[0]);
 	}
 	
+	private UFloatArrayImpl(float[] array, int size, @NonNull UGrowthPolicy policy) {
+		this.array = array;
+		this.size = size;
+		this.policy = policy;
+		componentType = float.class;
+	}
+	
+	private UFloatArrayImpl(float[] array, int offset, int size, @NonNull UGrowthPolicy policy) {
+		this(array, size, policy);
+		this.offset = offset;
+		this.view = true;
+	}
+	
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -46,16 +84,13 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public void add(float element) {
-		// Generate new array
-		final int newSize = size() + 1;
-		float[] targetArray = new float[newSize];
-		
-		// Copy the old information to the target array
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		targetArray[size()] = element;
-		
-		// Replace the instance array
-		array = targetArray;
+		if (view) compact();
+		// Appending a value not lower than the last one keeps the elements sorted
+		sorted = size == 0 || sorted && Float.compare(element, array[size - 1]) >= 0;
+		// The storage only grows when it is full, so most of the calls
+		// are a single store into the backing array.
+		if (size == array.length) grow(size + 1);
+		array[size++] = element;
 	}
 	
 	/**
@@ -65,17 +100,83 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public void addAll(float... elements) {
+		if (view) compact();
+		sorted = false;
 		UAssert.paramNotNull(elements, "long[] elements");
-		// Generate new array
-		final int newSize = size() + elements.length;
-		float[] targetArray = new float[newSize];
+		// Reserve the space for all the elements at once
+		ensureCapacity(size + elements.length);
+		
+		// Copy the new elements after the last element
+		System.arraycopy(elements, 0, array, size, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UFloatArray elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "UFloatArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
 		
-		// Copy the old array information
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		System.arraycopy(elements, 0, targetArray, size(), elements.length);
+		if (elements instanceof UFloatArrayImpl) {
+			UFloatArrayImpl other = (UFloatArrayImpl) elements;
+			System.arraycopy(other.array, other.offset, array, size, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array[size + i] = elements.get(i);
+			}
+		}
+		size += length;
+	}
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	@Override
+	public int binarySearch(float value) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		// Translate the result from the storage positions to the array indexes
+		return found >= 0 ? found - offset : found + offset;
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return view ? size : array.length;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
 		
-		// Replace the instance array
-		array = targetArray;
+		array = Arrays.copyOfRange(array, offset, offset + size);
+		offset = 0;
+		view = false;
 	}
 	
 	/**
@@ -89,16 +190,74 @@ public final class UFloatArrayImpl implements UFloatArray {
 		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Counts the number of elements of the array equal to the specified value.
+	 *
+	 * @param value The value to count.
+	 * @return the number of occurrences of the value in the array
+	 */
+	@Override
+	public int count(float value) {
+		return UArraySearch.count(array, offset, offset + size, value);
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		if (minCapacity > array.length) grow(minCapacity);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public float get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		
+		return array[offset + index];
+	}
+	
 	/**
 	 * Gets the native wrapped array.
+	 * <p>
+	 * The unused capacity is released before returning the array, so its length is always
+	 * equal to the size of the array.
 	 *
 	 * @return a native array
 	 */
 	@Override
 	public float[] getArray() {
+		if (view) compact();
+		// The returned storage can be modified, so the order is no longer known
+		sorted = false;
+		if (array.length != size) trimToSize();
 		return array;
 	}
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	@Override
+	public float[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -109,20 +268,68 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public int indexOf(float value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = 0; i < size(); i++) {
-				float element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
-			}
-		}
+		// While the elements are sorted, a binary search finds the value in logarithmic time.
+		// The zeros and NaN are compared differently by the sort, so they are searched linearly.
+		if (sorted && value != 0 && !Float.isNaN(value)) return sortedIndexOf(value, false);
+		int found = UArraySearch.indexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, float element) {
+		if (view) compact();
+		sorted = false;
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == array.length) grow(size + 1);
+		
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = element;
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, float... elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "float[] elements");
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
 		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		// Open a gap for the new elements with a single move of the tail
+		System.arraycopy(array, index, array, index + elements.length, size - index);
+		System.arraycopy(elements, 0, array, index, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	@Override
+	public boolean isSorted() {
+		return sorted;
 	}
 	
 	/**
@@ -135,20 +342,178 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public int lastIndexOf(float value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = size() - 1; i >= 0; i--) {
-				float element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
+		// While the elements are sorted, a binary search finds the value in logarithmic time.
+		// The zeros and NaN are compared differently by the sort, so they are searched linearly.
+		if (sorted && value != 0 && !Float.isNaN(value)) return sortedIndexOf(value, true);
+		int found = UArraySearch.lastIndexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 * <p>
+	 * The elements are ordered as {@link Float#compare(float, float)}, so {@code -0.0} goes
+	 * before {@code 0.0} and {@code NaN} goes after every other value.
+	 */
+	@Override
+	public void parallelSort() {
+		if (view) compact();
+		Arrays.parallelSort(array, 0, size);
+		sorted = true;
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo} from the given channel
+	 * and adds all its elements to the end of this array. The storage is reserved as the elements
+	 * arrive, and every chunk is decoded straight into it. The elements are only added when the
+	 * whole array is read.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a float array
+	 */
+	@Override
+	public void readFrom(@NonNull ReadableByteChannel channel) throws IOException {
+		if (view) compact();
+		sorted = false;
+		int start = size;
+		
+		// Every reservation can replace the storage, so each chunk is copied into the current one
+		int length = UArrayCodec.readFloats(channel, reserved -> ensureCapacity(UArrayCommon.requiredCapacity(start, reserved)),
+											(buffer, from, count) -> buffer.asFloatBuffer().get(array, start + from, count));
+		size = start + length;
+	}
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are encoded straight from the storage, so the array is only read.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeTo(@NonNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, array, offset, size);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public float removeAt(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		float element = array[index];
+		
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size--;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull DoublePredicate filter) {
+		if (view) compact();
+		UAssert.paramNotNull(filter, "DoublePredicate filter");
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				float element = array[read];
+				if (!filter.test(element)) array[write++] = element;
 			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			System.arraycopy(array, read, array, write, oldSize - read);
+			size = write + oldSize - read;
+		}
+		
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull UFloatArray elements) {
+		UAssert.paramNotNull(elements, "UFloatArray elements");
+		// A sorted copy of the elements turns every lookup into a binary search
+		float[] values = new float[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = elements.get(i);
 		}
+		Arrays.sort(values);
 		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		return removeIf(element -> Arrays.binarySearch(values, (float) element) < 0);
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UFloatArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		UFloatArrayImpl slice = new UFloatArrayImpl(array, offset + fromIndex, toIndex - fromIndex, policy);
+		slice.sorted = sorted;
+		return slice;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 * The elements are ordered as {@link Float#compare(float, float)}, so {@code -0.0} goes
+	 * before {@code 0.0} and {@code NaN} goes after every other value.
+	 */
+	@Override
+	public void sort() {
+		if (view) compact();
+		Arrays.sort(array, 0, size);
+		sorted = true;
 	}
 	
 	/**
@@ -160,8 +525,17 @@ public final class UFloatArrayImpl implements UFloatArray {
 	public @NonNull DoubleStream stream() {
 		if (isEmpty()) return DoubleStream.empty();
 		// Generate new array stream
-		return IntStream.range(UCollectionConstants.EMPTY_SIZE, size())
-			.mapToDouble(this::get);
+		return StreamSupport.doubleStream(UArraySpliterators.spliterator(array, offset, offset + size), false);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		if (array.length != size) array = Arrays.copyOf(array, size);
 	}
 	
 	/**
@@ -171,7 +545,9 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public @NonNull UFloatArray copy() {
-		return new UFloatArrayImpl(getArray().clone());
+		UFloatArrayImpl copy = new UFloatArrayImpl(Arrays.copyOfRange(array, offset, offset + size), size, policy);
+		copy.sorted = sorted;
+		return copy;
 	}
 	
 	/**
@@ -213,7 +589,7 @@ public final class UFloatArrayImpl implements UFloatArray {
 	 */
 	@Override
 	public int size() {
-		return array.length;
+		return size;
 	}
 	
 	/**
@@ -224,11 +600,188 @@ public final class UFloatArrayImpl implements UFloatArray {
 	@NonNull
 	@Override
 	public Iterator<Float> iterator() {
-		if (isEmpty()) return Collections.emptyIterator();
-		// Generate new array iterator
-		return stream()
-			.mapToObj(v -> (float) v)
-			.iterator();
+		// The boxed elements are adapted from the primitive iterator, without a stream pipeline
+		return UArrayIterators.boxed(floatIterator(), value -> (float) value);
+	}
+	
+	/**
+	 * Gets an iterator over the elements of the array that returns them without boxing,
+	 * as double values.
+	 *
+	 * @return an iterator over the elements of the array
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfDouble floatIterator() {
+		return UArrayIterators.iterator(array, offset, offset + size);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements, as double values.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	@Override
+	public void forEachFloat(@NonNull DoubleConsumer action) {
+		UAssert.paramNotNull(action, "DoubleConsumer action");
+		float[] elements = array;
+		int end = offset + size;
+		for (int i = offset; i < end; i++) {
+			action.accept(elements[i]);
+		}
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed, widened to {@code double}.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	@Override
+	public void forEachIndexedFloat(@NonNull UIndexedConsumer.OfDouble consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfDouble consumer");
+		float[] elements = array;
+		for (int i = 0; i < size; i++) {
+			consumer.accept(i, elements[offset + i]);
+		}
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements of the array. The mean is calculated from the
+	 * compensated sum of the elements. Large arrays are reduced in parallel by the threads of the
+	 * common fork/join pool.
+	 *
+	 * @return the mean of the elements, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalDouble average() {
+		return UArrayAggregates.average(array, offset, offset + size);
+	}
+	
+	/**
+	 * Adds all the elements of the array, compensating the rounding error of every addition with
+	 * the Kahan summation, so the result does not depend on the order of the additions. The
+	 * elements are widened to {@code double}. Large arrays are reduced in parallel by the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	@Override
+	public double compensatedSum() {
+		return UArrayAggregates.compensatedSum(array, offset, offset + size);
+	}
+	
+	/**
+	 * Finds the largest element of the array. A {@code NaN} element is the result, and the
+	 * negative zero is smaller than the positive zero. The elements are widened to {@code double}.
+	 * Large arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the largest element, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalDouble max() {
+		return UArrayAggregates.max(array, offset, offset + size);
+	}
+	
+	/**
+	 * Finds the smallest element of the array. A {@code NaN} element is the result, and the
+	 * negative zero is smaller than the positive zero. The elements are widened to {@code double}.
+	 * Large arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the smallest element, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalDouble min() {
+		return UArrayAggregates.min(array, offset, offset + size);
+	}
+	
+	/**
+	 * Adds all the elements of the array. The elements are added as {@code double} values, and the
+	 * rounding error of the additions is not compensated; see {@link #compensatedSum()}. Large
+	 * arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	@Override
+	public double sum() {
+		return UArrayAggregates.sum(array, offset, offset + size);
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements of the array in a single
+	 * pass. The elements are widened to {@code double}. Large arrays are reduced in parallel by
+	 * the threads of the common fork/join pool.
+	 *
+	 * @return the statistics of the elements
+	 */
+	@Override
+	public @NonNull DoubleSummaryStatistics summaryStatistics() {
+		return UArrayAggregates.summaryStatistics(array, offset, offset + size);
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool with a two-pass algorithm. The first pass scans ranges of the array in
+	 * parallel, and the second pass combines every range with the result of the ranges before it.
+	 * Small arrays are scanned sequentially.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined. The floating point additions are not exactly associative, so the result can
+	 * differ from {@link #scan} in the last bits. The elements are widened to {@code double} for
+	 * the operator, and the results are narrowed back to {@code float}.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 */
+	@Override
+	public void parallelScan(@NonNull DoubleBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "DoubleBinaryOperator operator");
+		if (view) compact();
+		sorted = false;
+		UArrayAggregates.parallelScan(array, 0, size, operator);
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element, so every element holds the cumulative result of all
+	 * the elements up to it (an inclusive scan). The first element does not change. The operator
+	 * is applied in order, so it does not need to be associative. The elements are widened to
+	 * {@code double} for the operator, and the results are narrowed back to {@code float}.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 */
+	@Override
+	public void scan(@NonNull DoubleBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "DoubleBinaryOperator operator");
+		if (view) compact();
+		sorted = false;
+		UArrayAggregates.scan(array, 0, size, operator);
+	}
+	
+	/**
+	 * Gets a new array with the inclusive prefix sums of the elements, without modifying this
+	 * array. The sums are calculated with {@code double} values. Large arrays are scanned in
+	 * parallel by the threads of the common fork/join pool.
+	 *
+	 * @return a new array where every element is the sum of the elements up to its index
+	 */
+	@Override
+	public @NonNull UDoubleArray toPrefixSum() {
+		double[] sums = new double[size];
+		float[] elements = array;
+		int start = offset;
+		if (size < UCollectionConstants.PARALLEL_SIZE_THRESHOLD) {
+			double sum = 0;
+			for (int i = 0; i < size; i++) {
+				sum += elements[start + i];
+				sums[i] = sum;
+			}
+		} else {
+			Arrays.parallelSetAll(sums, i -> elements[start + i]);
+			Arrays.parallelPrefix(sums, Double::sum);
+		}
+		
+		return new UDoubleArrayImpl(sums);
 	}
 	
 	/**
@@ -239,7 +792,42 @@ public final class UFloatArrayImpl implements UFloatArray {
 	@NonNull
 	@Override
 	public String toString() {
-		return Arrays.toString(getArray());
+		return Arrays.toString(Arrays.copyOfRange(array, offset, offset + size));
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		int newCapacity = UArrayCommon.newCapacity(policy, array.length, minCapacity, Float.BYTES);
+		array = Arrays.copyOf(array, newCapacity);
+	}
+	
+	/**
+	 * Searches the value in the sorted elements with a binary search, then moves to the first
+	 * or the last of its occurrences.
+	 *
+	 * @param value the value to search
+	 * @param last  {@code true} to find the last occurrence, {@code false} to find the first one
+	 * @return the index of the occurrence, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found
+	 */
+	private int sortedIndexOf(float value, boolean last) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		if (found < 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		if (last) {
+			int end = offset + size - 1;
+			while (found < end && array[found + 1] == value) found++;
+		} else {
+			while (found > offset && array[found - 1] == value) found--;
+		}
+		return found - offset;
 	}
 	
 }
\ No newline at end of file
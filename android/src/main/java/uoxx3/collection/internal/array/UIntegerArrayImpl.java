@@ -3,12 +3,25 @@ package uoxx3.collection.internal.array;
 import androidx.annotation.NonNull;
 import uoxx3.UAssert;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UGrowthPolicy;
 import uoxx3.collection.array.UIntegerArray;
+import uoxx3.collection.array.UIndexedConsumer;
+import uoxx3.collection.array.ULongArray;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.IntSummaryStatistics;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
 public final class UIntegerArrayImpl implements UIntegerArray {
@@ -18,6 +31,11 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 * ----------------------------------------------------- */
 	
 	private int[] array;
+	private int size;
+	private int offset;
+	private boolean view;
+	private boolean sorted;
+	private final UGrowthPolicy policy;
 	private final Class<Integer> componentType;
 	
 	/* -----------------------------------------------------
@@ -27,6 +45,15 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	public UIntegerArrayImpl(int... elements) {
 		UAssert.paramNotNull(elements, "int[] elements");
 		array = elements;
+		size = elements.length;
+		policy = UGrowthPolicy.defaultPolicy();
+		componentType = int.class;
+	}
+	
+	public UIntegerArrayImpl(int capacity, @NonNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		array = new int[UArrayCommon.checkCapacity(capacity)];
+		this.policy = policy;
 		componentType = int.class;
 	}
 	
@@ -34,6 +61,19 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 		this(new int[0]);
 	}
 	
+	private UIntegerArrayImpl(int[] array, int size, @NonNull UGrowthPolicy policy) {
+		this.array = array;
+		this.size = size;
+		this.policy = policy;
+		componentType = int.class;
+	}
+	
+	private UIntegerArrayImpl(int[] array, int offset, int size, @NonNull UGrowthPolicy policy) {
+		this(array, size, policy);
+		this.offset = offset;
+		this.view = true;
+	}
+	
 	/* -----------------------------------------------------
 	 * Methods
 	 * ----------------------------------------------------- */
@@ -45,16 +85,13 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public void add(int element) {
-		// Generate new array
-		final int newSize = size() + 1;
-		int[] targetArray = new int[newSize];
-		
-		// Copy the old information to the target array
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		targetArray[size()] = element;
-		
-		// Replace the instance array
-		array = targetArray;
+		if (view) compact();
+		// Appending a value not lower than the last one keeps the elements sorted
+		sorted = size == 0 || sorted && element >= array[size - 1];
+		// The storage only grows when it is full, so most of the calls
+		// are a single store into the backing array.
+		if (size == array.length) grow(size + 1);
+		array[size++] = element;
 	}
 	
 	/**
@@ -64,17 +101,110 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public void addAll(int... elements) {
+		if (view) compact();
+		sorted = false;
 		UAssert.paramNotNull(elements, "int[] elements");
-		// Generate new array
-		final int newSize = size() + elements.length;
-		int[] targetArray = new int[newSize];
+		// Reserve the space for all the elements at once
+		ensureCapacity(size + elements.length);
 		
-		// Copy the old array information
-		System.arraycopy(getArray(), 0, targetArray, 0, size());
-		System.arraycopy(elements, 0, targetArray, size(), elements.length);
+		// Copy the new elements after the last element
+		System.arraycopy(elements, 0, array, size, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UIntegerArray elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		if (elements instanceof UIntegerArrayImpl) {
+			UIntegerArrayImpl other = (UIntegerArrayImpl) elements;
+			System.arraycopy(other.array, other.offset, array, size, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				array[size + i] = elements.get(i);
+			}
+		}
+		size += length;
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull IntStream elements) {
+		UAssert.paramNotNull(elements, "IntStream elements");
+		addAll(elements.spliterator());
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull Spliterator.OfInt elements) {
+		UAssert.paramNotNull(elements, "Spliterator.OfInt elements");
+		long length = elements.getExactSizeIfKnown();
+		if (length > 0) ensureCapacity(UArrayCommon.requiredCapacity(size, length));
 		
-		// Replace the instance array
-		array = targetArray;
+		elements.forEachRemaining((IntConsumer) this::add);
+	}
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	@Override
+	public int binarySearch(int value) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		// Translate the result from the storage positions to the array indexes
+		return found >= 0 ? found - offset : found + offset;
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return view ? size : array.length;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
+		
+		array = Arrays.copyOfRange(array, offset, offset + size);
+		offset = 0;
+		view = false;
 	}
 	
 	/**
@@ -88,16 +218,80 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
 	}
 	
+	/**
+	 * Counts the number of elements of the array equal to the specified value.
+	 *
+	 * @param value The value to count.
+	 * @return the number of occurrences of the value in the array
+	 */
+	@Override
+	public int count(int value) {
+		// While the elements are sorted, the occurrences are the run between the first and the last
+		if (sorted) {
+			int first = sortedIndexOf(value, false);
+			return first == UCollectionConstants.INDEX_NOT_FOUND ? 0 : sortedIndexOf(value, true) - first + 1;
+		}
+		
+		return UArraySearch.count(array, offset, offset + size, value);
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		if (minCapacity > array.length) grow(minCapacity);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		
+		return array[offset + index];
+	}
+	
 	/**
 	 * Gets the native wrapped array.
+	 * <p>
+	 * The unused capacity is released before returning the array, so its length is always
+	 * equal to the size of the array.
 	 *
 	 * @return a native array
 	 */
 	@Override
 	public int[] getArray() {
+		if (view) compact();
+		// The returned storage can be modified, so the order is no longer known
+		sorted = false;
+		if (array.length != size) trimToSize();
 		return array;
 	}
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	@Override
+	public int[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + size);
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -108,20 +302,67 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public int indexOf(int value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = 0; i < size(); i++) {
-				int element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
-			}
-		}
+		// While the elements are sorted, a binary search finds the value in logarithmic time
+		if (sorted) return sortedIndexOf(value, false);
+		int found = UArraySearch.indexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, int element) {
+		if (view) compact();
+		sorted = false;
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == array.length) grow(size + 1);
 		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = element;
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, int... elements) {
+		if (view) compact();
+		sorted = false;
+		UAssert.paramNotNull(elements, "int[] elements");
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		// Open a gap for the new elements with a single move of the tail
+		System.arraycopy(array, index, array, index + elements.length, size - index);
+		System.arraycopy(elements, 0, array, index, elements.length);
+		size += elements.length;
+	}
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	@Override
+	public boolean isSorted() {
+		return sorted;
 	}
 	
 	/**
@@ -134,20 +375,172 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public int lastIndexOf(int value) {
-		checkArray:
-		{
-			if (isEmpty()) break checkArray;
-			// Check if the element is a <null> case
-			for (int i = size() - 1; i >= 0; i--) {
-				int element = get(i);
-				
-				// In this case we verify that the object is equal to any of
-				// the elements of the array.
-				if (value == element) return i;
+		// While the elements are sorted, a binary search finds the value in logarithmic time
+		if (sorted) return sortedIndexOf(value, true);
+		int found = UArraySearch.lastIndexOf(array, offset, offset + size, value);
+		return found == UCollectionConstants.INDEX_NOT_FOUND ? found : found - offset;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 */
+	@Override
+	public void parallelSort() {
+		if (view) compact();
+		Arrays.parallelSort(array, 0, size);
+		sorted = true;
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo} from the given channel
+	 * and adds all its elements to the end of this array. The storage is reserved as the elements
+	 * arrive, and every chunk is decoded straight into it. The elements are only added when the
+	 * whole array is read.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain an int array
+	 */
+	@Override
+	public void readFrom(@NonNull ReadableByteChannel channel) throws IOException {
+		if (view) compact();
+		sorted = false;
+		int start = size;
+		
+		// Every reservation can replace the storage, so each chunk is copied into the current one
+		int length = UArrayCodec.readInts(channel, reserved -> ensureCapacity(UArrayCommon.requiredCapacity(start, reserved)),
+										  (buffer, from, count) -> buffer.asIntBuffer().get(array, start + from, count));
+		size = start + length;
+	}
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are encoded straight from the storage, so the array is only read.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeTo(@NonNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, array, offset, size);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int removeAt(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		int element = array[index];
+		
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size--;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull IntPredicate filter) {
+		if (view) compact();
+		UAssert.paramNotNull(filter, "IntPredicate filter");
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				int element = array[read];
+				if (!filter.test(element)) array[write++] = element;
 			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			System.arraycopy(array, read, array, write, oldSize - read);
+			size = write + oldSize - read;
 		}
 		
-		return UCollectionConstants.INDEX_NOT_FOUND;
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		// A sorted copy of the elements turns every lookup into a binary search
+		int[] values = new int[elements.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = elements.get(i);
+		}
+		Arrays.sort(values);
+		
+		return removeIf(element -> Arrays.binarySearch(values, element) < 0);
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UIntegerArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		UIntegerArrayImpl slice = new UIntegerArrayImpl(array, offset + fromIndex, toIndex - fromIndex, policy);
+		slice.sorted = sorted;
+		return slice;
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 */
+	@Override
+	public void sort() {
+		if (view) compact();
+		Arrays.sort(array, 0, size);
+		sorted = true;
 	}
 	
 	/**
@@ -159,7 +552,17 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	public @NonNull IntStream stream() {
 		if (isEmpty()) return IntStream.empty();
 		// Generate new array stream
-		return Arrays.stream(getArray());
+		return Arrays.stream(array, offset, offset + size);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		if (array.length != size) array = Arrays.copyOf(array, size);
 	}
 	
 	/**
@@ -169,7 +572,9 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public @NonNull UIntegerArray copy() {
-		return new UIntegerArrayImpl(getArray().clone());
+		UIntegerArrayImpl copy = new UIntegerArrayImpl(Arrays.copyOfRange(array, offset, offset + size), size, policy);
+		copy.sorted = sorted;
+		return copy;
 	}
 	
 	/**
@@ -211,20 +616,174 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	 */
 	@Override
 	public int size() {
-		return array.length;
+		return size;
 	}
 	
 	/**
-	 * Returns an iterator over elements of type {@code T}.
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}.
 	 *
 	 * @return an Iterator.
 	 */
-	@NonNull
 	@Override
-	public Iterator<Integer> iterator() {
-		if (isEmpty()) return Collections.emptyIterator();
-		// Generate new array iterator
-		return stream().iterator();
+	public @NonNull PrimitiveIterator.OfInt iterator() {
+		return UArrayIterators.iterator(array, offset, offset + size);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	@Override
+	public void forEachInt(@NonNull IntConsumer action) {
+		UAssert.paramNotNull(action, "IntConsumer action");
+		int[] elements = array;
+		int end = offset + size;
+		for (int i = offset; i < end; i++) {
+			action.accept(elements[i]);
+		}
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	@Override
+	public void forEachIndexedInt(@NonNull UIndexedConsumer.OfInt consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfInt consumer");
+		int[] elements = array;
+		for (int i = 0; i < size; i++) {
+			consumer.accept(i, elements[offset + i]);
+		}
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements of the array. Large arrays are reduced in
+	 * parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the mean of the elements, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalDouble average() {
+		return UArrayAggregates.average(array, offset, offset + size);
+	}
+	
+	/**
+	 * Finds the largest element of the array. Large arrays are reduced in parallel by the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return the largest element, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalInt max() {
+		// The sorted arrays keep their extremes at the ends
+		if (sorted && size > 0) return OptionalInt.of(array[offset + size - 1]);
+		return UArrayAggregates.max(array, offset, offset + size);
+	}
+	
+	/**
+	 * Finds the smallest element of the array. Large arrays are reduced in parallel by the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return the smallest element, or an empty optional if the array is empty
+	 */
+	@Override
+	public @NonNull OptionalInt min() {
+		// The sorted arrays keep their extremes at the ends
+		if (sorted && size > 0) return OptionalInt.of(array[offset]);
+		return UArrayAggregates.min(array, offset, offset + size);
+	}
+	
+	/**
+	 * Adds all the elements of the array. The sum is calculated with {@code long} values, so it
+	 * does not overflow. Large arrays are reduced in parallel by the threads of the common
+	 * fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	@Override
+	public long sum() {
+		return UArrayAggregates.sum(array, offset, offset + size);
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements of the array in a single
+	 * pass. Large arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the statistics of the elements
+	 */
+	@Override
+	public @NonNull IntSummaryStatistics summaryStatistics() {
+		return UArrayAggregates.summaryStatistics(array, offset, offset + size);
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool with a two-pass algorithm. The first pass scans ranges of the array in
+	 * parallel, and the second pass combines every range with the result of the ranges before it.
+	 * Small arrays are scanned sequentially.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 */
+	@Override
+	public void parallelScan(@NonNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		if (view) compact();
+		sorted = false;
+		Arrays.parallelPrefix(array, 0, size, operator);
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element, so every element holds the cumulative result of all
+	 * the elements up to it (an inclusive scan). The first element does not change. The operator
+	 * is applied in order, so it does not need to be associative.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 */
+	@Override
+	public void scan(@NonNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		if (view) compact();
+		sorted = false;
+		int[] elements = array;
+		for (int i = 1; i < size; i++) {
+			elements[i] = operator.applyAsInt(elements[i - 1], elements[i]);
+		}
+	}
+	
+	/**
+	 * Gets a new array with the inclusive prefix sums of the elements, without modifying this
+	 * array. The sums are calculated with {@code long} values, so they do not overflow. Large
+	 * arrays are scanned in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return a new array where every element is the sum of the elements up to its index
+	 */
+	@Override
+	public @NonNull ULongArray toPrefixSum() {
+		long[] sums = new long[size];
+		int[] elements = array;
+		int start = offset;
+		if (size < UCollectionConstants.PARALLEL_SIZE_THRESHOLD) {
+			long sum = 0;
+			for (int i = 0; i < size; i++) {
+				sum += elements[start + i];
+				sums[i] = sum;
+			}
+		} else {
+			Arrays.parallelSetAll(sums, i -> elements[start + i]);
+			Arrays.parallelPrefix(sums, Long::sum);
+		}
+		
+		return new ULongArrayImpl(sums);
 	}
 	
 	/**
@@ -235,7 +794,42 @@ public final class UIntegerArrayImpl implements UIntegerArray {
 	@NonNull
 	@Override
 	public String toString() {
-		return Arrays.toString(getArray());
+		return Arrays.toString(Arrays.copyOfRange(array, offset, offset + size));
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		int newCapacity = UArrayCommon.newCapacity(policy, array.length, minCapacity, Integer.BYTES);
+		array = Arrays.copyOf(array, newCapacity);
+	}
+	
+	/**
+	 * Searches the value in the sorted elements with a binary search, then moves to the first
+	 * or the last of its occurrences.
+	 *
+	 * @param value the value to search
+	 * @param last  {@code true} to find the last occurrence, {@code false} to find the first one
+	 * @return the index of the occurrence, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found
+	 */
+	private int sortedIndexOf(int value, boolean last) {
+		int found = Arrays.binarySearch(array, offset, offset + size, value);
+		if (found < 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		if (last) {
+			int end = offset + size - 1;
+			while (found < end && array[found + 1] == value) found++;
+		} else {
+			while (found > offset && array[found - 1] == value) found--;
+		}
+		return found - offset;
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,696 @@
+package uoxx3.collection.internal.array;
+
+import androidx.annotation.NonNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UGrowthPolicy;
+import uoxx3.collection.array.UIntegerArray;
+import uoxx3.collection.array.UMappedIntegerArray;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public final class UMappedIntegerArrayImpl implements UMappedIntegerArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final UMappedStorage storage;
+	private final UMappedIntegerArrayImpl owner;
+	private int size;
+	private final int offset;
+	private final boolean view;
+	private final UGrowthPolicy policy;
+	private final Class<Integer> componentType;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UMappedIntegerArrayImpl(@NonNull Path file, boolean readOnly, @NonNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		storage = new UMappedStorage(file, Integer.BYTES, readOnly);
+		owner = this;
+		size = storage.length();
+		offset = 0;
+		view = false;
+		this.policy = policy;
+		componentType = int.class;
+	}
+	
+	private UMappedIntegerArrayImpl(@NonNull UMappedIntegerArrayImpl source, int offset, int size) {
+		storage = source.storage;
+		owner = source.owner;
+		policy = source.policy;
+		componentType = int.class;
+		this.offset = offset;
+		this.size = size;
+		this.view = true;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(int element) {
+		checkWritable();
+		if (size == storage.capacity()) grow(size + 1);
+		storage.putInt(size++, element);
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		for (int element : elements) {
+			storage.putInt(size++, element);
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		for (int i = 0; i < length; i++) {
+			storage.putInt(size + i, elements.get(i));
+		}
+		size += length;
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull IntStream elements) {
+		UAssert.paramNotNull(elements, "IntStream elements");
+		addAll(elements.spliterator());
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NonNull Spliterator.OfInt elements) {
+		UAssert.paramNotNull(elements, "Spliterator.OfInt elements");
+		checkWritable();
+		long expected = elements.getExactSizeIfKnown();
+		
+		if (expected > 0) ensureCapacity(UArrayCommon.requiredCapacity(size, expected));
+		elements.forEachRemaining((int element) -> add(element));
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 * <p>
+	 * The capacity of the array is the number of elements covered by the mapped file.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		storage.checkOpen();
+		return view ? size : storage.capacity();
+	}
+	
+	/**
+	 * Releases the mapped memory and closes the file. The file of a writable array is
+	 * truncated to the size of the array. Closing a view has no effect.
+	 * <p>
+	 * Closing an array that is already closed has no effect.
+	 *
+	 * @throws java.io.UncheckedIOException if the file cannot be closed
+	 */
+	@Override
+	public void close() {
+		if (!view) storage.close(size);
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * The views of a mapped array are read-only, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 * <p>
+	 * The file is extended to the new capacity and truncated again when the array is closed.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		checkWritable();
+		if (minCapacity > storage.capacity()) grow(minCapacity);
+	}
+	
+	/**
+	 * Writes all the changes of the array to the file. The file of a writable array is
+	 * truncated to the size of the array, so the file holds exactly the elements of
+	 * the array if it is opened again before the array is closed.
+	 *
+	 * @throws IllegalStateException        if the array is closed
+	 * @throws java.io.UncheckedIOException if the file cannot be truncated
+	 */
+	@Override
+	public void force() {
+		storage.force(owner.size);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 * @throws IllegalStateException     if the array is closed
+	 */
+	@Override
+	public int get(int index) {
+		storage.checkOpen();
+		UArrayCommon.checkIndex(index, size);
+		return storage.getInt(offset + index);
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The elements are stored in a file, so this method returns a copy of them.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public int[] getArray() {
+		storage.checkOpen();
+		int[] result = new int[size];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = storage.getInt(offset + i);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(int value) {
+		storage.checkOpen();
+		for (int i = 0; i < size; i++) {
+			if (storage.getInt(offset + i) == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, int element) {
+		checkWritable();
+		UArrayCommon.checkPositionIndex(index, size);
+		if (size == storage.capacity()) grow(size + 1);
+		
+		storage.move(index, index + 1, size - index);
+		storage.putInt(index, element);
+		size++;
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		checkWritable();
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		storage.move(index, index + elements.length, size - index);
+		for (int i = 0; i < elements.length; i++) {
+			storage.putInt(index + i, elements[i]);
+		}
+		size += elements.length;
+	}
+	
+	/**
+	 * Checks if the array is closed.
+	 *
+	 * @return {@code true} if the file of the array is closed
+	 */
+	@Override
+	public boolean isClosed() {
+		return storage.isClosed();
+	}
+	
+	/**
+	 * Checks if the array can be modified.
+	 *
+	 * @return {@code true} if the array was opened in read-only mode or it is a view
+	 */
+	@Override
+	public boolean isReadOnly() {
+		return view || storage.isReadOnly();
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(int value) {
+		storage.checkOpen();
+		for (int i = size - 1; i >= 0; i--) {
+			if (storage.getInt(offset + i) == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool with a two-pass algorithm. The elements are combined in place in the mapped
+	 * file. Small arrays are scanned sequentially.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array is read-only
+	 */
+	@Override
+	public void parallelScan(@NonNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		checkWritable();
+		UArrayAggregates.parallelScan(offset, offset + size, (from, to) -> scan(from, to, operator), (source, from, to) -> {
+			int carry = storage.getInt(source);
+			for (int i = from; i < to; i++) {
+				storage.putInt(i, operator.applyAsInt(carry, storage.getInt(i)));
+			}
+		});
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. The elements are copied to the heap, sorted
+	 * and written back to the mapped file.
+	 *
+	 * @throws UnsupportedOperationException if the array is read-only
+	 */
+	@Override
+	public void parallelSort() {
+		checkWritable();
+		int[] elements = getArray();
+		Arrays.parallelSort(elements);
+		putAll(elements);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int removeAt(int index) {
+		checkWritable();
+		UArrayCommon.checkIndex(index, size);
+		int element = storage.getInt(index);
+		
+		storage.move(index + 1, index, size - index - 1);
+		size--;
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NonNull IntPredicate filter) {
+		UAssert.paramNotNull(filter, "IntPredicate filter");
+		checkWritable();
+		int oldSize = size;
+		int read = 0;
+		int write = 0;
+		
+		try {
+			// Move every kept element to its final position
+			for (; read < oldSize; read++) {
+				int element = storage.getInt(read);
+				if (!filter.test(element)) storage.putInt(write++, element);
+			}
+		} finally {
+			// If the filter throws an exception, the elements not tested yet are kept
+			storage.move(read, write, oldSize - read);
+			size = write + oldSize - read;
+		}
+		
+		return size != oldSize;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		checkWritable();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		storage.move(toIndex, fromIndex, size - toIndex);
+		size -= toIndex - fromIndex;
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NonNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		// A sorted copy of the elements turns every lookup into a binary search
+		int[] values = elements.toArray();
+		Arrays.sort(values);
+		
+		return removeIf(element -> Arrays.binarySearch(values, element) < 0);
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element, so every element holds the cumulative result of all
+	 * the elements up to it (an inclusive scan). The first element does not change. The operator
+	 * is applied in order, so it does not need to be associative. The elements are combined in
+	 * place in the mapped file.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array is read-only
+	 */
+	@Override
+	public void scan(@NonNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		checkWritable();
+		scan(offset, offset + size, operator);
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the mapped file of the array, so no
+	 * element is copied.
+	 * <p>
+	 * The view is read-only and it cannot be used after the array is closed.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NonNull UMappedIntegerArray slice(int fromIndex, int toIndex) {
+		storage.checkOpen();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		return new UMappedIntegerArrayImpl(this, offset + fromIndex, toIndex - fromIndex);
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order. The elements are copied to the heap,
+	 * sorted and written back to the mapped file.
+	 *
+	 * @throws UnsupportedOperationException if the array is read-only
+	 */
+	@Override
+	public void sort() {
+		checkWritable();
+		int[] elements = getArray();
+		Arrays.sort(elements);
+		putAll(elements);
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NonNull IntStream stream() {
+		storage.checkOpen();
+		if (isEmpty()) return IntStream.empty();
+		// Generate new array stream
+		return IntStream.range(offset, offset + size)
+			.map(storage::getInt);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 * <p>
+	 * The mapped file cannot be truncated while it is open, it is truncated to the size
+	 * of the array when the array is closed. This method has no effect.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 * <p>
+	 * The copy is stored in the heap.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NonNull UIntegerArray copy() {
+		return new UIntegerArrayImpl(getArray());
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NonNull Optional<Integer> first() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(0));
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NonNull Class<Integer> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NonNull Optional<Integer> last() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(size() - 1));
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}.
+	 *
+	 * @return an Iterator.
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfInt iterator() {
+		storage.checkOpen();
+		return new StorageIterator();
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@NonNull
+	@Override
+	public String toString() {
+		if (isClosed()) return "[closed]";
+		return Arrays.toString(getArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks that the array can be modified.
+	 *
+	 * @throws IllegalStateException         if the array is closed
+	 * @throws UnsupportedOperationException if the array is read-only
+	 */
+	private void checkWritable() {
+		storage.checkOpen();
+		if (isReadOnly()) throw new UnsupportedOperationException("The array is read-only");
+	}
+	
+	/**
+	 * Extends the mapped file so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		storage.ensureCapacity(UArrayCommon.newCapacity(policy, storage.capacity(), minCapacity, Integer.BYTES));
+	}
+	
+	/**
+	 * Replaces every element between the given storage positions with the result of the operator
+	 * applied to the previous result and the element.
+	 *
+	 * @param from     the first position, inclusive
+	 * @param to       the last position, exclusive
+	 * @param operator the operator that combines the previous result and an element
+	 */
+	private void scan(int from, int to, IntBinaryOperator operator) {
+		if (from >= to) return;
+		int previous = storage.getInt(from);
+		for (int i = from + 1; i < to; i++) {
+			previous = operator.applyAsInt(previous, storage.getInt(i));
+			storage.putInt(i, previous);
+		}
+	}
+	
+	/**
+	 * Writes the given elements over the elements of the array, starting at its first element.
+	 *
+	 * @param elements the elements to write
+	 */
+	private void putAll(int[] elements) {
+		for (int i = 0; i < elements.length; i++) {
+			storage.putInt(offset + i, elements[i]);
+		}
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator that reads the elements of the array directly from the mapped file.
+	 */
+	private final class StorageIterator implements PrimitiveIterator.OfInt {
+		
+		private final int fence = offset + size;
+		private int index = offset;
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			storage.checkOpen();
+			return storage.getInt(index++);
+		}
+		
+	}
+	
+}
@@ -0,0 +1,148 @@
+package uoxx3.collection.internal.collection;
+
+import uoxx3.collection.UCollectionConstants;
+
+/**
+ * Common operations shared by the open-addressing hash tables of the primitive collections.
+ * <p>
+ * The tables use linear probing over a power of two length, with the zero value marking
+ * a free slot. The element zero is tracked apart from the table by every collection.
+ */
+final class UHashCommon {
+	
+	/* -----------------------------------------------------
+	 * Constants
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * The minimum length of a table.
+	 */
+	static final int MIN_TABLE_LENGTH = 8;
+	
+	/**
+	 * The maximum length of a table, the largest power of two of an array.
+	 */
+	static final int MAX_TABLE_LENGTH = 1 << 30;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UHashCommon() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Table actions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks if the given value is a valid load factor, between zero and one, both exclusive.
+	 *
+	 * @param loadFactor the load factor to check
+	 * @return the same load factor
+	 * @throws IllegalArgumentException if the load factor is not between zero and one
+	 */
+	static float checkLoadFactor(float loadFactor) {
+		if (!(loadFactor > 0 && loadFactor < 1)) {
+			throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+		}
+		
+		return loadFactor;
+	}
+	
+	/**
+	 * Calculates the length of a table that can hold the given number of elements
+	 * without exceeding the load factor of the hash collections.
+	 *
+	 * @param expected the number of elements of the table
+	 * @return a power of two table length
+	 * @throws IllegalArgumentException if the number of elements is negative
+	 */
+	static int tableLength(int expected) {
+		return tableLength(expected, UCollectionConstants.COLLECTION_HASH_FACTOR);
+	}
+	
+	/**
+	 * Calculates the length of a table that can hold the given number of elements
+	 * without exceeding the given load factor.
+	 *
+	 * @param expected   the number of elements of the table
+	 * @param loadFactor the maximum ratio of used slots of the table
+	 * @return a power of two table length
+	 * @throws IllegalArgumentException if the number of elements is negative
+	 */
+	static int tableLength(int expected, float loadFactor) {
+		if (expected < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + expected);
+		}
+		
+		long required = (long) Math.ceil(expected / (double) loadFactor);
+		if (required > MAX_TABLE_LENGTH) throw new OutOfMemoryError("Required table length is too large");
+		
+		int length = Integer.highestOneBit((int) Math.max(required, MIN_TABLE_LENGTH));
+		return length < required ? length << 1 : length;
+	}
+	
+	/**
+	 * Calculates the number of elements a table of the given length holds before it is rebuilt.
+	 * At least one slot is always free, so the probe sequences always end.
+	 *
+	 * @param length the length of the table
+	 * @return the maximum number of elements of the table
+	 */
+	static int maxFill(int length) {
+		return maxFill(length, UCollectionConstants.COLLECTION_HASH_FACTOR);
+	}
+	
+	/**
+	 * Calculates the number of elements a table of the given length holds before it is rebuilt
+	 * with the given load factor. At least one slot is always free, so the probe sequences always end.
+	 *
+	 * @param length     the length of the table
+	 * @param loadFactor the maximum ratio of used slots of the table
+	 * @return the maximum number of elements of the table
+	 */
+	static int maxFill(int length, float loadFactor) {
+		return Math.min(length - 1, (int) (length * (double) loadFactor));
+	}
+	
+	/**
+	 * Spreads the bits of the given value, so the values that only differ in the
+	 * high bits do not collide in the low bits used as the table index.
+	 *
+	 * @param value the value to mix
+	 * @return the mixed hash of the value
+	 */
+	static int mix(int value) {
+		int hash = value * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Spreads the bits of the given value, so the values that only differ in the
+	 * high bits do not collide in the low bits used as the table index.
+	 *
+	 * @param value the value to mix
+	 * @return the mixed hash of the value
+	 */
+	static int mix(long value) {
+		long hash = value * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+	
+	/**
+	 * Checks if the element at the given slot can be moved to the slot freed by a removal.
+	 * The element can move if its home slot is not cyclically between the free slot and its slot.
+	 *
+	 * @param free the slot freed by the removal
+	 * @param slot the slot of the element
+	 * @param home the home slot of the element
+	 * @return {@code true} if the element can be moved to the free slot
+	 */
+	static boolean canShift(int free, int slot, int home) {
+		return free <= slot
+			? free >= home || home > slot
+			: free >= home && home > slot;
+	}
+	
+}
@@ -0,0 +1,360 @@
+package uoxx3.collection.internal.collection;
+
+import androidx.annotation.NonNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.UIntSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public final class UIntSetImpl implements UIntSet {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int FREE = 0;
+	
+	private int[] table;
+	private int mask;
+	private int maxFill;
+	private int assigned;
+	private boolean containsFree;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UIntSetImpl(int expected) {
+		allocate(UHashCommon.tableLength(expected));
+	}
+	
+	public UIntSetImpl() {
+		this(UCollectionConstants.COLLECTION_SIZE_THRESHOLD);
+	}
+	
+	private UIntSetImpl(@NonNull UIntSetImpl source) {
+		table = source.table.clone();
+		mask = source.mask;
+		maxFill = source.maxFill;
+		assigned = source.assigned;
+		containsFree = source.containsFree;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the set
+	 *
+	 * @param element The element to add
+	 * @return {@code true} if the set did not contain the element
+	 */
+	@Override
+	public boolean add(int element) {
+		if (element == FREE) {
+			if (containsFree) return false;
+			return containsFree = true;
+		}
+		
+		int slot = UHashCommon.mix(element) & mask;
+		for (int current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == element) return false;
+			slot = (slot + 1) & mask;
+		}
+		
+		table[slot] = element;
+		if (++assigned > maxFill) rehash(table.length << 1);
+		return true;
+	}
+	
+	/**
+	 * Add multiple elements to the set
+	 *
+	 * @param elements All the elements wants to add
+	 * @return {@code true} if the set changed
+	 */
+	@Override
+	public boolean addAll(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		// Reserve the table for all the elements at once
+		ensureCapacity(size() + elements.length);
+		
+		boolean changed = false;
+		for (int element : elements) {
+			changed |= add(element);
+		}
+		
+		return changed;
+	}
+	
+	/**
+	 * Removes all the elements of the set. The table keeps its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(table, FREE);
+		assigned = 0;
+		containsFree = false;
+	}
+	
+	/**
+	 * Checks if the set contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the set contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		if (value == FREE) return containsFree;
+		
+		int slot = UHashCommon.mix(value) & mask;
+		for (int current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == value) return true;
+			slot = (slot + 1) & mask;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Increases the capacity of the set, if necessary, to ensure that it can hold
+	 * at least the given number of elements without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > maxFill) rehash(UHashCommon.tableLength(minCapacity));
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the set. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}, in no particular order.
+	 *
+	 * @return an Iterator.
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfInt iterator() {
+		return new TableIterator();
+	}
+	
+	/**
+	 * Removes the specified element from the set.
+	 *
+	 * @param element The element to remove
+	 * @return {@code true} if the set contained the element
+	 */
+	@Override
+	public boolean remove(int element) {
+		if (element == FREE) {
+			if (!containsFree) return false;
+			containsFree = false;
+			return true;
+		}
+		
+		int slot = UHashCommon.mix(element) & mask;
+		for (int current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == element) {
+				shiftKeys(slot);
+				assigned--;
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns the number of elements of the set.
+	 *
+	 * @return The number of elements of the set.
+	 */
+	@Override
+	public int size() {
+		return containsFree ? assigned + 1 : assigned;
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the set as its source.
+	 *
+	 * @return A Stream of the elements in the set.
+	 */
+	@Override
+	public @NonNull IntStream stream() {
+		return StreamSupport.intStream(
+			Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT),
+			false
+		);
+	}
+	
+	/**
+	 * Gets the elements of the set as a native array, in no particular order.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public int[] toArray() {
+		int[] result = new int[size()];
+		int index = 0;
+		for (int element : table) {
+			if (element != FREE) result[index++] = element;
+		}
+		if (containsFree) result[index] = FREE;
+		
+		return result;
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NonNull UIntSet copy() {
+		return new UIntSetImpl(this);
+	}
+	
+	/**
+	 * Checks if the given object is an int set with the same elements.
+	 *
+	 * @param obj the object to compare
+	 * @return {@code true} if the object is an int set with the same elements
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof UIntSet)) return false;
+		
+		UIntSet other = (UIntSet) obj;
+		if (other.size() != size()) return false;
+		for (PrimitiveIterator.OfInt iterator = iterator(); iterator.hasNext(); ) {
+			if (!other.contains(iterator.nextInt())) return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the hash code of the set, the sum of the hash codes of its elements.
+	 *
+	 * @return the hash code of the set
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int element : table) {
+			hash += Integer.hashCode(element);
+		}
+		
+		return hash;
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@NonNull
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Replaces the table with a new empty table of the given length.
+	 *
+	 * @param length the length of the table
+	 */
+	private void allocate(int length) {
+		table = new int[length];
+		mask = length - 1;
+		maxFill = UHashCommon.maxFill(length);
+	}
+	
+	/**
+	 * Moves all the elements to a new table of the given length.
+	 *
+	 * @param length the length of the new table
+	 */
+	private void rehash(int length) {
+		int[] old = table;
+		allocate(length);
+		
+		for (int element : old) {
+			if (element == FREE) continue;
+			
+			int slot = UHashCommon.mix(element) & mask;
+			while (table[slot] != FREE) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = element;
+		}
+	}
+	
+	/**
+	 * Frees the given slot, moving back the elements of the probe sequence that follows it.
+	 * The table never contains deleted markers, so the searches do not slow down after
+	 * many removals.
+	 *
+	 * @param free the slot to free
+	 */
+	private void shiftKeys(int free) {
+		int slot = free;
+		while (true) {
+			slot = (slot + 1) & mask;
+			int current = table[slot];
+			if (current == FREE) break;
+			
+			if (UHashCommon.canShift(free, slot, UHashCommon.mix(current) & mask)) {
+				table[free] = current;
+				free = slot;
+			}
+		}
+		
+		table[free] = FREE;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator over the slots of the table, followed by the free value if the set contains it.
+	 */
+	private final class TableIterator implements PrimitiveIterator.OfInt {
+		
+		private int slot = -1;
+		private int remaining = size();
+		
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (remaining <= 0) throw new NoSuchElementException();
+			remaining--;
+			
+			while (++slot < table.length) {
+				if (table[slot] != FREE) return table[slot];
+			}
+			return FREE;
+		}
+	
+	}
+	
+}
@@ -0,0 +1,438 @@
+package uoxx3.collection.internal.collection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.ULongObjectMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.LongFunction;
+
+public final class ULongObjectMapImpl<V> implements ULongObjectMap<V> {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final long FREE = 0;
+	
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int maxFill;
+	private int assigned;
+	private Object freeValue;
+	private final float loadFactor;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public ULongObjectMapImpl(int expected, float loadFactor) {
+		this.loadFactor = UHashCommon.checkLoadFactor(loadFactor);
+		allocate(UHashCommon.tableLength(expected, loadFactor));
+	}
+	
+	public ULongObjectMapImpl(int expected) {
+		this(expected, UCollectionConstants.COLLECTION_HASH_FACTOR);
+	}
+	
+	public ULongObjectMapImpl() {
+		this(UCollectionConstants.COLLECTION_SIZE_THRESHOLD);
+	}
+	
+	private ULongObjectMapImpl(@NonNull ULongObjectMapImpl<V> source) {
+		keys = source.keys.clone();
+		values = source.values.clone();
+		mask = source.mask;
+		maxFill = source.maxFill;
+		assigned = source.assigned;
+		freeValue = source.freeValue;
+		loadFactor = source.loadFactor;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Removes all the entries of the map. The table keeps its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(keys, FREE);
+		Arrays.fill(values, null);
+		assigned = 0;
+		freeValue = null;
+	}
+	
+	/**
+	 * Gets the value of the key. If the map does not contain the key, the value is calculated
+	 * with the given function and stored in the map.
+	 *
+	 * @param key     The key of the value
+	 * @param mapping The function that calculates the value of a missing key
+	 * @return the current or the calculated value of the key
+	 */
+	@Override
+	public @NonNull V computeIfAbsent(long key, @NonNull LongFunction<? extends V> mapping) {
+		UAssert.paramNotNull(mapping, "LongFunction mapping");
+		V current = get(key);
+		if (current != null) return current;
+		
+		// The function is called before the insertion, so it can safely
+		// modify the map; put searches the slot again after the call.
+		V value = mapping.apply(key);
+		put(key, value);
+		return value;
+	}
+	
+	/**
+	 * Checks if the map contains the specified key.
+	 *
+	 * @param key The key to check for.
+	 * @return true if the map contains the key, false otherwise.
+	 */
+	@Override
+	public boolean containsKey(long key) {
+		if (key == FREE) return freeValue != null;
+		return find(key) >= 0;
+	}
+	
+	/**
+	 * Increases the capacity of the map, if necessary, to ensure that it can hold
+	 * at least the given number of entries without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > maxFill) rehash(UHashCommon.tableLength(minCapacity, loadFactor));
+	}
+	
+	/**
+	 * Gets the value of the key.
+	 *
+	 * @param key The key of the value
+	 * @return the value of the key, or {@code null} if the map does not contain the key
+	 */
+	@Override
+	public @Nullable V get(long key) {
+		if (key == FREE) return value(freeValue);
+		
+		int slot = find(key);
+		return slot >= 0 ? value(values[slot]) : null;
+	}
+	
+	/**
+	 * Gets the value of the key, or the given default value if the map does not contain the key.
+	 *
+	 * @param key          The key of the value
+	 * @param defaultValue The value returned if the map does not contain the key
+	 * @return the value of the key, or the default value
+	 */
+	@Override
+	public V getOrDefault(long key, V defaultValue) {
+		V value = get(key);
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Returns an iterator over the keys of the map, without boxing and in no particular order.
+	 *
+	 * @return an iterator over the keys of the map
+	 */
+	@Override
+	public @NonNull PrimitiveIterator.OfLong keyIterator() {
+		return new KeyIterator();
+	}
+	
+	/**
+	 * Gets the keys of the map as a native array, in the same order as {@link #values()}.
+	 *
+	 * @return a native array with the keys
+	 */
+	@Override
+	public long[] keys() {
+		long[] result = new long[size()];
+		int index = 0;
+		for (long key : keys) {
+			if (key != FREE) result[index++] = key;
+		}
+		if (freeValue != null) result[index] = FREE;
+		
+		return result;
+	}
+	
+	/**
+	 * Associates the value with the key, replacing the previous value of the key.
+	 *
+	 * @param key   The key of the value
+	 * @param value The value of the key
+	 * @return the previous value of the key, or {@code null} if the map did not contain the key
+	 */
+	@Override
+	public @Nullable V put(long key, @NonNull V value) {
+		UAssert.paramNotNull(value, "V value");
+		if (key == FREE) {
+			V previous = value(freeValue);
+			freeValue = value;
+			return previous;
+		}
+		
+		int slot = find(key);
+		if (slot >= 0) {
+			V previous = value(values[slot]);
+			values[slot] = value;
+			return previous;
+		}
+		
+		slot = ~slot;
+		keys[slot] = key;
+		values[slot] = value;
+		if (++assigned > maxFill) rehash(keys.length << 1);
+		return null;
+	}
+	
+	/**
+	 * Removes the key and its value from the map.
+	 *
+	 * @param key The key to remove
+	 * @return the removed value, or {@code null} if the map did not contain the key
+	 */
+	@Override
+	public @Nullable V remove(long key) {
+		if (key == FREE) {
+			V previous = value(freeValue);
+			freeValue = null;
+			return previous;
+		}
+		
+		int slot = find(key);
+		if (slot < 0) return null;
+		
+		V previous = value(values[slot]);
+		shiftKeys(slot);
+		assigned--;
+		return previous;
+	}
+	
+	/**
+	 * Returns the number of entries of the map.
+	 *
+	 * @return The number of entries of the map.
+	 */
+	@Override
+	public int size() {
+		return freeValue != null ? assigned + 1 : assigned;
+	}
+	
+	/**
+	 * Gets the values of the map as a new collection, in the same order as {@link #keys()}.
+	 *
+	 * @return a collection with the values
+	 */
+	@Override
+	public @NonNull Collection<V> values() {
+		List<V> result = new ArrayList<>(size());
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) result.add(value(values[slot]));
+		}
+		if (freeValue != null) result.add(value(freeValue));
+		
+		return result;
+	}
+	
+	/**
+	 * Creates a copy of the map. The values are shared with the copy.
+	 *
+	 * @return A copy of the object.
+	 */
+	@Override
+	public @NonNull ULongObjectMap<V> copy() {
+		return new ULongObjectMapImpl<>(this);
+	}
+	
+	/**
+	 * Checks if the given object is a long map with the same entries.
+	 *
+	 * @param obj the object to compare
+	 * @return {@code true} if the object is a long map with the same entries
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof ULongObjectMap)) return false;
+		
+		ULongObjectMap<?> other = (ULongObjectMap<?>) obj;
+		if (other.size() != size()) return false;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE && !values[slot].equals(other.get(keys[slot]))) return false;
+		}
+		
+		return freeValue == null || freeValue.equals(other.get(FREE));
+	}
+	
+	/**
+	 * Gets the hash code of the map, the sum of the hash codes of its entries.
+	 *
+	 * @return the hash code of the map
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) hash += Long.hashCode(keys[slot]) ^ values[slot].hashCode();
+		}
+		if (freeValue != null) hash += freeValue.hashCode();
+		
+		return hash;
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@NonNull
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "{", "}");
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) joiner.add(keys[slot] + "=" + values[slot]);
+		}
+		if (freeValue != null) joiner.add(FREE + "=" + freeValue);
+		
+		return joiner.toString();
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Casts a value of the table to the type of the values. The table only stores values
+	 * given to {@link #put(long, Object)}, so the cast is always safe.
+	 *
+	 * @param value the value of the table
+	 * @return the same value
+	 */
+	@SuppressWarnings("unchecked")
+	private V value(Object value) {
+		return (V) value;
+	}
+	
+	/**
+	 * Replaces the tables with new empty tables of the given length.
+	 *
+	 * @param length the length of the tables
+	 */
+	private void allocate(int length) {
+		keys = new long[length];
+		values = new Object[length];
+		mask = length - 1;
+		maxFill = UHashCommon.maxFill(length, loadFactor);
+	}
+	
+	/**
+	 * Searches the slot of the given key, which is never the free key.
+	 *
+	 * @param key the key to search
+	 * @return the slot of the key, or the complement of the free slot where the key would be inserted
+	 */
+	private int find(long key) {
+		int slot = UHashCommon.mix(key) & mask;
+		for (long current = keys[slot]; current != FREE; current = keys[slot]) {
+			if (current == key) return slot;
+			slot = (slot + 1) & mask;
+		}
+		
+		return ~slot;
+	}
+	
+	/**
+	 * Moves all the entries to new tables of the given length.
+	 *
+	 * @param length the length of the new tables
+	 */
+	private void rehash(int length) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(length);
+		
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == FREE) continue;
+			
+			int slot = UHashCommon.mix(oldKeys[i]) & mask;
+			while (keys[slot] != FREE) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+	
+	/**
+	 * Frees the given slot, moving back the entries of the probe sequence that follows it.
+	 * The tables never contain deleted markers, so the searches do not slow down after
+	 * many removals.
+	 *
+	 * @param free the slot to free
+	 */
+	private void shiftKeys(int free) {
+		int slot = free;
+		while (true) {
+			slot = (slot + 1) & mask;
+			long current = keys[slot];
+			if (current == FREE) break;
+			
+			if (UHashCommon.canShift(free, slot, UHashCommon.mix(current) & mask)) {
+				keys[free] = current;
+				values[free] = values[slot];
+				free = slot;
+			}
+		}
+		
+		keys[free] = FREE;
+		// Release the reference, so the value can be collected
+		values[free] = null;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator over the keys of the table, followed by the free key if the map contains it.
+	 */
+	private final class KeyIterator implements PrimitiveIterator.OfLong {
+		
+		private int slot = -1;
+		private int remaining = size();
+		
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		@Override
+		public long nextLong() {
+			if (remaining <= 0) throw new NoSuchElementException();
+			remaining--;
+			
+			while (++slot < keys.length) {
+				if (keys[slot] != FREE) return keys[slot];
+			}
+			return FREE;
+		}
+	
+	}
+	
+}
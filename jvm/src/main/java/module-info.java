@@ -2,6 +2,7 @@ module uo.collection.utilities {
 	/* Library module dependencies */
 	requires uo.core.utilities;
 	requires static org.jetbrains.annotations;
+	requires jdk.unsupported;
 	
 	/* Library module package exports */
 	exports uoxx3.collection.array;
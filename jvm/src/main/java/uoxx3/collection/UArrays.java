@@ -7,6 +7,8 @@ import uoxx3.UObjects;
 import uoxx3.collection.array.*;
 import uoxx3.collection.internal.array.*;
 
+import java.nio.file.Path;
+
 public final class UArrays {
 	
 	/**
@@ -43,6 +45,217 @@ public final class UArrays {
 		return new UArrayImpl<>(component);
 	}
 	
+	/**
+	 * Creates a new empty UArray for the specified component type, initial capacity and growth policy.
+	 *
+	 * @param <T>       the type of the elements
+	 * @param component the class of the component type
+	 * @param capacity  the initial capacity of the array
+	 * @param policy    the policy used to grow the array storage
+	 * @return a new empty UArray for the specified component type
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static <T> @NotNull UArray<T> of(@NotNull Class<T> component, int capacity, @NotNull UGrowthPolicy policy) {
+		return new UArrayImpl<>(component, capacity, policy);
+	}
+	
+	/**
+	 * Creates a new append-only UIntegerArray with the specified int elements. Many threads
+	 * can append elements to the array at the same time without locks.
+	 *
+	 * @param elements the int elements to include in the array
+	 * @return a new append-only UIntegerArray containing the specified elements
+	 */
+	public static @NotNull UAppendOnlyIntegerArray appendOnlyOfInt(int... elements) {
+		return new UAppendOnlyIntegerArrayImpl(elements);
+	}
+	
+	/**
+	 * Creates a new append-only ULongArray with the specified long elements. Many threads
+	 * can append elements to the array at the same time without locks.
+	 *
+	 * @param elements the long elements to include in the array
+	 * @return a new append-only ULongArray containing the specified elements
+	 */
+	public static @NotNull UAppendOnlyLongArray appendOnlyOfLong(long... elements) {
+		return new UAppendOnlyLongArrayImpl(elements);
+	}
+	
+	/**
+	 * Creates a new read-only compressed UIntegerArray with the elements of the given array.
+	 * Sorted or clustered elements usually use between 3 and 8 times less memory than
+	 * a plain array.
+	 *
+	 * @param source the array with the elements to compress
+	 * @return a new compressed UIntegerArray containing the elements of the given array
+	 */
+	public static @NotNull UCompressedIntegerArray compressedOfInt(@NotNull UIntegerArray source) {
+		return new UCompressedIntegerArrayImpl(source);
+	}
+	
+	/**
+	 * Creates a new read-only compressed ULongArray with the elements of the given array.
+	 * Sorted or clustered elements usually use between 3 and 8 times less memory than
+	 * a plain array.
+	 *
+	 * @param source the array with the elements to compress
+	 * @return a new compressed ULongArray containing the elements of the given array
+	 */
+	public static @NotNull UCompressedLongArray compressedOfLong(@NotNull ULongArray source) {
+		return new UCompressedLongArrayImpl(source);
+	}
+	
+	/**
+	 * Creates a new thread-safe UArray with the specified elements. The array uses
+	 * copy-on-write semantics, so the readers never block and always see a consistent snapshot.
+	 *
+	 * @param <T>      the type of the elements
+	 * @param elements the elements to include in the array, can be null
+	 * @return a new thread-safe UArray containing the specified elements
+	 */
+	@SafeVarargs
+	public static <T> @NotNull UConcurrentArray<T> concurrentOf(T @Nullable ... elements) {
+		return new UConcurrentArrayImpl<>(elements);
+	}
+	
+	/**
+	 * Creates a new empty thread-safe UArray for the specified component type.
+	 *
+	 * @param <T>       the type of the elements
+	 * @param component the class of the component type
+	 * @return a new empty thread-safe UArray for the specified component type
+	 */
+	public static <T> @NotNull UConcurrentArray<T> concurrentOf(@NotNull Class<T> component) {
+		return new UConcurrentArrayImpl<>(component);
+	}
+	
+	/**
+	 * Creates a new thread-safe UIntegerArray with the specified int elements. The array uses
+	 * copy-on-write semantics, so the readers never block and always see a consistent snapshot.
+	 *
+	 * @param elements the int elements to include in the array
+	 * @return a new thread-safe UIntegerArray containing the specified elements
+	 */
+	public static @NotNull UConcurrentIntegerArray concurrentOfInt(int... elements) {
+		return new UConcurrentIntegerArrayImpl(elements);
+	}
+	
+	/**
+	 * Creates a new off-heap UByteArray with the specified byte elements. The memory
+	 * of the array is released when the array is closed.
+	 *
+	 * @param elements the byte elements to include in the array
+	 * @return a new off-heap UByteArray containing the specified elements
+	 */
+	public static @NotNull UDirectByteArray directOfByte(byte... elements) {
+		return new UDirectByteArrayImpl(elements);
+	}
+	
+	/**
+	 * Creates a new empty off-heap UByteArray with the specified initial capacity and growth policy.
+	 * The memory of the array is released when the array is closed.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to compute the new capacity when the array grows
+	 * @return a new empty off-heap UByteArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UDirectByteArray directOfByte(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UDirectByteArrayImpl(capacity, policy);
+	}
+	
+	/**
+	 * Opens a double array stored in the given memory-mapped file. The file is not read when
+	 * the array is opened, its content is paged in when the elements are accessed. A writable
+	 * array creates the file if it does not exist.
+	 *
+	 * @param file     the file that stores the elements
+	 * @param readOnly {@code true} to open the file in read-only mode
+	 * @return a new UMappedDoubleArray backed by the given file
+	 * @throws IllegalArgumentException     if the file size is not a multiple of the element size
+	 * @throws java.io.UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public static @NotNull UMappedDoubleArray mappedOfDouble(@NotNull Path file, boolean readOnly) {
+		return new UMappedDoubleArrayImpl(file, readOnly, UGrowthPolicy.defaultPolicy());
+	}
+	
+	/**
+	 * Opens a int array stored in the given memory-mapped file. The file is not read when
+	 * the array is opened, its content is paged in when the elements are accessed. A writable
+	 * array creates the file if it does not exist.
+	 *
+	 * @param file     the file that stores the elements
+	 * @param readOnly {@code true} to open the file in read-only mode
+	 * @return a new UMappedIntegerArray backed by the given file
+	 * @throws IllegalArgumentException     if the file size is not a multiple of the element size
+	 * @throws java.io.UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public static @NotNull UMappedIntegerArray mappedOfInt(@NotNull Path file, boolean readOnly) {
+		return new UMappedIntegerArrayImpl(file, readOnly, UGrowthPolicy.defaultPolicy());
+	}
+	
+	/**
+	 * Opens a long array stored in the given memory-mapped file. The file is not read when
+	 * the array is opened, its content is paged in when the elements are accessed. A writable
+	 * array creates the file if it does not exist.
+	 *
+	 * @param file     the file that stores the elements
+	 * @param readOnly {@code true} to open the file in read-only mode
+	 * @return a new UMappedLongArray backed by the given file
+	 * @throws IllegalArgumentException     if the file size is not a multiple of the element size
+	 * @throws java.io.UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public static @NotNull UMappedLongArray mappedOfLong(@NotNull Path file, boolean readOnly) {
+		return new UMappedLongArrayImpl(file, readOnly, UGrowthPolicy.defaultPolicy());
+	}
+	
+	/**
+	 * Creates a new persistent UArray with the specified elements. Every modification
+	 * of the array returns a new version that shares most of its structure with the previous one.
+	 *
+	 * @param <T>      the type of the elements
+	 * @param elements the elements to include in the array, can be null
+	 * @return a new persistent UArray containing the specified elements
+	 */
+	@SafeVarargs
+	public static <T> @NotNull UPersistentArray<T> persistentOf(T @Nullable ... elements) {
+		return new UPersistentArrayImpl<>(elements);
+	}
+	
+	/**
+	 * Creates a new empty persistent UArray for the specified component type.
+	 *
+	 * @param <T>       the type of the elements
+	 * @param component the class of the component type
+	 * @return a new empty persistent UArray for the specified component type
+	 */
+	public static <T> @NotNull UPersistentArray<T> persistentOf(@NotNull Class<T> component) {
+		return new UPersistentArrayImpl<>(component);
+	}
+	
+	/**
+	 * Creates a new UBooleanArray with the specified boolean elements. The elements
+	 * are stored packed, using a single bit per element.
+	 *
+	 * @param elements the boolean elements to include in the array
+	 * @return a new UBooleanArray containing the specified elements
+	 */
+	public static @NotNull UBooleanArray ofBoolean(boolean... elements) {
+		return new UBooleanArrayImpl(elements);
+	}
+	
+	/**
+	 * Creates a new empty UBooleanArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UBooleanArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UBooleanArray ofBoolean(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UBooleanArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UByteArray with the specified byte elements.
 	 *
@@ -65,6 +278,18 @@ public final class UArrays {
 			.get();
 	}
 	
+	/**
+	 * Creates a new empty UByteArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UByteArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UByteArray ofByte(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UByteArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UCharacterArray with the specified char elements.
 	 *
@@ -88,6 +313,18 @@ public final class UArrays {
 			.get();
 	}
 	
+	/**
+	 * Creates a new empty UCharacterArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UCharacterArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UCharacterArray ofChar(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UCharacterArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UDoubleArray with the specified double elements.
 	 *
@@ -98,6 +335,18 @@ public final class UArrays {
 		return new UDoubleArrayImpl(elements);
 	}
 	
+	/**
+	 * Creates a new empty UDoubleArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UDoubleArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UDoubleArray ofDouble(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UDoubleArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UFloatArray with the specified float elements.
 	 *
@@ -108,6 +357,18 @@ public final class UArrays {
 		return new UFloatArrayImpl(elements);
 	}
 	
+	/**
+	 * Creates a new empty UFloatArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UFloatArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UFloatArray ofFloat(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UFloatArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UIntegerArray with the specified int elements.
 	 *
@@ -118,6 +379,18 @@ public final class UArrays {
 		return new UIntegerArrayImpl(elements);
 	}
 	
+	/**
+	 * Creates a new empty UIntegerArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UIntegerArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UIntegerArray ofInt(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UIntegerArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new ULongArray with the specified long elements.
 	 *
@@ -128,6 +401,18 @@ public final class UArrays {
 		return new ULongArrayImpl(elements);
 	}
 	
+	/**
+	 * Creates a new empty ULongArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty ULongArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull ULongArray ofLong(int capacity, @NotNull UGrowthPolicy policy) {
+		return new ULongArrayImpl(capacity, policy);
+	}
+	
 	/**
 	 * Creates a new UShortArray with the specified short elements.
 	 *
@@ -150,4 +435,16 @@ public final class UArrays {
 			.get();
 	}
 	
+	/**
+	 * Creates a new empty UShortArray with the specified initial capacity and growth policy.
+	 *
+	 * @param capacity the initial capacity of the array
+	 * @param policy   the policy used to grow the array storage
+	 * @return a new empty UShortArray
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public static @NotNull UShortArray ofShort(int capacity, @NotNull UGrowthPolicy policy) {
+		return new UShortArrayImpl(capacity, policy);
+	}
+	
 }
\ No newline at end of file
@@ -25,4 +25,10 @@ public interface UCollectionConstants {
 	 */
 	int INDEX_NOT_FOUND = -1;
 	
+	/**
+	 * The minimum size of an array to be reduced in parallel by the threads of the common
+	 * fork/join pool. Below it, splitting the array costs more than the reduction itself.
+	 */
+	int PARALLEL_SIZE_THRESHOLD = 1 << 16;
+	
 }
@@ -9,11 +9,14 @@ import uoxx3.collection.UCollectionConstants;
 import uoxx3.collection.internal.UArrayType;
 import uoxx3.functional.function.UEmptyFun;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.Stack;
 import java.util.Vector;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
@@ -33,6 +36,45 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	@SuppressWarnings("unchecked")
 	void addAll(T @Nullable ... elements);
 	
+	/**
+	 * Add all the elements of the given iterable. If the iterable is a collection,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The iterable with all the elements wants to add
+	 */
+	void addAll(@NotNull Iterable<? extends T> elements);
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NotNull UArray<? extends T> elements);
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	void addAll(@NotNull Spliterator<? extends T> elements);
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	void addAll(@NotNull Stream<? extends T> elements);
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
 	/**
 	 * Checks if the array contains the specified value.
 	 *
@@ -41,6 +83,14 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	 */
 	boolean contains(@Nullable T value);
 	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
 	/**
 	 * Performs the given action on each item in the array, ignoring all {@code null} elements.
 	 *
@@ -60,12 +110,9 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	 */
 	default void forEachIndexedNotNull(@NotNull UEmptyFun.UEmptyFun2<Integer, T> consumer) {
 		UAssert.paramNotNull(consumer, "UEmptyFun.UEmptyFun2<Integer, T> consumer");
-		
-		int counter = 0;
-		for (T element : this) {
-			if (element != null) consumer.invoke(counter, element);
-			counter++;
-		}
+		forEachIndexedObj((index, element) -> {
+			if (element != null) consumer.invoke(index, element);
+		});
 	}
 	
 	/**
@@ -100,6 +147,27 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	 */
 	int indexOf(@Nullable T value);
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, @Nullable T element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@SuppressWarnings("unchecked")
+	void insertAll(int index, T @Nullable ... elements);
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -110,6 +178,74 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	 */
 	int lastIndexOf(@Nullable T value);
 	
+	/**
+	 * Gets a parallel Stream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return A parallel Stream of the elements in the array.
+	 */
+	@NotNull
+	@Override
+	default Stream<T> parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	T removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	boolean removeIf(@NotNull Predicate<? super T> filter);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given collection.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The collection with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	boolean retainAll(@NotNull Collection<?> elements);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UArray<T> slice(int fromIndex, int toIndex);
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
 	 *
@@ -118,6 +254,12 @@ public interface UArray<T> extends UArrayType<T>, UCopyable<UArray<T>> {
 	@NotNull
 	Stream<T> stream();
 	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
 	/* -----------------------------------------------------
 	 * Conversions
 	 * ----------------------------------------------------- */
@@ -2,10 +2,18 @@ package uoxx3.collection.array;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
+import uoxx3.UAssert;
 import uoxx3.UCopyable;
 import uoxx3.collection.UCollectionConstants;
 import uoxx3.collection.internal.UArrayType;
+import uoxx3.collection.internal.array.UArrayCodec;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
 public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
@@ -31,6 +39,56 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	 */
 	void addAll(byte... elements);
 	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NotNull UByteArray elements);
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	default int binarySearch(@Range(from = Byte.MIN_VALUE, to = Byte.MAX_VALUE) int value) {
+		int low = 0;
+		int high = size() - 1;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			byte element = get(middle);
+			
+			if (element < (byte) value) low = middle + 1;
+			else if (element > (byte) value) high = middle - 1;
+			else return middle;
+		}
+		
+		return -(low + 1);
+	}
+	
+	/**
+	 * Gets an iterator over the elements of the array that returns them without boxing,
+	 * as int values.
+	 *
+	 * @return an iterator over the elements of the array
+	 */
+	@NotNull
+	PrimitiveIterator.OfInt byteIterator();
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
 	/**
 	 * Checks if the array contains the specified value.
 	 *
@@ -39,6 +97,40 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	 */
 	boolean contains(@Range(from = Byte.MIN_VALUE, to = Byte.MAX_VALUE) int value);
 	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements, as int values.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	default void forEachByte(@NotNull IntConsumer action) {
+		UAssert.paramNotNull(action, "IntConsumer action");
+		byteIterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed, widened to {@code int}.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	default void forEachIndexedByte(@NotNull UIndexedConsumer.OfInt consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfInt consumer");
+		
+		int counter = 0;
+		for (PrimitiveIterator.OfInt iterator = byteIterator(); iterator.hasNext(); ) {
+			consumer.accept(counter++, iterator.nextInt());
+		}
+	}
+	
 	/**
 	 * Gets the index of the array
 	 *
@@ -61,6 +153,20 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	 */
 	byte[] getArray();
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 * <p>
+	 * The default implementation returns {@link #getArray()}, which already returns a copy
+	 * for every array that does not wrap a native array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	default byte[] toArray() {
+		return getArray();
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -71,6 +177,83 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	 */
 	int indexOf(@Range(from = Byte.MIN_VALUE, to = Byte.MAX_VALUE) int value);
 	
+	/**
+	 * Returns the index where the first occurrence of the specified sequence of bytes starts
+	 * in the array, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the sequence is not found.
+	 * An empty sequence is found at the index zero.
+	 *
+	 * @param sequence The bytes to search for.
+	 * @return The index where the first occurrence of the sequence starts, or
+	 * 	{@link UCollectionConstants#INDEX_NOT_FOUND} if the sequence is not found.
+	 */
+	default int indexOf(byte @NotNull [] sequence) {
+		int last = size() - sequence.length;
+		
+		search:
+		for (int i = 0; i <= last; i++) {
+			for (int j = 0; j < sequence.length; j++) {
+				if (get(i + j) != sequence[j]) continue search;
+			}
+			return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Returns the index of the first element of the array equal to any of the specified values,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if none of the values is found.
+	 *
+	 * @param values The values to search for.
+	 * @return The index of the first occurrence of any of the values, or
+	 * 	{@link UCollectionConstants#INDEX_NOT_FOUND} if none of the values is found.
+	 */
+	default int indexOfAny(byte @NotNull ... values) {
+		for (int i = 0; i < size(); i++) {
+			byte element = get(i);
+			for (byte value : values) {
+				if (element == value) return i;
+			}
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, @Range(from = Byte.MIN_VALUE, to = Byte.MAX_VALUE) int element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insertAll(int index, byte... elements);
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan. The arrays that do not track their
+	 * order always return {@code false}.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	default boolean isSorted() {
+		return false;
+	}
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -81,6 +264,106 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	 */
 	int lastIndexOf(@Range(from = Byte.MIN_VALUE, to = Byte.MAX_VALUE) int value);
 	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void parallelSort() {
+		sort();
+	}
+	
+	/**
+	 * Gets a parallel IntStream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return A parallel IntStream of the elements in the array.
+	 */
+	@NotNull
+	@Override
+	default IntStream parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo(WritableByteChannel)} from the given channel
+	 * and adds all its elements to the end of this array. The elements are transferred in large
+	 * chunks and the channel is never read beyond the end of the array.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a byte array
+	 */
+	default void readFrom(@NotNull ReadableByteChannel channel) throws IOException {
+		addAll(UArrayCodec.readBytes(channel));
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	byte removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	boolean removeIf(@NotNull IntPredicate filter);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	boolean retainAll(@NotNull UByteArray elements);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UByteArray slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void sort() {
+		throw new UnsupportedOperationException("The array cannot be sorted");
+	}
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
 	 *
@@ -89,4 +372,22 @@ public interface UByteArray extends UArrayType<Byte>, UCopyable<UByteArray> {
 	@NotNull
 	IntStream stream();
 	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are transferred in large chunks instead of one by one.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	default void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, toArray());
+	}
+	
 }
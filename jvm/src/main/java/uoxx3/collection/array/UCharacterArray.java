@@ -1,14 +1,34 @@
 package uoxx3.collection.array;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
+import uoxx3.UAssert;
 import uoxx3.UCopyable;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.UCharacterSet;
+import uoxx3.collection.collection.USet;
 import uoxx3.collection.internal.UArrayType;
+import uoxx3.collection.internal.array.UArrayCodec;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-public interface UCharacterArray extends UArrayType<Character>, UCopyable<UCharacterArray> {
+/**
+ * Mutable array of char elements.
+ * <p>
+ * The array is also a {@link CharSequence} and an {@link Appendable}, so it can be used as a
+ * growable text buffer: the appended text is copied in bulk into the storage, and the text
+ * is read back with a single copy by {@link #asString()}, or without any copy through the
+ * {@link CharSequence} methods.
+ */
+public interface UCharacterArray extends UArrayType<Character>, UCopyable<UCharacterArray>, CharSequence, Appendable {
 	
 	/**
 	 * Add a new element to the array
@@ -38,6 +58,124 @@ public interface UCharacterArray extends UArrayType<Character>, UCopyable<UChara
 	 */
 	void addAll(char... elements);
 	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NotNull UCharacterArray elements);
+	
+	/**
+	 * Appends the given character to the end of the array.
+	 *
+	 * @param element The character to append
+	 * @return this array
+	 */
+	@NotNull
+	@Override
+	UCharacterArray append(char element);
+	
+	/**
+	 * Appends all the characters of the given sequence to the end of the array. The characters
+	 * of strings, string builders and char arrays are copied in bulk. If the sequence is {@code null},
+	 * the four characters {@code "null"} are appended.
+	 *
+	 * @param sequence The sequence to append
+	 * @return this array
+	 */
+	@NotNull
+	@Override
+	UCharacterArray append(@Nullable CharSequence sequence);
+	
+	/**
+	 * Appends the characters of the given sequence between the start index, inclusive, and
+	 * the end index, exclusive, to the end of the array. If the sequence is {@code null},
+	 * the characters are taken from the four characters {@code "null"}.
+	 *
+	 * @param sequence The sequence to append
+	 * @param start    The index of the first character to append
+	 * @param end      The index after the last character to append
+	 * @return this array
+	 * @throws IndexOutOfBoundsException if the range is not part of the sequence limits
+	 */
+	@NotNull
+	@Override
+	UCharacterArray append(@Nullable CharSequence sequence, int start, int end);
+	
+	/**
+	 * Creates a string with the characters of the array. The characters are copied once,
+	 * straight from the storage into the string.
+	 *
+	 * @return a string with the characters of the array
+	 */
+	@NotNull
+	String asString();
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	default int binarySearch(char value) {
+		int low = 0;
+		int high = size() - 1;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			char element = get(middle);
+			
+			if (element < value) low = middle + 1;
+			else if (element > value) high = middle - 1;
+			else return middle;
+		}
+		
+		return -(low + 1);
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
+	/**
+	 * Gets the character at the given index. This is the same element returned by {@link #get(int)}.
+	 *
+	 * @param index The index of the character
+	 * @return the character at the index
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	default char charAt(int index) {
+		return get(index);
+	}
+	
+	/**
+	 * Gets an iterator over the elements of the array that returns them without boxing,
+	 * as int values.
+	 *
+	 * @return an iterator over the elements of the array
+	 */
+	@NotNull
+	PrimitiveIterator.OfInt charIterator();
+	
+	/**
+	 * Gets a sequential stream with the characters of the array as int values,
+	 * without boxing them.
+	 *
+	 * @return An IntStream of the characters in the array.
+	 */
+	@NotNull
+	@Override
+	IntStream chars();
+	
 	/**
 	 * Checks if the array contains the specified value.
 	 *
@@ -54,6 +192,40 @@ public interface UCharacterArray extends UArrayType<Character>, UCopyable<UChara
 	 */
 	boolean contains(char value);
 	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements, as int values.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	default void forEachChar(@NotNull IntConsumer action) {
+		UAssert.paramNotNull(action, "IntConsumer action");
+		charIterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed, widened to {@code int}.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	default void forEachIndexedChar(@NotNull UIndexedConsumer.OfInt consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfInt consumer");
+		
+		int counter = 0;
+		for (PrimitiveIterator.OfInt iterator = charIterator(); iterator.hasNext(); ) {
+			consumer.accept(counter++, iterator.nextInt());
+		}
+	}
+	
 	/**
 	 * Gets the index of the array
 	 *
@@ -76,6 +248,20 @@ public interface UCharacterArray extends UArrayType<Character>, UCopyable<UChara
 	 */
 	char[] getArray();
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 * <p>
+	 * The default implementation returns {@link #getArray()}, which already returns a copy
+	 * for every array that does not wrap a native array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	default char[] toArray() {
+		return getArray();
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -96,6 +282,51 @@ public interface UCharacterArray extends UArrayType<Character>, UCopyable<UChara
 	 */
 	int indexOf(char value);
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, char element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insertAll(int index, char... elements);
+	
+	/**
+	 * Returns true if the array is empty, false otherwise.
+	 *
+	 * @return true if the array is empty, false otherwise.
+	 */
+	@Override
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan. The arrays that do not track their
+	 * order always return {@code false}.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	default boolean isSorted() {
+		return false;
+	}
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -116,12 +347,178 @@ public interface UCharacterArray extends UArrayType<Character>, UCopyable<UChara
 	 */
 	int lastIndexOf(char value);
 	
+	/**
+	 * Gets the number of characters of the array. This is the same value returned by {@link #size()}.
+	 *
+	 * @return the number of characters of the array
+	 */
+	@Override
+	default int length() {
+		return size();
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void parallelSort() {
+		sort();
+	}
+	
+	/**
+	 * Gets a parallel Stream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 * The elements are boxed; {@code chars().parallel()} returns them without boxing.
+	 *
+	 * @return A parallel Stream of the elements in the array.
+	 */
+	@NotNull
+	@Override
+	default Stream<Character> parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo(WritableByteChannel)} from the given channel
+	 * and adds all its elements to the end of this array. The elements are transferred in large
+	 * chunks and the channel is never read beyond the end of the array.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a char array
+	 */
+	default void readFrom(@NotNull ReadableByteChannel channel) throws IOException {
+		addAll(UArrayCodec.readChars(channel));
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	char removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	boolean removeIf(@NotNull IntPredicate filter);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	boolean retainAll(@NotNull UCharacterArray elements);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UCharacterArray slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void sort() {
+		throw new UnsupportedOperationException("The array cannot be sorted");
+	}
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
+	 * The elements are boxed; {@link #chars()} returns them without boxing.
 	 *
 	 * @return A Stream of the elements in the array.
 	 */
 	@NotNull
 	Stream<Character> stream();
 	
+	/**
+	 * Gets a view of the characters between the start index, inclusive, and the end index,
+	 * exclusive. This is the same view returned by {@link #slice(int, int)}, so no
+	 * character is copied.
+	 *
+	 * @param start The index of the first character of the view
+	 * @param end   The index after the last character of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	default UCharacterArray subSequence(int start, int end) {
+		return slice(start, end);
+	}
+	
+	/**
+	 * Converts the array to a mutable char set. The elements are stored unboxed
+	 * in an open-addressing hash table sized for the array.
+	 *
+	 * @return a mutable set containing the elements of the array
+	 */
+	default @NotNull UCharacterSet toCharSet() {
+		return USet.makeChar(this);
+	}
+	
+	/**
+	 * Gets the characters of the array as a string, as required by {@link CharSequence}.
+	 * This is the same string returned by {@link #asString()}.
+	 *
+	 * @return a string with the characters of the array
+	 */
+	@NotNull
+	@Override
+	String toString();
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are transferred in large chunks instead of one by one.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	default void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, toArray());
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package uoxx3.collection.array;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe int array with copy-on-write semantics.
+ * <p>
+ * The elements are stored in an immutable snapshot that is replaced on every modification,
+ * so the read operations never block and always see a consistent state of the array.
+ * This array is suitable for data that is read by many threads and rarely modified.
+ */
+public interface UConcurrentIntegerArray extends UIntegerArray {
+	
+	/**
+	 * Performs multiple modifications of the array as a single atomic operation. All the
+	 * modifications are applied to a private copy of the array, which is published once
+	 * the action finishes, instead of copying the array on every modification.
+	 * <p>
+	 * The array given to the action must not be used after the action returns.
+	 *
+	 * @param action The action that modifies the array
+	 */
+	void update(@NotNull Consumer<? super UIntegerArray> action);
+	
+}
@@ -0,0 +1,61 @@
+package uoxx3.collection.array;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Byte array that stores its elements off-heap, in a direct {@link ByteBuffer}.
+ * <p>
+ * The elements are not part of the heap, so they do not increase the garbage collection
+ * pauses, and they can be written to a channel without copying them first.
+ * The memory of the array is released when the array is closed; any access after that
+ * throws an {@link IllegalStateException}. This array is not thread-safe.
+ */
+public interface UDirectByteArray extends UByteArray, AutoCloseable {
+	
+	/**
+	 * Gets a read-only buffer with the elements of the array. The buffer shares
+	 * the memory of the array, so no element is copied.
+	 * <p>
+	 * The buffer must not be used after the array is closed or modified.
+	 *
+	 * @return a read-only direct buffer with the elements of the array
+	 * @throws IllegalStateException if the array is closed
+	 */
+	@NotNull
+	ByteBuffer asByteBuffer();
+	
+	/**
+	 * Releases the memory of the array. Closing a view only detaches it from the array,
+	 * the memory is released when the array that owns it is closed.
+	 * <p>
+	 * Closing an array that is already closed has no effect.
+	 */
+	@Override
+	void close();
+	
+	/**
+	 * Checks if the array is closed.
+	 *
+	 * @return {@code true} if the array or the array that owns its memory is closed
+	 */
+	boolean isClosed();
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the memory of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The view cannot be used after the array is closed.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UDirectByteArray slice(int fromIndex, int toIndex);
+	
+}
\ No newline at end of file
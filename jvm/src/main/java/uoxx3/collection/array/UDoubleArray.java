@@ -1,10 +1,23 @@
 package uoxx3.collection.array;
 
 import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
 import uoxx3.UCopyable;
+import uoxx3.collection.UArrays;
 import uoxx3.collection.UCollectionConstants;
 import uoxx3.collection.internal.UArrayType;
+import uoxx3.collection.internal.array.UArrayCodec;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 import java.util.stream.DoubleStream;
 
 public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray> {
@@ -23,6 +36,86 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	 */
 	void addAll(double... elements);
 	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	void addAll(@NotNull UDoubleArray elements);
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	void addAll(@NotNull DoubleStream elements);
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	void addAll(@NotNull Spliterator.OfDouble elements);
+	
+	/**
+	 * Calculates the arithmetic mean of the elements of the array. The mean is calculated from the
+	 * compensated sum of the elements. Large arrays are reduced in parallel by the threads of the
+	 * common fork/join pool.
+	 *
+	 * @return the mean of the elements, or an empty optional if the array is empty
+	 */
+	@NotNull
+	default OptionalDouble average() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).average();
+	}
+	
+	/**
+	 * Searches the specified value with the binary search algorithm. The array must be sorted
+	 * in ascending order, otherwise the result is undefined. If the array contains multiple
+	 * elements equal to the value, there is no guarantee which one will be found.
+	 *
+	 * @param value The value to search for.
+	 * @return the index of the value, if it is contained in the array; otherwise,
+	 * 	{@code (-(insertion point) - 1)}, where the insertion point is the index of the first
+	 * 	element greater than the value, or the size of the array if all the elements are less than it.
+	 */
+	default int binarySearch(double value) {
+		int low = 0;
+		int high = size() - 1;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			double element = get(middle);
+			
+			if (Double.compare(element, value) < 0) low = middle + 1;
+			else if (Double.compare(element, value) > 0) high = middle - 1;
+			else return middle;
+		}
+		
+		return -(low + 1);
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	int capacity();
+	
+	/**
+	 * Adds all the elements of the array, compensating the rounding error of every addition with
+	 * the Kahan summation, so the result does not depend on the order of the additions. Large
+	 * arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	default double compensatedSum() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).sum();
+	}
+	
 	/**
 	 * Checks if the array contains the specified value.
 	 *
@@ -31,6 +124,57 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	 */
 	boolean contains(double value);
 	
+	/**
+	 * Counts the number of elements of the array equal to the specified value.
+	 * <p>
+	 * The elements are compared with {@code ==}, so {@code NaN} is never counted and both zeros are equal.
+	 *
+	 * @param value The value to count.
+	 * @return the number of occurrences of the value in the array
+	 */
+	default int count(double value) {
+		int count = 0;
+		for (int i = 0; i < size(); i++) {
+			if (get(i) == value) count++;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Performs the given action on each element of the array, in order, without boxing
+	 * the elements.
+	 *
+	 * @param action The action to perform on each element
+	 */
+	default void forEachDouble(@NotNull DoubleConsumer action) {
+		UAssert.paramNotNull(action, "DoubleConsumer action");
+		iterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs the given action on each element of the array, in order, passing the index
+	 * of the element as a parameter. Neither the index nor the element are boxed.
+	 *
+	 * @param consumer The action to perform on each element
+	 */
+	default void forEachIndexedDouble(@NotNull UIndexedConsumer.OfDouble consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer.OfDouble consumer");
+		
+		int counter = 0;
+		for (PrimitiveIterator.OfDouble iterator = iterator(); iterator.hasNext(); ) {
+			consumer.accept(counter++, iterator.nextDouble());
+		}
+	}
+	
 	/**
 	 * Gets the index of the array
 	 *
@@ -53,6 +197,20 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	 */
 	double[] getArray();
 	
+	/**
+	 * Gets a copy of the elements of the array as a native array. Unlike {@link #getArray()},
+	 * the array is only read: a view is not detached, the capacity is kept and the sorted state
+	 * is not cleared. The returned array is never shared with the array.
+	 * <p>
+	 * The default implementation returns {@link #getArray()}, which already returns a copy
+	 * for every array that does not wrap a native array.
+	 *
+	 * @return a new native array with the elements of the array
+	 */
+	default double[] toArray() {
+		return getArray();
+	}
+	
 	/**
 	 * Returns the index of the first occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -63,6 +221,51 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	 */
 	int indexOf(double value);
 	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insert(int index, double element);
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	void insertAll(int index, double... elements);
+	
+	/**
+	 * Checks if the array is known to be sorted in ascending order. The array becomes sorted
+	 * when {@link #sort()} or {@link #parallelSort()} is called, and stays sorted while the elements
+	 * are removed, or added one at a time in ascending order; any other modification clears the state.
+	 * <p>
+	 * While the array is sorted, {@link #indexOf}, {@link #lastIndexOf} and {@link #contains}
+	 * use a binary search instead of a linear scan. The arrays that do not track their
+	 * order always return {@code false}.
+	 *
+	 * @return {@code true} if the array is known to be sorted
+	 */
+	default boolean isSorted() {
+		return false;
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfDouble#nextDouble()}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	PrimitiveIterator.OfDouble iterator();
+	
 	/**
 	 * Returns the index of the last occurrence of the specified value in the array,
 	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
@@ -73,6 +276,181 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	 */
 	int lastIndexOf(double value);
 	
+	/**
+	 * Finds the largest element of the array. A {@code NaN} element is the result, and the
+	 * negative zero is smaller than the positive zero. Large arrays are reduced in parallel by the
+	 * threads of the common fork/join pool.
+	 *
+	 * @return the largest element, or an empty optional if the array is empty
+	 */
+	@NotNull
+	default OptionalDouble max() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).max();
+	}
+	
+	/**
+	 * Finds the smallest element of the array. A {@code NaN} element is the result, and the
+	 * negative zero is smaller than the positive zero. Large arrays are reduced in parallel by the
+	 * threads of the common fork/join pool.
+	 *
+	 * @return the smallest element, or an empty optional if the array is empty
+	 */
+	@NotNull
+	default OptionalDouble min() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).min();
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool with a two-pass algorithm. The first pass scans ranges of the array in
+	 * parallel, and the second pass combines every range with the result of the ranges before it.
+	 * Small arrays are scanned sequentially.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined. The floating point additions are not exactly associative, so the result can
+	 * differ from {@link #scan} in the last bits.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void parallelScan(@NotNull DoubleBinaryOperator operator) {
+		scan(operator);
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. Large arrays are sorted faster than with {@link #sort()},
+	 * while small arrays are sorted sequentially.
+	 * <p>
+	 * The elements are ordered as {@link Double#compare(double, double)}, so {@code -0.0} goes
+	 * before {@code 0.0} and {@code NaN} goes after every other value.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void parallelSort() {
+		sort();
+	}
+	
+	/**
+	 * Gets a parallel DoubleStream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return A parallel DoubleStream of the elements in the array.
+	 */
+	@NotNull
+	@Override
+	default DoubleStream parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Replaces every element of the array with the sum of the element and all the elements before
+	 * it (an inclusive prefix sum). Large arrays are scanned in parallel by the threads of the
+	 * common fork/join pool.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void prefixSum() {
+		if (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD) {
+			scan(Double::sum);
+		} else {
+			parallelScan(Double::sum);
+		}
+	}
+	
+	/**
+	 * Reads an array written with {@link #writeTo(WritableByteChannel)} from the given channel
+	 * and adds all its elements to the end of this array. The elements are transferred in large
+	 * chunks and the channel is never read beyond the end of the array.
+	 *
+	 * @param channel The channel where the array is read
+	 * @throws IOException if an I/O error occurs or the channel does not contain a double array
+	 */
+	default void readFrom(@NotNull ReadableByteChannel channel) throws IOException {
+		addAll(UArrayCodec.readDoubles(channel));
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	double removeAt(int index);
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The array
+	 * is compacted in a single pass, without allocating any temporary storage.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	boolean removeIf(@NotNull DoublePredicate filter);
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	void removeRange(int fromIndex, int toIndex);
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	boolean retainAll(@NotNull UDoubleArray elements);
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UDoubleArray slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element, so every element holds the cumulative result of all
+	 * the elements up to it (an inclusive scan). The first element does not change. The operator
+	 * is applied in order, so it does not need to be associative.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 * @throws UnsupportedOperationException if the array cannot modify its elements
+	 */
+	default void scan(@NotNull DoubleBinaryOperator operator) {
+		throw new UnsupportedOperationException("The array cannot be modified");
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order.
+	 * The elements are ordered as {@link Double#compare(double, double)}, so {@code -0.0} goes
+	 * before {@code 0.0} and {@code NaN} goes after every other value.
+	 *
+	 * @throws UnsupportedOperationException if the array cannot reorder its elements
+	 */
+	default void sort() {
+		throw new UnsupportedOperationException("The array cannot be sorted");
+	}
+	
 	/**
 	 * Gets a sequential Stream with the elements of the array as its source.
 	 *
@@ -81,4 +459,64 @@ public interface UDoubleArray extends UArrayType<Double>, UCopyable<UDoubleArray
 	@NotNull
 	DoubleStream stream();
 	
+	/**
+	 * Adds all the elements of the array. The rounding error of the additions is not compensated,
+	 * so the result depends on the order of the additions; see {@link #compensatedSum()}. Large
+	 * arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the sum of the elements
+	 */
+	default double sum() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).sum();
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements of the array in a single
+	 * pass. Large arrays are reduced in parallel by the threads of the common fork/join pool.
+	 *
+	 * @return the statistics of the elements
+	 */
+	@NotNull
+	default DoubleSummaryStatistics summaryStatistics() {
+		return (size() < UCollectionConstants.PARALLEL_SIZE_THRESHOLD ? stream() : parallelStream()).summaryStatistics();
+	}
+	
+	/**
+	 * Gets a new array with the inclusive prefix sums of the elements, without modifying this
+	 * array. The elements are added in order by a single thread; the implementations may scan
+	 * large arrays in parallel.
+	 *
+	 * @return a new array where every element is the sum of the elements up to its index
+	 */
+	@NotNull
+	default UDoubleArray toPrefixSum() {
+		double[] sums = new double[size()];
+		double sum = 0;
+		int index = 0;
+		for (PrimitiveIterator.OfDouble iterator = iterator(); iterator.hasNext(); ) {
+			sum += iterator.nextDouble();
+			sums[index++] = sum;
+		}
+		
+		return UArrays.ofDouble(sums);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	void trimToSize();
+	
+	/**
+	 * Writes the elements of the array to the given channel with a compact binary format: a small
+	 * versioned header with the element type, the byte order and the length, followed by the
+	 * raw elements. The elements are transferred in large chunks instead of one by one.
+	 *
+	 * @param channel The channel where the array is written
+	 * @throws IOException if an I/O error occurs
+	 */
+	default void writeTo(@NotNull WritableByteChannel channel) throws IOException {
+		UArrayCodec.write(channel, toArray());
+	}
+	
 }
\ No newline at end of file
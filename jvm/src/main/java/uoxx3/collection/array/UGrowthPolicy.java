@@ -0,0 +1,107 @@
+package uoxx3.collection.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.collection.UCollectionConstants;
+
+/**
+ * Strategy used by the array implementations to calculate the new capacity of their
+ * storage when it is full.
+ * <p>
+ * The value returned by the policy is only a suggestion: the arrays always reserve at least
+ * the capacity they require and never more than the maximum length supported by the virtual machine.
+ */
+@FunctionalInterface
+public interface UGrowthPolicy {
+	
+	/**
+	 * Calculates the new capacity of an array storage.
+	 *
+	 * @param capacity     the current capacity of the array
+	 * @param minCapacity  the minimum capacity the array requires
+	 * @param elementBytes the size in bytes of a single element of the array
+	 * @return the suggested new capacity of the array
+	 */
+	long grow(int capacity, int minCapacity, int elementBytes);
+	
+	/* -----------------------------------------------------
+	 * Policy generators
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Gets the policy used by the arrays when no policy is specified.
+	 *
+	 * @return the default growth policy
+	 * @see #oneAndHalf()
+	 */
+	static @NotNull UGrowthPolicy defaultPolicy() {
+		return oneAndHalf();
+	}
+	
+	/**
+	 * Creates a policy that doubles the capacity of the array on each reallocation.
+	 * This policy favors the append throughput at the cost of memory.
+	 *
+	 * @return a doubling growth policy
+	 */
+	static @NotNull UGrowthPolicy doubling() {
+		return (capacity, minCapacity, elementBytes) -> Math.max(
+			2L * capacity,
+			UCollectionConstants.COLLECTION_SIZE_THRESHOLD
+		);
+	}
+	
+	/**
+	 * Creates a policy that increases the capacity of the array by half of its current value
+	 * on each reallocation.
+	 *
+	 * @return a growth policy with a factor of 1.5
+	 */
+	static @NotNull UGrowthPolicy oneAndHalf() {
+		return (capacity, minCapacity, elementBytes) -> Math.max(
+			capacity + ((long) capacity >> 1),
+			UCollectionConstants.COLLECTION_SIZE_THRESHOLD
+		);
+	}
+	
+	/**
+	 * Creates a policy that increases the capacity of the array by a fixed number of elements
+	 * on each reallocation. This policy favors the memory usage at the cost of the append throughput.
+	 *
+	 * @param chunk the number of elements added to the capacity
+	 * @return a fixed-chunk growth policy
+	 * @throws IllegalArgumentException if the chunk is not a positive number
+	 */
+	static @NotNull UGrowthPolicy fixedChunk(int chunk) {
+		if (chunk <= 0) {
+			throw new IllegalArgumentException("The chunk size must be positive: " + chunk);
+		}
+		
+		return (capacity, minCapacity, elementBytes) -> (long) capacity + chunk;
+	}
+	
+	/**
+	 * Creates a policy that doubles the capacity of the array while the growth is smaller than
+	 * the given number of bytes, and then increases the capacity by that amount of memory.
+	 * This policy is suitable for large, long-lived arrays.
+	 *
+	 * @param maxBytes the maximum number of bytes reserved on each reallocation
+	 * @return a capped growth policy
+	 * @throws IllegalArgumentException if the number of bytes is not a positive number
+	 */
+	static @NotNull UGrowthPolicy capped(long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("The maximum number of bytes must be positive: " + maxBytes);
+		}
+		
+		return (capacity, minCapacity, elementBytes) -> {
+			long maxElements = Math.max(1L, maxBytes / Math.max(1, elementBytes));
+			long increment = Math.min(
+				Math.max(capacity, UCollectionConstants.COLLECTION_SIZE_THRESHOLD),
+				maxElements
+			);
+			
+			return capacity + increment;
+		};
+	}
+	
+}
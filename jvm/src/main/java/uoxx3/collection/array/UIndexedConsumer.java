@@ -0,0 +1,75 @@
+package uoxx3.collection.array;
+
+/**
+ * Operation that accepts an element of an array together with its index. The index
+ * is never boxed, and the nested consumers also receive the primitive elements without
+ * boxing, widened to {@code int}, {@code long} or {@code double}.
+ *
+ * @param <T> the type of the elements
+ */
+@FunctionalInterface
+public interface UIndexedConsumer<T> {
+	
+	/**
+	 * Performs the operation on the given element.
+	 *
+	 * @param index   the index of the element
+	 * @param element the element
+	 */
+	void accept(int index, T element);
+	
+	/* -----------------------------------------------------
+	 * Primitive consumers
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Operation that accepts an {@code int} element, or a narrower integral element,
+	 * together with its index.
+	 */
+	@FunctionalInterface
+	interface OfInt {
+		
+		/**
+		 * Performs the operation on the given element.
+		 *
+		 * @param index   the index of the element
+		 * @param element the element
+		 */
+		void accept(int index, int element);
+	
+	}
+	
+	/**
+	 * Operation that accepts a {@code long} element together with its index.
+	 */
+	@FunctionalInterface
+	interface OfLong {
+		
+		/**
+		 * Performs the operation on the given element.
+		 *
+		 * @param index   the index of the element
+		 * @param element the element
+		 */
+		void accept(int index, long element);
+	
+	}
+	
+	/**
+	 * Operation that accepts a {@code double} element, or a {@code float} element,
+	 * together with its index.
+	 */
+	@FunctionalInterface
+	interface OfDouble {
+		
+		/**
+		 * Performs the operation on the given element.
+		 *
+		 * @param index   the index of the element
+		 * @param element the element
+		 */
+		void accept(int index, double element);
+	
+	}
+	
+}
@@ -0,0 +1,142 @@
+package uoxx3.collection.array;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.internal.UArrayType;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable array where every modification returns a new version of the array.
+ * <p>
+ * The versions share most of their structure, so the modifications only copy
+ * a few small nodes instead of the whole array.
+ */
+public interface UPersistentArray<T> extends UArrayType<T> {
+	
+	/**
+	 * Creates a new version of the array with the given element at the end.
+	 *
+	 * @param element The element to add
+	 * @return a new version of the array containing the element
+	 */
+	@NotNull
+	UPersistentArray<T> add(@Nullable T element);
+	
+	/**
+	 * Creates a new version of the array with the given elements at the end.
+	 *
+	 * @param elements All the elements wants to add
+	 * @return a new version of the array containing the elements
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	UPersistentArray<T> addAll(T @Nullable ... elements);
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	boolean contains(@Nullable T value);
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	T get(int index);
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	int indexOf(@Nullable T value);
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	int lastIndexOf(@Nullable T value);
+	
+	/**
+	 * Gets a parallel Stream with the elements of the array as its source. The stream splits
+	 * the array in ranges of similar size, so the work is divided evenly between the threads
+	 * of the common fork/join pool.
+	 *
+	 * @return A parallel Stream of the elements in the array.
+	 */
+	@NotNull
+	@Override
+	default Stream<T> parallelStream() {
+		return stream().parallel();
+	}
+	
+	/**
+	 * Creates a new version of the array with the element at the specified position replaced.
+	 *
+	 * @param index   The position of the element to replace
+	 * @param element The new element
+	 * @return a new version of the array containing the element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@NotNull
+	UPersistentArray<T> set(int index, @Nullable T element);
+	
+	/**
+	 * Gets the portion of the array between the start index, inclusive, and the end
+	 * index, exclusive. The new version shares the whole structure of the array.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a version of the array with the given range
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	@Override
+	UPersistentArray<T> slice(int fromIndex, int toIndex);
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@NotNull
+	Stream<T> stream();
+	
+	/* -----------------------------------------------------
+	 * Conversions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Converts the array to an unmodifiable list.
+	 *
+	 * @return an unmodifiable view of the array as a list
+	 */
+	@NotNull
+	@UnmodifiableView
+	List<T> toList();
+	
+	/**
+	 * Converts the array to a mutable array.
+	 *
+	 * @return a mutable array containing the elements of the array
+	 */
+	@NotNull
+	UArray<T> toMutableArray();
+	
+}
@@ -0,0 +1,103 @@
+package uoxx3.collection.collection;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UCopyable;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Mutable set of char elements.
+ * <p>
+ * The elements are stored unboxed in an open-addressing hash table, so adding, searching
+ * and removing an element never allocates memory, and every element uses 2 bytes of the table
+ * instead of a boxed {@code Character} and a node of a {@code HashSet}.
+ */
+public interface UCharacterSet extends Iterable<Character>, UCopyable<UCharacterSet> {
+	
+	/**
+	 * Add a new element to the set
+	 *
+	 * @param element The element to add
+	 * @return {@code true} if the set did not contain the element
+	 */
+	boolean add(char element);
+	
+	/**
+	 * Add multiple elements to the set
+	 *
+	 * @param elements All the elements wants to add
+	 * @return {@code true} if the set changed
+	 */
+	boolean addAll(char... elements);
+	
+	/**
+	 * Gets an iterator over the elements of the set that returns them without boxing,
+	 * as int values, in no particular order.
+	 *
+	 * @return an iterator over the elements of the set
+	 */
+	@NotNull
+	PrimitiveIterator.OfInt charIterator();
+	
+	/**
+	 * Removes all the elements of the set. The table keeps its capacity.
+	 */
+	void clear();
+	
+	/**
+	 * Checks if the set contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the set contains the value, false otherwise.
+	 */
+	boolean contains(char value);
+	
+	/**
+	 * Increases the capacity of the set, if necessary, to ensure that it can hold
+	 * at least the given number of elements without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Returns true if the set is empty, false otherwise.
+	 *
+	 * @return true if the set is empty, false otherwise.
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Removes the specified element from the set.
+	 *
+	 * @param element The element to remove
+	 * @return {@code true} if the set contained the element
+	 */
+	boolean remove(char element);
+	
+	/**
+	 * Returns the number of elements of the set.
+	 *
+	 * @return The number of elements of the set.
+	 */
+	int size();
+	
+	/**
+	 * Gets a sequential Stream with the elements of the set as its source.
+	 *
+	 * @return A Stream of the elements in the set.
+	 */
+	@NotNull
+	IntStream stream();
+	
+	/**
+	 * Gets the elements of the set as a native array, in no particular order.
+	 *
+	 * @return a native array
+	 */
+	char[] toArray();
+	
+}
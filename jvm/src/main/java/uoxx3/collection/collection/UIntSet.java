@@ -0,0 +1,104 @@
+package uoxx3.collection.collection;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UCopyable;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Mutable set of int elements.
+ * <p>
+ * The elements are stored unboxed in an open-addressing hash table, so adding, searching
+ * and removing an element never allocates memory, and every element uses 4 bytes of the table
+ * instead of a boxed {@code Integer} and a node of a {@code HashSet}.
+ */
+public interface UIntSet extends Iterable<Integer>, UCopyable<UIntSet> {
+	
+	/**
+	 * Add a new element to the set
+	 *
+	 * @param element The element to add
+	 * @return {@code true} if the set did not contain the element
+	 */
+	boolean add(int element);
+	
+	/**
+	 * Add multiple elements to the set
+	 *
+	 * @param elements All the elements wants to add
+	 * @return {@code true} if the set changed
+	 */
+	boolean addAll(int... elements);
+	
+	/**
+	 * Removes all the elements of the set. The table keeps its capacity.
+	 */
+	void clear();
+	
+	/**
+	 * Checks if the set contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the set contains the value, false otherwise.
+	 */
+	boolean contains(int value);
+	
+	/**
+	 * Increases the capacity of the set, if necessary, to ensure that it can hold
+	 * at least the given number of elements without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Returns true if the set is empty, false otherwise.
+	 *
+	 * @return true if the set is empty, false otherwise.
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the set. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}, in no particular order.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	PrimitiveIterator.OfInt iterator();
+	
+	/**
+	 * Removes the specified element from the set.
+	 *
+	 * @param element The element to remove
+	 * @return {@code true} if the set contained the element
+	 */
+	boolean remove(int element);
+	
+	/**
+	 * Returns the number of elements of the set.
+	 *
+	 * @return The number of elements of the set.
+	 */
+	int size();
+	
+	/**
+	 * Gets a sequential Stream with the elements of the set as its source.
+	 *
+	 * @return A Stream of the elements in the set.
+	 */
+	@NotNull
+	IntStream stream();
+	
+	/**
+	 * Gets the elements of the set as a native array, in no particular order.
+	 *
+	 * @return a native array
+	 */
+	int[] toArray();
+	
+}
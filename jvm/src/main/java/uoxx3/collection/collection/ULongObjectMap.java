@@ -0,0 +1,130 @@
+package uoxx3.collection.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uoxx3.UCopyable;
+
+import java.util.Collection;
+import java.util.PrimitiveIterator;
+import java.util.function.LongFunction;
+
+/**
+ * Mutable map of long keys to object values.
+ * <p>
+ * The keys are stored unboxed in an open-addressing hash table, parallel to the table of the
+ * values, so the lookups never box the key nor allocate memory. The map does not accept
+ * {@code null} values, so a {@code null} result always means the key is missing.
+ *
+ * @param <V> the type of the values
+ */
+public interface ULongObjectMap<V> extends UCopyable<ULongObjectMap<V>> {
+	
+	/**
+	 * Removes all the entries of the map. The table keeps its capacity.
+	 */
+	void clear();
+	
+	/**
+	 * Gets the value of the key. If the map does not contain the key, the value is calculated
+	 * with the given function and stored in the map. The function must not return {@code null}.
+	 *
+	 * @param key     The key of the value
+	 * @param mapping The function that calculates the value of a missing key
+	 * @return the current or the calculated value of the key
+	 */
+	@NotNull
+	V computeIfAbsent(long key, @NotNull LongFunction<? extends V> mapping);
+	
+	/**
+	 * Checks if the map contains the specified key.
+	 *
+	 * @param key The key to check for.
+	 * @return true if the map contains the key, false otherwise.
+	 */
+	boolean containsKey(long key);
+	
+	/**
+	 * Increases the capacity of the map, if necessary, to ensure that it can hold
+	 * at least the given number of entries without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	void ensureCapacity(int minCapacity);
+	
+	/**
+	 * Gets the value of the key.
+	 *
+	 * @param key The key of the value
+	 * @return the value of the key, or {@code null} if the map does not contain the key
+	 */
+	@Nullable
+	V get(long key);
+	
+	/**
+	 * Gets the value of the key, or the given default value if the map does not contain the key.
+	 *
+	 * @param key          The key of the value
+	 * @param defaultValue The value returned if the map does not contain the key
+	 * @return the value of the key, or the default value
+	 */
+	V getOrDefault(long key, V defaultValue);
+	
+	/**
+	 * Returns true if the map is empty, false otherwise.
+	 *
+	 * @return true if the map is empty, false otherwise.
+	 */
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Returns an iterator over the keys of the map, without boxing and in no particular order.
+	 *
+	 * @return an iterator over the keys of the map
+	 */
+	@NotNull
+	PrimitiveIterator.OfLong keyIterator();
+	
+	/**
+	 * Gets the keys of the map as a native array, in the same order as {@link #values()}.
+	 *
+	 * @return a native array with the keys
+	 */
+	long[] keys();
+	
+	/**
+	 * Associates the value with the key, replacing the previous value of the key.
+	 *
+	 * @param key   The key of the value
+	 * @param value The value of the key
+	 * @return the previous value of the key, or {@code null} if the map did not contain the key
+	 */
+	@Nullable
+	V put(long key, @NotNull V value);
+	
+	/**
+	 * Removes the key and its value from the map.
+	 *
+	 * @param key The key to remove
+	 * @return the removed value, or {@code null} if the map did not contain the key
+	 */
+	@Nullable
+	V remove(long key);
+	
+	/**
+	 * Returns the number of entries of the map.
+	 *
+	 * @return The number of entries of the map.
+	 */
+	int size();
+	
+	/**
+	 * Gets the values of the map as a new collection, in the same order as {@link #keys()}.
+	 *
+	 * @return a collection with the values
+	 */
+	@NotNull
+	Collection<V> values();
+	
+}
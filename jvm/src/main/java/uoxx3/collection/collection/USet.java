@@ -3,8 +3,15 @@ package uoxx3.collection.collection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
+import uoxx3.UAssert;
 import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UCharacterArray;
+import uoxx3.collection.array.UIntegerArray;
+import uoxx3.collection.array.ULongArray;
+import uoxx3.collection.internal.collection.UCharacterSetImpl;
 import uoxx3.collection.internal.collection.UCollectionCommon;
+import uoxx3.collection.internal.collection.UIntSetImpl;
+import uoxx3.collection.internal.collection.ULongSetImpl;
 
 import java.util.*;
 import java.util.function.Function;
@@ -296,6 +303,142 @@ public final class USet extends UCollectionCommon {
 		return makeTree(null, collection);
 	}
 	
+	/* -----------------------------------------------------
+	 * Primitive set generator methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a mutable int set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable int set containing the specified elements
+	 */
+	public static @NotNull UIntSet makeInt(int size, int @NotNull [] elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		UIntSet set = new UIntSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable int set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable int set containing the specified elements
+	 */
+	public static @NotNull UIntSet makeInt(int @NotNull ... elements) {
+		return makeInt(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable int set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable int set containing the elements of the array
+	 */
+	public static @NotNull UIntSet makeInt(@NotNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		UIntSet set = new UIntSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable long set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable long set containing the specified elements
+	 */
+	public static @NotNull ULongSet makeLong(int size, long @NotNull [] elements) {
+		UAssert.paramNotNull(elements, "long[] elements");
+		ULongSet set = new ULongSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable long set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable long set containing the specified elements
+	 */
+	public static @NotNull ULongSet makeLong(long @NotNull ... elements) {
+		return makeLong(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable long set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable long set containing the elements of the array
+	 */
+	public static @NotNull ULongSet makeLong(@NotNull ULongArray elements) {
+		UAssert.paramNotNull(elements, "ULongArray elements");
+		ULongSet set = new ULongSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable char set containing the specified elements with an initial size hint.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param size     the initial size hint for the set
+	 * @param elements the elements to include in the set
+	 * @return a mutable char set containing the specified elements
+	 */
+	public static @NotNull UCharacterSet makeChar(int size, char @NotNull [] elements) {
+		UAssert.paramNotNull(elements, "char[] elements");
+		UCharacterSet set = new UCharacterSetImpl(Math.max(Math.abs(size), elements.length));
+		set.addAll(elements);
+		
+		return set;
+	}
+	
+	/**
+	 * Creates a mutable char set containing the specified elements.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the elements to include in the set
+	 * @return a mutable char set containing the specified elements
+	 */
+	public static @NotNull UCharacterSet makeChar(char @NotNull ... elements) {
+		return makeChar(elements.length, elements);
+	}
+	
+	/**
+	 * Creates a mutable char set containing the elements of the specified array.
+	 * The elements are stored unboxed in an open-addressing hash table.
+	 *
+	 * @param elements the array providing the elements for the set
+	 * @return a mutable char set containing the elements of the array
+	 */
+	public static @NotNull UCharacterSet makeChar(@NotNull UCharacterArray elements) {
+		UAssert.paramNotNull(elements, "UCharacterArray elements");
+		UCharacterSet set = new UCharacterSetImpl(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			set.add(elements.get(i));
+		}
+		
+		return set;
+	}
+	
 	/* -----------------------------------------------------
 	 * Set transform methods
 	 * ----------------------------------------------------- */
@@ -2,9 +2,12 @@ package uoxx3.collection.internal;
 
 import org.jetbrains.annotations.NotNull;
 import uoxx3.UAssert;
+import uoxx3.collection.array.UIndexedConsumer;
 import uoxx3.functional.function.UEmptyFun;
 
 import java.util.Optional;
+import java.util.stream.BaseStream;
+import java.util.stream.StreamSupport;
 
 public interface UArrayType<T> extends Iterable<T> {
 	
@@ -24,6 +27,13 @@ public interface UArrayType<T> extends Iterable<T> {
 	@NotNull
 	Class<T> componentType();
 	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	void compact();
+	
 	/**
 	 * Performs the given action on each item in the array, passing the index of the item as a parameter.
 	 *
@@ -31,10 +41,22 @@ public interface UArrayType<T> extends Iterable<T> {
 	 */
 	default void forEachIndexed(@NotNull UEmptyFun.UEmptyFun2<Integer, T> consumer) {
 		UAssert.paramNotNull(consumer, "UEmptyFun.UEmptyFun2<Integer, Integer> consumer");
+		forEachIndexedObj(consumer::invoke);
+	}
+	
+	/**
+	 * Performs the given action on each item in the array, passing the index of the item
+	 * as a parameter. Unlike {@link #forEachIndexed(UEmptyFun.UEmptyFun2)}, the index is
+	 * never boxed.
+	 *
+	 * @param consumer The action to perform on each item in the array.
+	 */
+	default void forEachIndexedObj(@NotNull UIndexedConsumer<? super T> consumer) {
+		UAssert.paramNotNull(consumer, "UIndexedConsumer<? super T> consumer");
 		
 		int counter = 0;
 		for (T element : this) {
-			consumer.invoke(counter++, element);
+			consumer.accept(counter++, element);
 		}
 	}
 	
@@ -64,6 +86,18 @@ public interface UArrayType<T> extends Iterable<T> {
 	@NotNull
 	Optional<T> last();
 	
+	/**
+	 * Gets a parallel stream with the elements of the array as its source. The arrays
+	 * return the stream of their own element type, which splits the array in ranges of similar
+	 * size, so the work is divided evenly between the threads of the common fork/join pool.
+	 *
+	 * @return A parallel stream of the elements in the array.
+	 */
+	@NotNull
+	default BaseStream<?, ?> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+	
 	/**
 	 * Returns the size of the array.
 	 *
@@ -71,4 +105,20 @@ public interface UArrayType<T> extends Iterable<T> {
 	 */
 	int size();
 	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@NotNull
+	UArrayType<T> slice(int fromIndex, int toIndex);
+	
 }
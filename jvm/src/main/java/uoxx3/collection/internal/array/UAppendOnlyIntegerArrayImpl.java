@@ -0,0 +1,698 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UAppendOnlyIntegerArray;
+import uoxx3.collection.array.UIntegerArray;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public final class UAppendOnlyIntegerArrayImpl implements UAppendOnlyIntegerArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * The segment {@code n} holds {@code FIRST_SEGMENT << n} elements, so the segment
+	 * and the position of any index are computed from its highest bit.
+	 */
+	private static final int FIRST_SEGMENT_BITS = 4;
+	private static final int FIRST_SEGMENT = 1 << FIRST_SEGMENT_BITS;
+	private static final int SEGMENTS = Integer.SIZE - 1 - FIRST_SEGMENT_BITS;
+	private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT + 1;
+	
+	private static final AtomicIntegerFieldUpdater<UAppendOnlyIntegerArrayImpl> PUBLISHED =
+		AtomicIntegerFieldUpdater.newUpdater(UAppendOnlyIntegerArrayImpl.class, "published");
+	
+	private final AtomicReferenceArray<int[]> segments;
+	private final @Nullable AtomicInteger reserved;
+	/**
+	 * The number of written slots of every segment. The published prefix only advances
+	 * over the reserved slots of a segment once all of them are written.
+	 */
+	private final @Nullable AtomicIntegerArray written;
+	private final int offset;
+	private final Class<Integer> componentType;
+	private volatile int published;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UAppendOnlyIntegerArrayImpl(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		segments = new AtomicReferenceArray<>(SEGMENTS);
+		reserved = new AtomicInteger();
+		written = new AtomicIntegerArray(SEGMENTS);
+		offset = 0;
+		componentType = int.class;
+		
+		addAll(elements);
+	}
+	
+	private UAppendOnlyIntegerArrayImpl(@NotNull AtomicReferenceArray<int[]> segments, int offset, int size) {
+		this.segments = segments;
+		this.reserved = null;
+		this.written = null;
+		this.offset = offset;
+		this.published = size;
+		componentType = int.class;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(int element) {
+		int index = reserve(1);
+		try {
+			segmentOf(index)[positionOf(index)] = element;
+		} finally {
+			publish(index, index + 1);
+		}
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		if (elements.length == 0) return;
+		
+		int start = reserve(elements.length);
+		try {
+			write(start, elements);
+		} finally {
+			publish(start, start + elements.length);
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		addAll(elements.toArray());
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull IntStream elements) {
+		UAssert.paramNotNull(elements, "IntStream elements");
+		// The elements are collected before reserving the slots, so the other
+		// writers never wait for the traversal of the source.
+		addAll(elements.toArray());
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull Spliterator.OfInt elements) {
+		UAssert.paramNotNull(elements, "Spliterator.OfInt elements");
+		addAll(StreamSupport.intStream(elements, false));
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 * <p>
+	 * Append-only arrays never reallocate their storage, they allocate new segments instead.
+	 * This method returns the number of elements of all the allocated segments.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		if (reserved == null) return published();
+		int capacity = 0;
+		
+		for (int i = 0; i < SEGMENTS; i++) {
+			int[] segment = segments.get(i);
+			if (segment != null) capacity += segment.length;
+		}
+		
+		return capacity;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * The segments of an append-only array are never modified once published, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 * <p>
+	 * The missing segments are allocated in advance, so the writers do not need to
+	 * allocate them while appending elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (reserved == null || minCapacity <= 0) return;
+		int last = segmentIndexOf(Math.min(minCapacity, MAX_SIZE) - 1);
+		
+		for (int i = 0; i <= last; i++) {
+			segment(i);
+		}
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int get(int index) {
+		UArrayCommon.checkIndex(index, published());
+		return element(offset + index);
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The elements are stored in multiple segments, so this method returns a copy
+	 * of all the published elements.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public int[] getArray() {
+		int[] result = new int[published()];
+		int index = offset;
+		int copied = 0;
+		
+		while (copied < result.length) {
+			int[] segment = segmentOf(index);
+			int position = positionOf(index);
+			int length = Math.min(result.length - copied, segment.length - position);
+			
+			System.arraycopy(segment, position, result, copied, length);
+			index += length;
+			copied += length;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(int value) {
+		int size = published();
+		for (int i = 0; i < size; i++) {
+			if (element(offset + i) == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public void insert(int index, int element) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public void insertAll(int index, int... elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(int value) {
+		for (int i = published() - 1; i >= 0; i--) {
+			if (element(offset + i) == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public int removeAt(int index) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public boolean removeIf(@NotNull IntPredicate filter) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 * @throws UnsupportedOperationException always, the array only supports appending elements
+	 */
+	@Override
+	public boolean retainAll(@NotNull UIntegerArray elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 * <p>
+	 * Only the published elements are counted, the slots reserved by the writers
+	 * that did not finish yet are not part of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return published();
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the segments of the array, so no
+	 * element is copied.
+	 * <p>
+	 * The view is immutable, any modification throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UIntegerArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, published());
+		return new UAppendOnlyIntegerArrayImpl(segments, offset + fromIndex, toIndex - fromIndex);
+	}
+	
+	/**
+	 * Gets an immutable view of the elements published when this method is called.
+	 * The view shares the segments of the array, so no element is copied.
+	 *
+	 * @return an immutable view of the published elements
+	 */
+	@Override
+	public @NotNull UIntegerArray snapshot() {
+		if (reserved == null) return this;
+		return new UAppendOnlyIntegerArrayImpl(segments, offset, published());
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NotNull IntStream stream() {
+		int start = offset;
+		return IntStream.range(start, start + published())
+			.map(this::element);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 * <p>
+	 * The segments of an append-only array are never reallocated, so this method has no effect.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UIntegerArray copy() {
+		return new UAppendOnlyIntegerArrayImpl(getArray());
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> first() {
+		if (published() == 0) return Optional.empty();
+		return Optional.of(element(offset));
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<Integer> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> last() {
+		int size = published();
+		if (size == 0) return Optional.empty();
+		return Optional.of(element(offset + size - 1));
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}.
+	 * <p>
+	 * The iterator traverses the elements published at the moment it was created.
+	 *
+	 * @return an Iterator.
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		return new SegmentIterator();
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(getArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Reserves the given number of consecutive slots at the end of the array.
+	 *
+	 * @param count the number of slots to reserve
+	 * @return the index of the first reserved slot
+	 * @throws UnsupportedOperationException if the array is an immutable view
+	 * @throws OutOfMemoryError              if the array cannot hold the reserved slots
+	 */
+	private int reserve(int count) {
+		if (reserved == null) {
+			throw new UnsupportedOperationException("The array view cannot be modified");
+		}
+		int start;
+		
+		do {
+			start = reserved.get();
+			if (count > MAX_SIZE - start) throw new OutOfMemoryError("Required array length is too large");
+		} while (!reserved.compareAndSet(start, start + count));
+		
+		return start;
+	}
+	
+	/**
+	 * Marks the slots of a writer as written and advances the published prefix. The writer
+	 * never waits for the others: a slot reserved before this range and not written yet only
+	 * holds the prefix back, and the writer of that slot advances it when it finishes.
+	 *
+	 * @param start the index of the first slot
+	 * @param end   the index after the last slot
+	 */
+	private void publish(int start, int end) {
+		int index = start;
+		
+		while (index < end) {
+			int segmentIndex = segmentIndexOf(index);
+			int length = Math.min(end, segmentStart(segmentIndex + 1)) - index;
+			
+			written.addAndGet(segmentIndex, length);
+			index += length;
+		}
+		published();
+	}
+	
+	/**
+	 * Gets the number of published elements, first advancing the published prefix over the
+	 * slots that are already written. A segment is covered up to the reserved slots when its
+	 * count of written slots matches them. The count is read before the reservations, so every
+	 * counted slot was reserved before the reservations were read, and a match means that no
+	 * slot of the range is missing.
+	 *
+	 * @return the number of published elements
+	 */
+	private int published() {
+		int size = published;
+		if (reserved == null) return size;
+		
+		while (size < MAX_SIZE) {
+			int segmentIndex = segmentIndexOf(size);
+			int start = segmentStart(segmentIndex);
+			int end = segmentStart(segmentIndex + 1);
+			int count = written.get(segmentIndex);
+			int limit = Math.min(reserved.get(), end);
+			
+			if (limit <= size || count != limit - start) return size;
+			if (!PUBLISHED.compareAndSet(this, size, limit)) {
+				// Another thread advanced the prefix, continue from its position
+				size = published;
+				continue;
+			}
+			
+			size = limit;
+			if (limit < end) return size;
+		}
+		return size;
+	}
+	
+	/**
+	 * Copies the given elements to the slots starting at the given index.
+	 *
+	 * @param start    the index of the first slot
+	 * @param elements the elements to copy
+	 */
+	private void write(int start, int @NotNull [] elements) {
+		int index = start;
+		int copied = 0;
+		
+		while (copied < elements.length) {
+			int[] segment = segmentOf(index);
+			int position = positionOf(index);
+			int length = Math.min(elements.length - copied, segment.length - position);
+			
+			System.arraycopy(elements, copied, segment, position, length);
+			index += length;
+			copied += length;
+		}
+	}
+	
+	/**
+	 * Gets the element at the given index of the segments.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the given index
+	 */
+	private int element(int index) {
+		return segments.get(segmentIndexOf(index))[positionOf(index)];
+	}
+	
+	/**
+	 * Gets the segment with the given index, allocating it if needed.
+	 *
+	 * @param segmentIndex the index of the segment
+	 * @return the segment with the given index
+	 */
+	private int @NotNull [] segment(int segmentIndex) {
+		int[] segment = segments.get(segmentIndex);
+		if (segment != null) return segment;
+		
+		// Only one of the racing writers installs its segment
+		segment = new int[FIRST_SEGMENT << segmentIndex];
+		if (segments.compareAndSet(segmentIndex, null, segment)) return segment;
+		return segments.get(segmentIndex);
+	}
+	
+	/**
+	 * Gets the segment that holds the given index, allocating it if needed.
+	 *
+	 * @param index the index of the element
+	 * @return the segment that holds the index
+	 */
+	private int @NotNull [] segmentOf(int index) {
+		return segment(segmentIndexOf(index));
+	}
+	
+	/**
+	 * Gets the index of the segment that holds the given index.
+	 *
+	 * @param index the index of the element
+	 * @return the index of the segment
+	 */
+	private static int segmentIndexOf(int index) {
+		return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT) - FIRST_SEGMENT_BITS;
+	}
+	
+	/**
+	 * Gets the index of the first element of the given segment.
+	 *
+	 * @param segmentIndex the index of the segment
+	 * @return the index of the first element of the segment
+	 */
+	private static int segmentStart(int segmentIndex) {
+		return (FIRST_SEGMENT << segmentIndex) - FIRST_SEGMENT;
+	}
+	
+	/**
+	 * Gets the position of the given index inside its segment.
+	 *
+	 * @param index the index of the element
+	 * @return the position of the index inside its segment
+	 */
+	private static int positionOf(int index) {
+		int position = index + FIRST_SEGMENT;
+		return position ^ Integer.highestOneBit(position);
+	}
+	
+	/**
+	 * Creates the exception thrown by the operations that insert or remove elements.
+	 *
+	 * @return the exception to throw
+	 */
+	private static @NotNull UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("The array only supports appending elements");
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator that reads the elements published when it was created directly from the segments.
+	 */
+	private final class SegmentIterator implements PrimitiveIterator.OfInt {
+		
+		private final int fence = offset + published();
+		private int index = offset;
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			return element(index++);
+		}
+		
+	}
+	
+}
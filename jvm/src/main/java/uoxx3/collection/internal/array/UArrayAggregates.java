@@ -0,0 +1,997 @@
+package uoxx3.collection.internal.array;
+
+import uoxx3.collection.UCollectionConstants;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Aggregations shared by the heap arrays of numeric elements.
+ * <p>
+ * Ranges shorter than {@link UCollectionConstants#PARALLEL_SIZE_THRESHOLD} elements are reduced
+ * by a single thread. The sums, minimums and maximums run over {@link #LANES} independent accumulators,
+ * so the additions and comparisons of consecutive elements do not wait for each other. Longer ranges
+ * are split in halves by a {@link RecursiveTask} until the pieces are below the threshold, and the
+ * pieces are reduced by the threads of the common fork/join pool.
+ * <p>
+ * The floating point sums of the independent accumulators, and of the pieces of a parallel
+ * reduction, are added in a different order than a sequential loop, so the result can differ in
+ * the last bits. The compensated sums use the Kahan summation, which keeps the rounding error of
+ * every addition and adds it back to the next one, so the result does not depend on the order.
+ * The minimums and maximums follow {@link Math#min} and {@link Math#max}, so a {@code NaN}
+ * element is the result, and the negative zero is smaller than the positive zero.
+ * <p>
+ * The two-pass parallel scan is here too, for the storages that {@link java.util.Arrays#parallelPrefix}
+ * does not support: the {@code float} elements and the memory-mapped files.
+ */
+final class UArrayAggregates {
+	
+	/* -----------------------------------------------------
+	 * Constants
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Number of independent accumulators of the sequential reductions.
+	 */
+	static final int LANES = 4;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArrayAggregates() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Integer aggregations
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Adds the elements between the given storage positions. The sum is calculated
+	 * with {@code long} values, so it does not overflow.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static long sum(int[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialSum(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialSum(array, start, end), Long::sum);
+	}
+	
+	/**
+	 * Finds the smallest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element, or an empty optional if the range is empty
+	 */
+	static OptionalInt min(int[] array, int from, int to) {
+		if (from == to) return OptionalInt.empty();
+		if (!isParallel(from, to)) return OptionalInt.of(sequentialMin(array, from, to));
+		return OptionalInt.of(reduce(from, to, (start, end) -> sequentialMin(array, start, end), Math::min));
+	}
+	
+	/**
+	 * Finds the largest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element, or an empty optional if the range is empty
+	 */
+	static OptionalInt max(int[] array, int from, int to) {
+		if (from == to) return OptionalInt.empty();
+		if (!isParallel(from, to)) return OptionalInt.of(sequentialMax(array, from, to));
+		return OptionalInt.of(reduce(from, to, (start, end) -> sequentialMax(array, start, end), Math::max));
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the mean of the elements, or an empty optional if the range is empty
+	 */
+	static OptionalDouble average(int[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		return OptionalDouble.of((double) sum(array, from, to) / (to - from));
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements between
+	 * the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	static IntSummaryStatistics summaryStatistics(int[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialStatistics(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialStatistics(array, start, end), (left, right) -> {
+			left.combine(right);
+			return left;
+		});
+	}
+	
+	/* -----------------------------------------------------
+	 * Long aggregations
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Adds the elements between the given storage positions. The sum overflows
+	 * like the {@code long} additions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static long sum(long[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialSum(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialSum(array, start, end), Long::sum);
+	}
+	
+	/**
+	 * Finds the smallest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element, or an empty optional if the range is empty
+	 */
+	static OptionalLong min(long[] array, int from, int to) {
+		if (from == to) return OptionalLong.empty();
+		if (!isParallel(from, to)) return OptionalLong.of(sequentialMin(array, from, to));
+		return OptionalLong.of(reduce(from, to, (start, end) -> sequentialMin(array, start, end), Math::min));
+	}
+	
+	/**
+	 * Finds the largest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element, or an empty optional if the range is empty
+	 */
+	static OptionalLong max(long[] array, int from, int to) {
+		if (from == to) return OptionalLong.empty();
+		if (!isParallel(from, to)) return OptionalLong.of(sequentialMax(array, from, to));
+		return OptionalLong.of(reduce(from, to, (start, end) -> sequentialMax(array, start, end), Math::max));
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the mean of the elements, or an empty optional if the range is empty
+	 */
+	static OptionalDouble average(long[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		return OptionalDouble.of((double) sum(array, from, to) / (to - from));
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements between
+	 * the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	static LongSummaryStatistics summaryStatistics(long[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialStatistics(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialStatistics(array, start, end), (left, right) -> {
+			left.combine(right);
+			return left;
+		});
+	}
+	
+	/* -----------------------------------------------------
+	 * Double aggregations
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Adds the elements between the given storage positions, without compensating
+	 * the rounding error of the additions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static double sum(double[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialSum(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialSum(array, start, end), Double::sum);
+	}
+	
+	/**
+	 * Adds the elements between the given storage positions, compensating the rounding
+	 * error of the additions with the Kahan summation.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static double compensatedSum(double[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialCompensatedSum(array, from, to).result();
+		return reduce(from, to, (start, end) -> sequentialCompensatedSum(array, start, end), CompensatedSum::combine)
+			.result();
+	}
+	
+	/**
+	 * Finds the smallest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element, or an empty optional if the range is empty
+	 */
+	static OptionalDouble min(double[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		if (!isParallel(from, to)) return OptionalDouble.of(sequentialMin(array, from, to));
+		return OptionalDouble.of(reduce(from, to, (start, end) -> sequentialMin(array, start, end), Math::min));
+	}
+	
+	/**
+	 * Finds the largest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element, or an empty optional if the range is empty
+	 */
+	static OptionalDouble max(double[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		if (!isParallel(from, to)) return OptionalDouble.of(sequentialMax(array, from, to));
+		return OptionalDouble.of(reduce(from, to, (start, end) -> sequentialMax(array, start, end), Math::max));
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements between the given storage positions,
+	 * from their compensated sum.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the mean of the elements, or an empty optional if the range is empty
+	 */
+	static OptionalDouble average(double[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		return OptionalDouble.of(compensatedSum(array, from, to) / (to - from));
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements between
+	 * the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	static DoubleSummaryStatistics summaryStatistics(double[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialStatistics(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialStatistics(array, start, end), (left, right) -> {
+			left.combine(right);
+			return left;
+		});
+	}
+	
+	/* -----------------------------------------------------
+	 * Float aggregations
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Adds the elements between the given storage positions as {@code double} values,
+	 * without compensating the rounding error of the additions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static double sum(float[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialSum(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialSum(array, start, end), Double::sum);
+	}
+	
+	/**
+	 * Adds the elements between the given storage positions as {@code double} values,
+	 * compensating the rounding error of the additions with the Kahan summation.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	static double compensatedSum(float[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialCompensatedSum(array, from, to).result();
+		return reduce(from, to, (start, end) -> sequentialCompensatedSum(array, start, end), CompensatedSum::combine)
+			.result();
+	}
+	
+	/**
+	 * Finds the smallest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element, or an empty optional if the range is empty
+	 */
+	static OptionalDouble min(float[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		if (!isParallel(from, to)) return OptionalDouble.of(sequentialMin(array, from, to));
+		return OptionalDouble.of(reduce(from, to, (start, end) -> sequentialMin(array, start, end), Math::min));
+	}
+	
+	/**
+	 * Finds the largest element between the given storage positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element, or an empty optional if the range is empty
+	 */
+	static OptionalDouble max(float[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		if (!isParallel(from, to)) return OptionalDouble.of(sequentialMax(array, from, to));
+		return OptionalDouble.of(reduce(from, to, (start, end) -> sequentialMax(array, start, end), Math::max));
+	}
+	
+	/**
+	 * Calculates the arithmetic mean of the elements between the given storage positions,
+	 * from their compensated sum.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the mean of the elements, or an empty optional if the range is empty
+	 */
+	static OptionalDouble average(float[] array, int from, int to) {
+		if (from == to) return OptionalDouble.empty();
+		return OptionalDouble.of(compensatedSum(array, from, to) / (to - from));
+	}
+	
+	/**
+	 * Collects the count, sum, minimum, maximum and mean of the elements between
+	 * the given storage positions, as {@code double} values.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	static DoubleSummaryStatistics summaryStatistics(float[] array, int from, int to) {
+		if (!isParallel(from, to)) return sequentialStatistics(array, from, to);
+		return reduce(from, to, (start, end) -> sequentialStatistics(array, start, end), (left, right) -> {
+			left.combine(right);
+			return left;
+		});
+	}
+	
+	/* -----------------------------------------------------
+	 * Scans
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Replaces every element between the given positions with the result of an associative
+	 * operator applied to all the previous elements and the element, splitting the work between
+	 * the threads of the common fork/join pool.
+	 * <p>
+	 * The range is divided in blocks of at least {@link UCollectionConstants#PARALLEL_SIZE_THRESHOLD}
+	 * elements. The first pass scans every block in parallel; the last element of every block is then
+	 * combined with the total of the blocks before it, and the second pass applies that total to the
+	 * other elements of the following block in parallel. Every element is visited twice, the same
+	 * work as two sequential passes. Short ranges, or a pool of a single thread, are scanned
+	 * sequentially.
+	 * <p>
+	 * The storage must allow the threads to modify different positions at the same time.
+	 *
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @param scan  the sequential scan of a block
+	 * @param carry the combination of the element at a position with the elements of a block
+	 */
+	static void parallelScan(int from, int to, RangeScan scan, RangeCarry carry) {
+		int blockSize = UCollectionConstants.PARALLEL_SIZE_THRESHOLD;
+		int blocks = (to - from) / blockSize;
+		if (blocks < 2 || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+			scan.scan(from, to);
+			return;
+		}
+		
+		// The last block also takes the elements that do not fill a whole block
+		IntStream.range(0, blocks).parallel().forEach(block -> {
+			int start = from + block * blockSize;
+			scan.scan(start, block == blocks - 1 ? to : start + blockSize);
+		});
+		for (int block = 1; block < blocks; block++) {
+			int last = block == blocks - 1 ? to - 1 : from + (block + 1) * blockSize - 1;
+			carry.carry(from + block * blockSize - 1, last, last + 1);
+		}
+		IntStream.range(1, blocks).parallel().forEach(block -> {
+			int start = from + block * blockSize;
+			carry.carry(start - 1, start, block == blocks - 1 ? to - 1 : start + blockSize - 1);
+		});
+	}
+	
+	/**
+	 * Replaces every element between the given storage positions with the result of the operator
+	 * applied to the previous result and the element. The operator is applied in order.
+	 *
+	 * @param array    the storage of the elements
+	 * @param from     the first position, inclusive
+	 * @param to       the last position, exclusive
+	 * @param operator the operator applied to the elements, widened to {@code double}
+	 */
+	static void scan(float[] array, int from, int to, DoubleBinaryOperator operator) {
+		for (int i = from + 1; i < to; i++) {
+			array[i] = (float) operator.applyAsDouble(array[i - 1], array[i]);
+		}
+	}
+	
+	/**
+	 * Replaces every element between the given storage positions with the result of the
+	 * associative operator applied to all the previous elements and the element, with the
+	 * two-pass scan of {@link #parallelScan(int, int, RangeScan, RangeCarry)}.
+	 *
+	 * @param array    the storage of the elements
+	 * @param from     the first position, inclusive
+	 * @param to       the last position, exclusive
+	 * @param operator the associative operator applied to the elements, widened to {@code double}
+	 */
+	static void parallelScan(float[] array, int from, int to, DoubleBinaryOperator operator) {
+		parallelScan(from, to, (start, end) -> scan(array, start, end, operator), (source, start, end) -> {
+			float carry = array[source];
+			for (int i = start; i < end; i++) {
+				array[i] = (float) operator.applyAsDouble(carry, array[i]);
+			}
+		});
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks if the range is long enough to be reduced in parallel, and the common pool
+	 * has more than one thread to reduce it.
+	 *
+	 * @param from the first position, inclusive
+	 * @param to   the last position, exclusive
+	 * @return {@code true} if the range must be reduced in parallel
+	 */
+	private static boolean isParallel(int from, int to) {
+		return to - from >= UCollectionConstants.PARALLEL_SIZE_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+	}
+	
+	/**
+	 * Reduces the range in the common fork/join pool.
+	 *
+	 * @param from     the first position, inclusive
+	 * @param to       the last position, exclusive
+	 * @param leaf     the sequential reduction of a piece of the range
+	 * @param combiner the function joining the results of two consecutive pieces
+	 * @param <R>      the type of the result
+	 * @return the result of the whole range
+	 */
+	private static <R> R reduce(int from, int to, RangeReduction<R> leaf, BinaryOperator<R> combiner) {
+		return ForkJoinPool.commonPool().invoke(new ReduceTask<>(from, to, leaf, combiner));
+	}
+	
+	/**
+	 * Adds the elements of the range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	private static long sequentialSum(int[] array, int from, int to) {
+		long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+		int i = from;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < to; i++) {
+			sum0 += array[i];
+		}
+		
+		return sum0 + sum1 + sum2 + sum3;
+	}
+	
+	/**
+	 * Finds the smallest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element
+	 */
+	private static int sequentialMin(int[] array, int from, int to) {
+		int min0 = array[from], min1 = min0, min2 = min0, min3 = min0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Finds the largest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element
+	 */
+	private static int sequentialMax(int[] array, int from, int to) {
+		int max0 = array[from], max1 = max0, max2 = max0, max3 = max0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Collects the statistics of the elements of the range.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	private static IntSummaryStatistics sequentialStatistics(int[] array, int from, int to) {
+		IntSummaryStatistics statistics = new IntSummaryStatistics();
+		for (int i = from; i < to; i++) {
+			statistics.accept(array[i]);
+		}
+		
+		return statistics;
+	}
+	
+	/**
+	 * Adds the elements of the range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	private static long sequentialSum(long[] array, int from, int to) {
+		long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+		int i = from;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < to; i++) {
+			sum0 += array[i];
+		}
+		
+		return sum0 + sum1 + sum2 + sum3;
+	}
+	
+	/**
+	 * Finds the smallest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element
+	 */
+	private static long sequentialMin(long[] array, int from, int to) {
+		long min0 = array[from], min1 = min0, min2 = min0, min3 = min0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Finds the largest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element
+	 */
+	private static long sequentialMax(long[] array, int from, int to) {
+		long max0 = array[from], max1 = max0, max2 = max0, max3 = max0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Collects the statistics of the elements of the range.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	private static LongSummaryStatistics sequentialStatistics(long[] array, int from, int to) {
+		LongSummaryStatistics statistics = new LongSummaryStatistics();
+		for (int i = from; i < to; i++) {
+			statistics.accept(array[i]);
+		}
+		
+		return statistics;
+	}
+	
+	/**
+	 * Adds the elements of the range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	private static double sequentialSum(double[] array, int from, int to) {
+		double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+		int i = from;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < to; i++) {
+			sum0 += array[i];
+		}
+		
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+	
+	/**
+	 * Adds the elements of the range with the Kahan summation.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the compensated sum of the elements
+	 */
+	private static CompensatedSum sequentialCompensatedSum(double[] array, int from, int to) {
+		CompensatedSum sum = new CompensatedSum();
+		for (int i = from; i < to; i++) {
+			sum.add(array[i]);
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Finds the smallest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element
+	 */
+	private static double sequentialMin(double[] array, int from, int to) {
+		double min0 = array[from], min1 = min0, min2 = min0, min3 = min0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Finds the largest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element
+	 */
+	private static double sequentialMax(double[] array, int from, int to) {
+		double max0 = array[from], max1 = max0, max2 = max0, max3 = max0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Collects the statistics of the elements of the range.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	private static DoubleSummaryStatistics sequentialStatistics(double[] array, int from, int to) {
+		DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+		for (int i = from; i < to; i++) {
+			statistics.accept(array[i]);
+		}
+		
+		return statistics;
+	}
+	
+	/**
+	 * Adds the elements of the range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the sum of the elements
+	 */
+	private static double sequentialSum(float[] array, int from, int to) {
+		double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+		int i = from;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			sum0 += array[i];
+			sum1 += array[i + 1];
+			sum2 += array[i + 2];
+			sum3 += array[i + 3];
+		}
+		for (; i < to; i++) {
+			sum0 += array[i];
+		}
+		
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+	
+	/**
+	 * Adds the elements of the range with the Kahan summation.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the compensated sum of the elements
+	 */
+	private static CompensatedSum sequentialCompensatedSum(float[] array, int from, int to) {
+		CompensatedSum sum = new CompensatedSum();
+		for (int i = from; i < to; i++) {
+			sum.add(array[i]);
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Finds the smallest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the smallest element
+	 */
+	private static float sequentialMin(float[] array, int from, int to) {
+		float min0 = array[from], min1 = min0, min2 = min0, min3 = min0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			min0 = Math.min(min0, array[i]);
+			min1 = Math.min(min1, array[i + 1]);
+			min2 = Math.min(min2, array[i + 2]);
+			min3 = Math.min(min3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			min0 = Math.min(min0, array[i]);
+		}
+		
+		return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+	}
+	
+	/**
+	 * Finds the largest element of a non-empty range with independent accumulators.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the largest element
+	 */
+	private static float sequentialMax(float[] array, int from, int to) {
+		float max0 = array[from], max1 = max0, max2 = max0, max3 = max0;
+		int i = from + 1;
+		for (int end = to - (LANES - 1); i < end; i += LANES) {
+			max0 = Math.max(max0, array[i]);
+			max1 = Math.max(max1, array[i + 1]);
+			max2 = Math.max(max2, array[i + 2]);
+			max3 = Math.max(max3, array[i + 3]);
+		}
+		for (; i < to; i++) {
+			max0 = Math.max(max0, array[i]);
+		}
+		
+		return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+	}
+	
+	/**
+	 * Collects the statistics of the elements of the range.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return the statistics of the elements
+	 */
+	private static DoubleSummaryStatistics sequentialStatistics(float[] array, int from, int to) {
+		DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+		for (int i = from; i < to; i++) {
+			statistics.accept(array[i]);
+		}
+		
+		return statistics;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Sequential inclusive scan of a block of the storage.
+	 */
+	@FunctionalInterface
+	interface RangeScan {
+		
+		void scan(int from, int to);
+		
+	}
+	
+	/**
+	 * Combination of the element at the source position, as the left operand, with every
+	 * element of a block of the storage.
+	 */
+	@FunctionalInterface
+	interface RangeCarry {
+		
+		void carry(int source, int from, int to);
+		
+	}
+	
+	/**
+	 * Sequential reduction of a range of the storage.
+	 *
+	 * @param <R> the type of the result
+	 */
+	@FunctionalInterface
+	private interface RangeReduction<R> {
+		
+		R reduce(int from, int to);
+	
+	}
+	
+	/**
+	 * Task that splits the range in halves until the pieces are shorter than the
+	 * threshold, reduces the pieces sequentially and joins their results in order.
+	 *
+	 * @param <R> the type of the result
+	 */
+	@SuppressWarnings("serial")
+	private static final class ReduceTask<R> extends RecursiveTask<R> {
+		
+		private final int from;
+		private final int to;
+		private final RangeReduction<R> leaf;
+		private final BinaryOperator<R> combiner;
+		
+		ReduceTask(int from, int to, RangeReduction<R> leaf, BinaryOperator<R> combiner) {
+			this.from = from;
+			this.to = to;
+			this.leaf = leaf;
+			this.combiner = combiner;
+		}
+		
+		@Override
+		protected R compute() {
+			if (to - from < UCollectionConstants.PARALLEL_SIZE_THRESHOLD) return leaf.reduce(from, to);
+			
+			int middle = (from + to) >>> 1;
+			ReduceTask<R> left = new ReduceTask<>(from, middle, leaf, combiner);
+			left.fork();
+			R right = new ReduceTask<>(middle, to, leaf, combiner).compute();
+			return combiner.apply(left.join(), right);
+		}
+	
+	}
+	
+	/**
+	 * Sum that keeps the rounding error of its additions (Kahan summation). The plain sum of the
+	 * values is kept too, because the compensation of infinite values is {@code NaN}.
+	 */
+	private static final class CompensatedSum {
+		
+		private double sum;
+		private double compensation;
+		private double simpleSum;
+		
+		void add(double value) {
+			simpleSum += value;
+			compensate(value);
+		}
+		
+		CompensatedSum combine(CompensatedSum other) {
+			simpleSum += other.simpleSum;
+			compensate(other.sum);
+			compensate(-other.compensation);
+			return this;
+		}
+		
+		double result() {
+			double result = sum - compensation;
+			return Double.isNaN(result) && Double.isInfinite(simpleSum) ? simpleSum : result;
+		}
+		
+		private void compensate(double value) {
+			double corrected = value - compensation;
+			double total = sum + corrected;
+			compensation = (total - sum) - corrected;
+			sum = total;
+		}
+	
+	}
+	
+}
@@ -0,0 +1,659 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntConsumer;
+
+/**
+ * Binary format of the primitive arrays.
+ * <p>
+ * Every array is written as a header of 16 bytes followed by the raw elements:
+ * <pre>
+ * offset  size  content
+ * 0       4     magic number, the ASCII characters "UARR"
+ * 4       1     format version
+ * 5       1     element type
+ * 6       1     byte order of the elements, 0 for big-endian and 1 for little-endian
+ * 7       1     reserved, always 0
+ * 8       8     number of elements
+ * 16      n     elements
+ * </pre>
+ * The header is always big-endian. The elements are written with the native byte order,
+ * so writing and reading an array on the same platform never swaps bytes.
+ * The elements are transferred in large chunks through a heap buffer that is allocated once
+ * for every array and reused by all its chunks, so no native memory is left to the garbage
+ * collector. The length of the header is never trusted to allocate the storage: it is checked
+ * against the size of the channel when it is known, otherwise the storage grows as the elements
+ * are read.
+ */
+public final class UArrayCodec {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int MAGIC = 0x55415252;
+	private static final byte VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+	private static final int CHUNK_BYTES = 64 * 1024;
+	
+	private static final byte TYPE_BYTE = 1;
+	private static final byte TYPE_SHORT = 2;
+	private static final byte TYPE_CHAR = 3;
+	private static final byte TYPE_INT = 4;
+	private static final byte TYPE_LONG = 5;
+	private static final byte TYPE_FLOAT = 6;
+	private static final byte TYPE_DOUBLE = 7;
+	
+	private static final byte ORDER_BIG_ENDIAN = 0;
+	private static final byte ORDER_LITTLE_ENDIAN = 1;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArrayCodec() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Writes the given byte elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, byte @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "byte[] elements");
+		write(channel, ByteBuffer.wrap(elements));
+	}
+	
+	/**
+	 * Writes the remaining bytes of the given buffer to the channel. A direct buffer is
+	 * written straight to the channel, without copying it.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the buffer with the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, @NotNull ByteBuffer elements) throws IOException {
+		UAssert.paramNotNull(channel, "WritableByteChannel channel");
+		UAssert.paramNotNull(elements, "ByteBuffer elements");
+		writeFully(channel, header(TYPE_BYTE, elements.remaining()));
+		writeFully(channel, elements);
+	}
+	
+	/**
+	 * Writes the given short elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, short @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "short[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given short elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, short @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_SHORT, Short.BYTES, length,
+					  (buffer, from, count) -> buffer.asShortBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Writes the given char elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, char @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "char[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given char elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, char @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_CHAR, Character.BYTES, length,
+					  (buffer, from, count) -> buffer.asCharBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Writes the given int elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, int @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "int[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given int elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, int @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_INT, Integer.BYTES, length,
+					  (buffer, from, count) -> buffer.asIntBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Writes the given long elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, long @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "long[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given long elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, long @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_LONG, Long.BYTES, length,
+					  (buffer, from, count) -> buffer.asLongBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Writes the given float elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, float @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "float[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given float elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, float @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_FLOAT, Float.BYTES, length,
+					  (buffer, from, count) -> buffer.asFloatBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Writes the given double elements to the channel.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull WritableByteChannel channel, double @NotNull [] elements) throws IOException {
+		UAssert.paramNotNull(elements, "double[] elements");
+		write(channel, elements, 0, elements.length);
+	}
+	
+	/**
+	 * Writes a range of the given double elements to the channel, straight from the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are written
+	 * @param elements the storage with the elements to write
+	 * @param offset   the index of the first element to write
+	 * @param length   the number of elements to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(@NotNull WritableByteChannel channel, double @NotNull [] elements, int offset,
+					  int length) throws IOException {
+		writeElements(channel, TYPE_DOUBLE, Double.BYTES, length,
+					  (buffer, from, count) -> buffer.asDoubleBuffer().put(elements, offset + from, count));
+	}
+	
+	/**
+	 * Reads byte elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a byte array
+	 */
+	public static byte @NotNull [] readBytes(@NotNull ReadableByteChannel channel) throws IOException {
+		UByteArrayImpl elements = new UByteArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads short elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a short array
+	 */
+	public static short @NotNull [] readShorts(@NotNull ReadableByteChannel channel) throws IOException {
+		UShortArrayImpl elements = new UShortArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads char elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a char array
+	 */
+	public static char @NotNull [] readChars(@NotNull ReadableByteChannel channel) throws IOException {
+		UCharacterArrayImpl elements = new UCharacterArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads int elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain an int array
+	 */
+	public static int @NotNull [] readInts(@NotNull ReadableByteChannel channel) throws IOException {
+		UIntegerArrayImpl elements = new UIntegerArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads long elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a long array
+	 */
+	public static long @NotNull [] readLongs(@NotNull ReadableByteChannel channel) throws IOException {
+		ULongArrayImpl elements = new ULongArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads float elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a float array
+	 */
+	public static float @NotNull [] readFloats(@NotNull ReadableByteChannel channel) throws IOException {
+		UFloatArrayImpl elements = new UFloatArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads double elements from the channel.
+	 *
+	 * @param channel the channel where the elements are read
+	 * @return the elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a double array
+	 */
+	public static double @NotNull [] readDoubles(@NotNull ReadableByteChannel channel) throws IOException {
+		UDoubleArrayImpl elements = new UDoubleArrayImpl();
+		elements.readFrom(channel);
+		return elements.getArray();
+	}
+	
+	/**
+	 * Reads byte elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a byte array
+	 */
+	static int readBytes(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						 @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_BYTE, Byte.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads short elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a short array
+	 */
+	static int readShorts(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						  @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_SHORT, Short.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads char elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a char array
+	 */
+	static int readChars(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						 @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_CHAR, Character.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads int elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain an int array
+	 */
+	static int readInts(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						@NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_INT, Integer.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads long elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a long array
+	 */
+	static int readLongs(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						 @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_LONG, Long.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads float elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a float array
+	 */
+	static int readFloats(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						  @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_FLOAT, Float.BYTES, reserve, transfer);
+	}
+	
+	/**
+	 * Reads double elements from the channel, decoding them straight into the storage of an array.
+	 *
+	 * @param channel  the channel where the elements are read
+	 * @param reserve  the operation that makes room for the given number of elements
+	 * @param transfer the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a double array
+	 */
+	static int readDoubles(@NotNull ReadableByteChannel channel, @NotNull IntConsumer reserve,
+						   @NotNull Transfer transfer) throws IOException {
+		return readElements(channel, TYPE_DOUBLE, Double.BYTES, reserve, transfer);
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates the header of an array.
+	 *
+	 * @param type   the element type
+	 * @param length the number of elements
+	 * @return a buffer with the header, ready to be written
+	 */
+	private static @NotNull ByteBuffer header(byte type, int length) {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+		
+		header.putInt(MAGIC)
+			.put(VERSION)
+			.put(type)
+			.put(littleEndian ? ORDER_LITTLE_ENDIAN : ORDER_BIG_ENDIAN)
+			.put((byte) 0)
+			.putLong(length);
+		header.flip();
+		return header;
+	}
+	
+	/**
+	 * Reads and validates the header of an array.
+	 *
+	 * @param channel the channel where the header is read
+	 * @param type    the expected element type
+	 * @return the number of elements and the byte order of the elements
+	 * @throws IOException if an I/O error occurs or the header is not valid
+	 */
+	private static @NotNull Header readHeader(@NotNull ReadableByteChannel channel, byte type) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		readFully(channel, header);
+		header.flip();
+		
+		if (header.getInt() != MAGIC) throw new IOException("The channel does not contain an array");
+		byte version = header.get();
+		if (version != VERSION) throw new IOException("Unsupported array format version: " + version);
+		byte actualType = header.get();
+		if (actualType != type) {
+			throw new IOException("Invalid element type, expected " + type + " but found " + actualType);
+		}
+		
+		byte order = header.get();
+		if (order != ORDER_BIG_ENDIAN && order != ORDER_LITTLE_ENDIAN) {
+			throw new IOException("Invalid byte order: " + order);
+		}
+		header.get();
+		long length = header.getLong();
+		if (length < 0 || length > UArrayCommon.MAX_ARRAY_LENGTH) {
+			throw new IOException("Invalid array length: " + length);
+		}
+		
+		return new Header((int) length, order == ORDER_LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Writes the elements of an array in chunks, using the native byte order.
+	 *
+	 * @param channel      the channel where the elements are written
+	 * @param type         the element type
+	 * @param elementBytes the number of bytes of every element
+	 * @param length       the number of elements
+	 * @param transfer     the operation that copies the elements to the chunk buffer
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static void writeElements(@NotNull WritableByteChannel channel, byte type, int elementBytes, int length,
+									  @NotNull Transfer transfer) throws IOException {
+		UAssert.paramNotNull(channel, "WritableByteChannel channel");
+		writeFully(channel, header(type, length));
+		
+		ByteBuffer chunk = ByteBuffer.allocate(chunkBytes(elementBytes, length))
+			.order(ByteOrder.nativeOrder());
+		int chunkElements = chunk.capacity() / elementBytes;
+		
+		for (int from = 0; from < length; from += chunkElements) {
+			int count = Math.min(chunkElements, length - from);
+			
+			chunk.clear();
+			transfer.apply(chunk, from, count);
+			chunk.limit(count * elementBytes);
+			writeFully(channel, chunk);
+		}
+	}
+	
+	/**
+	 * Reads an array in chunks. The storage is never reserved from the header alone: the length is
+	 * checked against the remaining bytes of a channel of known size, and any other channel makes
+	 * the storage grow as the elements arrive, so a corrupt header cannot exhaust the memory.
+	 *
+	 * @param channel      the channel where the array is read
+	 * @param type         the expected element type
+	 * @param elementBytes the number of bytes of every element
+	 * @param reserve      the operation that makes room for the given number of elements
+	 * @param transfer     the operation that copies the elements from the chunk buffer
+	 * @return the number of elements read from the channel
+	 * @throws IOException if an I/O error occurs or the channel does not contain a valid array
+	 */
+	private static int readElements(@NotNull ReadableByteChannel channel, byte type, int elementBytes,
+									@NotNull IntConsumer reserve, @NotNull Transfer transfer) throws IOException {
+		UAssert.paramNotNull(channel, "ReadableByteChannel channel");
+		Header header = readHeader(channel, type);
+		int length = header.length;
+		ByteBuffer chunk = ByteBuffer.allocate(chunkBytes(elementBytes, length))
+			.order(header.order);
+		int chunkElements = chunk.capacity() / elementBytes;
+		
+		int reserved = Math.min(length, chunkElements);
+		if (channel instanceof SeekableByteChannel) {
+			SeekableByteChannel seekable = (SeekableByteChannel) channel;
+			if ((long) length * elementBytes > seekable.size() - seekable.position()) {
+				throw new EOFException("The array length exceeds the channel size: " + length);
+			}
+			reserved = length;
+		}
+		reserve.accept(reserved);
+		
+		for (int from = 0; from < length; from += chunkElements) {
+			int count = Math.min(chunkElements, length - from);
+			if (from + count > reserved) {
+				reserved = (int) Math.min(length, Math.max(2L * reserved, from + count));
+				reserve.accept(reserved);
+			}
+			
+			// The chunk is limited to the remaining elements, so the channel is
+			// never read beyond the end of the array.
+			chunk.clear().limit(count * elementBytes);
+			readFully(channel, chunk);
+			chunk.flip();
+			transfer.apply(chunk, from, count);
+		}
+		return length;
+	}
+	
+	/**
+	 * Gets the size of the chunk buffer for the given array.
+	 *
+	 * @param elementBytes the number of bytes of every element
+	 * @param length       the number of elements
+	 * @return the size of the chunk buffer
+	 */
+	private static int chunkBytes(int elementBytes, int length) {
+		return (int) Math.max(elementBytes, Math.min(CHUNK_BYTES, (long) length * elementBytes));
+	}
+	
+	/**
+	 * Writes all the remaining bytes of the buffer to the channel.
+	 *
+	 * @param channel the channel where the bytes are written
+	 * @param buffer  the buffer to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static void writeFully(@NotNull WritableByteChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+	
+	/**
+	 * Reads bytes from the channel until the buffer is full.
+	 *
+	 * @param channel the channel where the bytes are read
+	 * @param buffer  the buffer to fill
+	 * @throws IOException  if an I/O error occurs
+	 * @throws EOFException if the channel ends before the buffer is full
+	 */
+	private static void readFully(@NotNull ReadableByteChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) throw new EOFException("Unexpected end of the array");
+		}
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Header of an array read from a channel.
+	 */
+	private static final class Header {
+		
+		private final int length;
+		private final ByteOrder order;
+		
+		private Header(int length, @NotNull ByteOrder order) {
+			this.length = length;
+			this.order = order;
+		}
+		
+	}
+	
+	/**
+	 * Copies a range of elements between an array and a chunk buffer.
+	 */
+	@FunctionalInterface
+	interface Transfer {
+		
+		/**
+		 * Copies the given range of elements.
+		 *
+		 * @param buffer the chunk buffer
+		 * @param from   the index of the first element
+		 * @param count  the number of elements
+		 */
+		void apply(@NotNull ByteBuffer buffer, int from, int count);
+		
+	}
+	
+}
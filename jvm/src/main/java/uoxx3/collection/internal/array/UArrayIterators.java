@@ -0,0 +1,455 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+/**
+ * Iterators over the heap storage of the primitive arrays. The elements are returned without
+ * boxing, widened to the type of the iterator, {@code int} for the {@code byte}, {@code short}
+ * and {@code char} elements and {@code double} for the {@code float} elements.
+ * <p>
+ * An iterator is a single small object that reads the storage directly, so a traversal
+ * does not allocate memory for its elements, unlike the iterators of a stream pipeline.
+ */
+final class UArrayIterators {
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArrayIterators() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Iterator actions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfInt iterator(int[] array, int from, int to) {
+		return new IntegerIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfLong iterator(long[] array, int from, int to) {
+		return new LongIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfDouble iterator(double[] array, int from, int to) {
+		return new DoubleIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfInt iterator(byte[] array, int from, int to) {
+		return new ByteIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfInt iterator(short[] array, int from, int to) {
+		return new ShortIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfInt iterator(char[] array, int from, int to) {
+		return new CharacterIterator(array, from, to);
+	}
+	
+	/**
+	 * Creates an iterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return an iterator over the elements
+	 */
+	static @NotNull PrimitiveIterator.OfDouble iterator(float[] array, int from, int to) {
+		return new FloatIterator(array, from, to);
+	}
+	
+	/**
+	 * Adapts the given primitive iterator to an iterator of boxed elements.
+	 *
+	 * @param iterator the iterator of the elements
+	 * @param box      the function that boxes every element
+	 * @param <T>      the type of the boxed elements
+	 * @return an iterator of the boxed elements
+	 */
+	static <T> @NotNull Iterator<T> boxed(@NotNull PrimitiveIterator.OfInt iterator, @NotNull IntFunction<T> box) {
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public T next() {
+				return box.apply(iterator.nextInt());
+			}
+		};
+	}
+	
+	/**
+	 * Adapts the given primitive iterator to an iterator of boxed elements.
+	 *
+	 * @param iterator the iterator of the elements
+	 * @param box      the function that boxes every element
+	 * @param <T>      the type of the boxed elements
+	 * @return an iterator of the boxed elements
+	 */
+	static <T> @NotNull Iterator<T> boxed(@NotNull PrimitiveIterator.OfDouble iterator, @NotNull DoubleFunction<T> box) {
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public T next() {
+				return box.apply(iterator.nextDouble());
+			}
+		};
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator over a range of a int storage.
+	 */
+	private static final class IntegerIterator implements PrimitiveIterator.OfInt {
+		
+		private final int[] array;
+		private final int fence;
+		private int index;
+		
+		IntegerIterator(int[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			int[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a long storage.
+	 */
+	private static final class LongIterator implements PrimitiveIterator.OfLong {
+		
+		private final long[] array;
+		private final int fence;
+		private int index;
+		
+		LongIterator(long[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public long nextLong() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull LongConsumer action) {
+			UAssert.paramNotNull(action, "LongConsumer action");
+			long[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a double storage.
+	 */
+	private static final class DoubleIterator implements PrimitiveIterator.OfDouble {
+		
+		private final double[] array;
+		private final int fence;
+		private int index;
+		
+		DoubleIterator(double[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public double nextDouble() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull DoubleConsumer action) {
+			UAssert.paramNotNull(action, "DoubleConsumer action");
+			double[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a byte storage.
+	 */
+	private static final class ByteIterator implements PrimitiveIterator.OfInt {
+		
+		private final byte[] array;
+		private final int fence;
+		private int index;
+		
+		ByteIterator(byte[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			byte[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a short storage.
+	 */
+	private static final class ShortIterator implements PrimitiveIterator.OfInt {
+		
+		private final short[] array;
+		private final int fence;
+		private int index;
+		
+		ShortIterator(short[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			short[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a char storage.
+	 */
+	private static final class CharacterIterator implements PrimitiveIterator.OfInt {
+		
+		private final char[] array;
+		private final int fence;
+		private int index;
+		
+		CharacterIterator(char[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			char[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+	/**
+	 * Iterator over a range of a float storage.
+	 */
+	private static final class FloatIterator implements PrimitiveIterator.OfDouble {
+		
+		private final float[] array;
+		private final int fence;
+		private int index;
+		
+		FloatIterator(float[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return index < fence;
+		}
+		
+		@Override
+		public double nextDouble() {
+			if (index >= fence) throw new NoSuchElementException();
+			return array[index++];
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull DoubleConsumer action) {
+			UAssert.paramNotNull(action, "DoubleConsumer action");
+			float[] elements = array;
+			int start = index;
+			int end = fence;
+			// The iterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+	
+	}
+	
+}
@@ -0,0 +1,324 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterators over the heap storage of the arrays of the primitive types without a stream
+ * of their own. The elements are widened to the type of the stream, {@code int} for the
+ * {@code byte}, {@code short} and {@code char} elements and {@code double} for the
+ * {@code float} elements.
+ * <p>
+ * The spliterators read the storage directly, without the bounds checks of the arrays,
+ * and split their range in halves, so a parallel stream divides the work evenly between
+ * the threads of the common fork/join pool. Like the spliterators of {@link java.util.Arrays},
+ * they report the {@link #CHARACTERISTICS} characteristics.
+ */
+final class UArraySpliterators {
+	
+	/* -----------------------------------------------------
+	 * Constants
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Characteristics of all the spliterators.
+	 */
+	static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED |
+		Spliterator.IMMUTABLE;
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UArraySpliterators() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Spliterator actions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a spliterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return a spliterator over the elements
+	 */
+	static @NotNull Spliterator.OfInt spliterator(byte[] array, int from, int to) {
+		return new ByteSpliterator(array, from, to);
+	}
+	
+	/**
+	 * Creates a spliterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return a spliterator over the elements
+	 */
+	static @NotNull Spliterator.OfInt spliterator(short[] array, int from, int to) {
+		return new ShortSpliterator(array, from, to);
+	}
+	
+	/**
+	 * Creates a spliterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return a spliterator over the elements
+	 */
+	static @NotNull Spliterator.OfInt spliterator(char[] array, int from, int to) {
+		return new CharacterSpliterator(array, from, to);
+	}
+	
+	/**
+	 * Creates a spliterator over the elements of the storage between the given positions.
+	 *
+	 * @param array the storage of the elements
+	 * @param from  the first position, inclusive
+	 * @param to    the last position, exclusive
+	 * @return a spliterator over the elements
+	 */
+	static @NotNull Spliterator.OfDouble spliterator(float[] array, int from, int to) {
+		return new FloatSpliterator(array, from, to);
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Spliterator over a range of a byte storage.
+	 */
+	private static final class ByteSpliterator implements Spliterator.OfInt {
+		
+		private final byte[] array;
+		private final int fence;
+		private int index;
+		
+		ByteSpliterator(byte[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int low = index;
+			int middle = (low + fence) >>> 1;
+			// The first half is given to the new spliterator
+			return low >= middle ? null : new ByteSpliterator(array, low, index = middle);
+		}
+		
+		@Override
+		public boolean tryAdvance(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			if (index >= fence) return false;
+			
+			action.accept(array[index++]);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			byte[] elements = array;
+			int start = index;
+			int end = fence;
+			// The spliterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+	
+	}
+	
+	/**
+	 * Spliterator over a range of a short storage.
+	 */
+	private static final class ShortSpliterator implements Spliterator.OfInt {
+		
+		private final short[] array;
+		private final int fence;
+		private int index;
+		
+		ShortSpliterator(short[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int low = index;
+			int middle = (low + fence) >>> 1;
+			// The first half is given to the new spliterator
+			return low >= middle ? null : new ShortSpliterator(array, low, index = middle);
+		}
+		
+		@Override
+		public boolean tryAdvance(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			if (index >= fence) return false;
+			
+			action.accept(array[index++]);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			short[] elements = array;
+			int start = index;
+			int end = fence;
+			// The spliterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+	
+	}
+	
+	/**
+	 * Spliterator over a range of a char storage.
+	 */
+	private static final class CharacterSpliterator implements Spliterator.OfInt {
+		
+		private final char[] array;
+		private final int fence;
+		private int index;
+		
+		CharacterSpliterator(char[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int low = index;
+			int middle = (low + fence) >>> 1;
+			// The first half is given to the new spliterator
+			return low >= middle ? null : new CharacterSpliterator(array, low, index = middle);
+		}
+		
+		@Override
+		public boolean tryAdvance(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			if (index >= fence) return false;
+			
+			action.accept(array[index++]);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull IntConsumer action) {
+			UAssert.paramNotNull(action, "IntConsumer action");
+			char[] elements = array;
+			int start = index;
+			int end = fence;
+			// The spliterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+	
+	}
+	
+	/**
+	 * Spliterator over a range of a float storage.
+	 */
+	private static final class FloatSpliterator implements Spliterator.OfDouble {
+		
+		private final float[] array;
+		private final int fence;
+		private int index;
+		
+		FloatSpliterator(float[] array, int index, int fence) {
+			this.array = array;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			int low = index;
+			int middle = (low + fence) >>> 1;
+			// The first half is given to the new spliterator
+			return low >= middle ? null : new FloatSpliterator(array, low, index = middle);
+		}
+		
+		@Override
+		public boolean tryAdvance(@NotNull DoubleConsumer action) {
+			UAssert.paramNotNull(action, "DoubleConsumer action");
+			if (index >= fence) return false;
+			
+			action.accept(array[index++]);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(@NotNull DoubleConsumer action) {
+			UAssert.paramNotNull(action, "DoubleConsumer action");
+			float[] elements = array;
+			int start = index;
+			int end = fence;
+			// The spliterator is consumed even if the action throws an exception
+			index = end;
+			for (int i = start; i < end; i++) {
+				action.accept(elements[i]);
+			}
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+	
+	}
+	
+}
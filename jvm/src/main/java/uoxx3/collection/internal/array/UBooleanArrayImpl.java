@@ -0,0 +1,801 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UBooleanArray;
+import uoxx3.collection.array.UGrowthPolicy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public final class UBooleanArrayImpl implements UBooleanArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int WORD_BITS = Long.SIZE;
+	private static final int WORD_SHIFT = 6;
+	private static final long WORD_MASK = -1L;
+	
+	// The bits after the last element of the array are always zero,
+	// unless the array is a view that shares the words of another array.
+	private long[] words;
+	private int size;
+	private int offset;
+	private boolean view;
+	private final UGrowthPolicy policy;
+	private final Class<Boolean> componentType;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UBooleanArrayImpl(boolean... elements) {
+		UAssert.paramNotNull(elements, "boolean[] elements");
+		words = new long[wordCount(elements.length)];
+		policy = UGrowthPolicy.defaultPolicy();
+		componentType = boolean.class;
+		
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i]) words[i >>> WORD_SHIFT] |= 1L << i;
+		}
+		size = elements.length;
+	}
+	
+	public UBooleanArrayImpl(int capacity, @NotNull UGrowthPolicy policy) {
+		UAssert.paramNotNull(policy, "UGrowthPolicy policy");
+		words = new long[wordCount(UArrayCommon.checkCapacity(capacity))];
+		this.policy = policy;
+		componentType = boolean.class;
+	}
+	
+	public UBooleanArrayImpl() {
+		this(new boolean[0]);
+	}
+	
+	private UBooleanArrayImpl(long[] words, int size, @NotNull UGrowthPolicy policy) {
+		this.words = words;
+		this.size = size;
+		this.policy = policy;
+		componentType = boolean.class;
+	}
+	
+	private UBooleanArrayImpl(long[] words, int offset, int size, @NotNull UGrowthPolicy policy) {
+		this(words, size, policy);
+		this.offset = offset;
+		this.view = true;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(boolean element) {
+		if (view) compact();
+		if (wordCount(size + 1) > words.length) grow(size + 1);
+		// The bits after the last element are zero, so only true needs a store
+		if (element) words[size >>> WORD_SHIFT] |= 1L << size;
+		size++;
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(boolean... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "boolean[] elements");
+		// Reserve the space for all the elements at once
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		for (boolean element : elements) {
+			if (element) words[size >>> WORD_SHIFT] |= 1L << size;
+			size++;
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied a word at a time.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull UBooleanArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UBooleanArray elements");
+		// The size is read before the storage grows, so the array
+		// can be safely added to itself.
+		int length = elements.size();
+		ensureCapacity(UArrayCommon.requiredCapacity(size, length));
+		
+		for (int i = 0; i < wordCount(length); i++) {
+			int bit = i << WORD_SHIFT;
+			writeBits(size + bit, wordOf(elements, i), Math.min(WORD_BITS, length - bit));
+		}
+		size += length;
+	}
+	
+	/**
+	 * Sets every element of the array to the logical AND of the element and the element at
+	 * the same position of the given array. The elements without a counterpart in the given
+	 * array are set to {@code false}.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	@Override
+	public void and(@NotNull UBooleanArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UBooleanArray elements");
+		int common = Math.min(wordCount(size), wordCount(elements.size()));
+		
+		// The last word of the other array is masked to its size, so the
+		// elements after its end are cleared by the same operation.
+		for (int i = 0; i < common; i++) {
+			words[i] &= wordOf(elements, i);
+		}
+		Arrays.fill(words, common, wordCount(size), 0L);
+	}
+	
+	/**
+	 * Sets every element of the array to {@code false} if the element at the same position
+	 * of the given array is {@code true}.
+	 *
+	 * @param elements The array with the elements to clear
+	 */
+	@Override
+	public void andNot(@NotNull UBooleanArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UBooleanArray elements");
+		int common = Math.min(wordCount(size), wordCount(elements.size()));
+		
+		for (int i = 0; i < common; i++) {
+			words[i] &= ~wordOf(elements, i);
+		}
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		if (view) return size;
+		return (int) Math.min((long) words.length << WORD_SHIFT, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Counts the elements of the array that are {@code true}.
+	 *
+	 * @return the number of {@code true} elements
+	 */
+	@Override
+	public int cardinality() {
+		int count = 0;
+		for (int i = 0; i < wordCount(size); i++) {
+			count += Long.bitCount(word(i));
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 */
+	@Override
+	public void compact() {
+		if (!view) return;
+		
+		words = alignedWords();
+		offset = 0;
+		view = false;
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(boolean value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (view) compact();
+		if (wordCount(minCapacity) > words.length) grow(minCapacity);
+	}
+	
+	/**
+	 * Inverts the element at the specified position of the array.
+	 *
+	 * @param index The position of the element to invert
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public void flip(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		words[index >>> WORD_SHIFT] ^= 1L << index;
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public boolean get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of range: " + index);
+		}
+		
+		int bit = offset + index;
+		return (words[bit >>> WORD_SHIFT] & (1L << bit)) != 0;
+	}
+	
+	/**
+	 * Gets the elements of the array as a native array. The elements are stored packed,
+	 * so the result is always a new array.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public boolean[] getArray() {
+		boolean[] result = new boolean[size];
+		// Only the true elements need a store, the new array is already false
+		for (int i = nextSetBit(0); i != UCollectionConstants.INDEX_NOT_FOUND; i = nextSetBit(i + 1)) {
+			result[i] = true;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(boolean value) {
+		return value ? nextSetBit(0) : nextClearBit(0);
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, boolean element) {
+		insertAll(index, element);
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, boolean... elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "boolean[] elements");
+		UArrayCommon.checkPositionIndex(index, size);
+		ensureCapacity(UArrayCommon.requiredCapacity(size, elements.length));
+		
+		// Open a gap for the new elements with a single move of the tail
+		moveBits(index, index + elements.length, size - index);
+		for (int i = 0; i < elements.length; i++) {
+			int bit = index + i;
+			if (elements[i]) words[bit >>> WORD_SHIFT] |= 1L << bit;
+			else words[bit >>> WORD_SHIFT] &= ~(1L << bit);
+		}
+		size += elements.length;
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(boolean value) {
+		return value ? previousSetBit(size - 1) : previousClearBit(size - 1);
+	}
+	
+	/**
+	 * Returns the index of the first {@code false} element at or after the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the next {@code false} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 * @throws IndexOutOfBoundsException if the index is negative
+	 */
+	@Override
+	public int nextClearBit(int fromIndex) {
+		if (fromIndex < 0) throw new IndexOutOfBoundsException("Index out of range: " + fromIndex);
+		if (fromIndex >= size) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		// The bits after the last element are zero, so the inverted word
+		// can report a position after the end of the array.
+		int index = fromIndex >>> WORD_SHIFT;
+		long current = ~word(index) & (WORD_MASK << fromIndex);
+		while (current == 0 && ++index < wordCount(size)) {
+			current = ~word(index);
+		}
+		if (current == 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		int result = (index << WORD_SHIFT) + Long.numberOfTrailingZeros(current);
+		return result < size ? result : UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Returns the index of the first {@code true} element at or after the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the next {@code true} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 * @throws IndexOutOfBoundsException if the index is negative
+	 */
+	@Override
+	public int nextSetBit(int fromIndex) {
+		if (fromIndex < 0) throw new IndexOutOfBoundsException("Index out of range: " + fromIndex);
+		if (fromIndex >= size) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		int index = fromIndex >>> WORD_SHIFT;
+		long current = word(index) & (WORD_MASK << fromIndex);
+		while (current == 0 && ++index < wordCount(size)) {
+			current = word(index);
+		}
+		if (current == 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		return (index << WORD_SHIFT) + Long.numberOfTrailingZeros(current);
+	}
+	
+	/**
+	 * Sets every element of the array to the logical OR of the element and the element at
+	 * the same position of the given array. If the given array is larger, the array grows
+	 * to its size.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	@Override
+	public void or(@NotNull UBooleanArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UBooleanArray elements");
+		if (elements.size() > size) {
+			ensureCapacity(elements.size());
+			size = elements.size();
+		}
+		
+		for (int i = 0; i < wordCount(elements.size()); i++) {
+			words[i] |= wordOf(elements, i);
+		}
+	}
+	
+	/**
+	 * Returns the index of the last {@code false} element at or before the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the previous {@code false} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 */
+	@Override
+	public int previousClearBit(int fromIndex) {
+		fromIndex = Math.min(fromIndex, size - 1);
+		if (fromIndex < 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		// The bits after the start index are discarded, so the zero bits
+		// after the last element are never reported.
+		int index = fromIndex >>> WORD_SHIFT;
+		long current = ~word(index) & (WORD_MASK >>> -(fromIndex + 1));
+		while (current == 0 && --index >= 0) {
+			current = ~word(index);
+		}
+		if (current == 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		return (index << WORD_SHIFT) + WORD_BITS - 1 - Long.numberOfLeadingZeros(current);
+	}
+	
+	/**
+	 * Returns the index of the last {@code true} element at or before the given index,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if there is no such element.
+	 *
+	 * @param fromIndex The index where the search starts
+	 * @return the index of the previous {@code true} element, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if there is no such element
+	 */
+	@Override
+	public int previousSetBit(int fromIndex) {
+		fromIndex = Math.min(fromIndex, size - 1);
+		if (fromIndex < 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		int index = fromIndex >>> WORD_SHIFT;
+		long current = word(index) & (WORD_MASK >>> -(fromIndex + 1));
+		while (current == 0 && --index >= 0) {
+			current = word(index);
+		}
+		if (current == 0) return UCollectionConstants.INDEX_NOT_FOUND;
+		
+		return (index << WORD_SHIFT) + WORD_BITS - 1 - Long.numberOfLeadingZeros(current);
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public boolean removeAt(int index) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		boolean element = get(index);
+		
+		removeRange(index, index + 1);
+		return element;
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		if (view) compact();
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		moveBits(toIndex, fromIndex, size - toIndex);
+		
+		// Clear the bits released at the end of the array
+		int newSize = size - (toIndex - fromIndex);
+		for (int bit = newSize; bit < size; bit += WORD_BITS) {
+			writeBits(bit, 0L, Math.min(WORD_BITS, size - bit));
+		}
+		size = newSize;
+	}
+	
+	/**
+	 * Replaces the element at the specified position of the array.
+	 *
+	 * @param index   The position of the element to replace
+	 * @param element The new element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public void set(int index, boolean element) {
+		if (view) compact();
+		UArrayCommon.checkIndex(index, size);
+		if (element) words[index >>> WORD_SHIFT] |= 1L << index;
+		else words[index >>> WORD_SHIFT] &= ~(1L << index);
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The content of the view is unspecified if the array is structurally modified
+	 * after the view is created.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UBooleanArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		return new UBooleanArrayImpl(words, offset + fromIndex, toIndex - fromIndex, policy);
+	}
+	
+	/**
+	 * Gets a copy of the packed words of the array. The element at index {@code i} is
+	 * the bit {@code i % 64} of the word {@code i / 64}.
+	 *
+	 * @return a native array with the packed elements
+	 */
+	@Override
+	public long[] toLongArray() {
+		return alignedWords();
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 */
+	@Override
+	public void trimToSize() {
+		if (view) compact();
+		if (words.length != wordCount(size)) words = Arrays.copyOf(words, wordCount(size));
+	}
+	
+	/**
+	 * Sets every element of the array to the logical XOR of the element and the element at
+	 * the same position of the given array. If the given array is larger, the array grows
+	 * to its size.
+	 *
+	 * @param elements The array with the elements of the operation
+	 */
+	@Override
+	public void xor(@NotNull UBooleanArray elements) {
+		if (view) compact();
+		UAssert.paramNotNull(elements, "UBooleanArray elements");
+		if (elements.size() > size) {
+			ensureCapacity(elements.size());
+			size = elements.size();
+		}
+		
+		for (int i = 0; i < wordCount(elements.size()); i++) {
+			words[i] ^= wordOf(elements, i);
+		}
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UBooleanArray copy() {
+		return new UBooleanArrayImpl(alignedWords(), size, policy);
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Boolean> first() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(0));
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<Boolean> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Boolean> last() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(size() - 1));
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns an iterator over elements of type {@code T}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	public Iterator<Boolean> iterator() {
+		return new Iterator<>() {
+			private int cursor;
+			
+			@Override
+			public boolean hasNext() {
+				return cursor < size;
+			}
+			
+			@Override
+			public Boolean next() {
+				if (cursor >= size) throw new NoSuchElementException();
+				return get(cursor++);
+			}
+		};
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(getArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Calculates the number of words required to store the given number of elements.
+	 *
+	 * @param length the number of elements
+	 * @return the number of words
+	 */
+	private static int wordCount(int length) {
+		return (int) (((long) length + WORD_BITS - 1) >>> WORD_SHIFT);
+	}
+	
+	/**
+	 * Gets the word with the elements of the given array starting at the index {@code index * 64}.
+	 * The bits after the last element of the array are zero.
+	 *
+	 * @param elements the array with the elements
+	 * @param index    the index of the word
+	 * @return the word with the elements
+	 */
+	private static long wordOf(@NotNull UBooleanArray elements, int index) {
+		if (elements instanceof UBooleanArrayImpl) {
+			return ((UBooleanArrayImpl) elements).word(index);
+		}
+		
+		long result = 0;
+		int start = index << WORD_SHIFT;
+		int end = Math.min(elements.size(), start + WORD_BITS);
+		for (int i = start; i < end; i++) {
+			if (elements.get(i)) result |= 1L << i;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Gets the word with the elements of the array starting at the index {@code index * 64}.
+	 * A view reads the word across the two words of the storage it overlaps, and the bits
+	 * after the last element of the array are always zero.
+	 *
+	 * @param index the index of the word
+	 * @return the word with the elements
+	 */
+	private long word(int index) {
+		int start = index << WORD_SHIFT;
+		long result = readBits(offset + start);
+		int remaining = size - start;
+		
+		return remaining >= WORD_BITS ? result : result & ~(WORD_MASK << remaining);
+	}
+	
+	/**
+	 * Copies the elements of the array into new words without any offset.
+	 *
+	 * @return the words with the elements of the array
+	 */
+	private long @NotNull [] alignedWords() {
+		long[] result = new long[wordCount(size)];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = word(i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Reads the 64 bits of the storage starting at the given bit position. The bits after
+	 * the end of the storage are zero.
+	 *
+	 * @param bit the position of the first bit
+	 * @return the bits starting at the given position
+	 */
+	private long readBits(int bit) {
+		int position = bit >>> WORD_SHIFT;
+		int shift = bit & (WORD_BITS - 1);
+		long result = words[position] >>> shift;
+		// A shift of zero is aligned to the storage and only needs one word
+		if (shift != 0 && position + 1 < words.length) result |= words[position + 1] << -shift;
+		
+		return result;
+	}
+	
+	/**
+	 * Writes the lowest bits of the given value into the storage, starting at the given bit position.
+	 *
+	 * @param bit   the position of the first bit
+	 * @param value the bits to write
+	 * @param count the number of bits to write, between 1 and 64
+	 */
+	private void writeBits(int bit, long value, int count) {
+		long mask = WORD_MASK >>> (WORD_BITS - count);
+		int position = bit >>> WORD_SHIFT;
+		int shift = bit & (WORD_BITS - 1);
+		value &= mask;
+		
+		words[position] = (words[position] & ~(mask << shift)) | (value << shift);
+		if (shift + count > WORD_BITS) {
+			words[position + 1] = (words[position + 1] & ~(mask >>> -shift)) | (value >>> -shift);
+		}
+	}
+	
+	/**
+	 * Moves the given number of bits of the storage to a new position, 64 bits at a time.
+	 * The source and the destination can overlap.
+	 *
+	 * @param source      the position of the first bit to move
+	 * @param destination the new position of the first bit
+	 * @param count       the number of bits to move
+	 */
+	private void moveBits(int source, int destination, int count) {
+		if (destination < source) {
+			for (int done = 0; done < count; done += WORD_BITS) {
+				writeBits(destination + done, readBits(source + done), Math.min(WORD_BITS, count - done));
+			}
+		} else if (destination > source) {
+			// Moving to the right starts at the end, so no bit is overwritten before it is read
+			for (int done = count; done > 0; ) {
+				int length = Math.min(WORD_BITS, done);
+				done -= length;
+				writeBits(destination + done, readBits(source + done), length);
+			}
+		}
+	}
+	
+	/**
+	 * Reallocates the backing storage so it can hold at least the given number of elements.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	private void grow(int minCapacity) {
+		int newCapacity = UArrayCommon.newCapacity(policy, words.length, wordCount(minCapacity), Long.BYTES);
+		words = Arrays.copyOf(words, newCapacity);
+	}
+	
+}
@@ -0,0 +1,426 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Compressed storage shared by the compressed arrays.
+ * <p>
+ * The elements are split in blocks of 128 elements and every block is encoded with
+ * the smallest of these encodings:
+ * <ul>
+ *     <li>Delta varint: the differences between consecutive elements, zigzag encoded
+ *     and written as variable length integers.</li>
+ *     <li>Delta bit-packing: the same zigzag differences, packed with the number of bits
+ *     of the largest one.</li>
+ *     <li>Frame of reference: the elements minus the smallest element of the block, packed
+ *     with the number of bits of the largest difference. The elements of this encoding
+ *     are accessed in constant time.</li>
+ * </ul>
+ * The offset of every block is kept apart, so any element is found by decoding a single block.
+ */
+final class UCompressedBlocks {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	static final int BLOCK_SHIFT = 7;
+	static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+	static final int BLOCK_MASK = BLOCK_SIZE - 1;
+	
+	private static final byte DELTA_VARINT = 0;
+	private static final byte DELTA_PACKED = 1;
+	private static final byte FRAME_OF_REFERENCE = 2;
+	
+	private final byte[] data;
+	private final int[] offsets;
+	private final int size;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Encodes the given elements.
+	 *
+	 * @param size     the number of elements
+	 * @param elements the function that returns the element at every index
+	 */
+	UCompressedBlocks(int size, @NotNull IntToLongFunction elements) {
+		Encoder encoder = new Encoder(size);
+		long[] block = new long[BLOCK_SIZE];
+		
+		this.size = size;
+		offsets = new int[(size + BLOCK_MASK) >>> BLOCK_SHIFT];
+		
+		for (int b = 0; b < offsets.length; b++) {
+			int start = b << BLOCK_SHIFT;
+			int count = Math.min(BLOCK_SIZE, size - start);
+			
+			for (int i = 0; i < count; i++) {
+				block[i] = elements.applyAsLong(start + i);
+			}
+			offsets[b] = encoder.position;
+			encoder.writeBlock(block, count);
+		}
+		
+		data = Arrays.copyOf(encoder.buffer, encoder.position);
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Gets the number of bytes used by the encoded elements and the block offsets.
+	 *
+	 * @return the number of bytes of the storage
+	 */
+	int bytes() {
+		return data.length + offsets.length * Integer.BYTES;
+	}
+	
+	/**
+	 * Gets the number of encoded elements.
+	 *
+	 * @return the number of elements
+	 */
+	int size() {
+		return size;
+	}
+	
+	/**
+	 * Gets the element at the given index. Only the block of the element is decoded,
+	 * and only up to the element.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the given index
+	 */
+	long get(int index) {
+		int position = offsets[index >>> BLOCK_SHIFT];
+		int target = index & BLOCK_MASK;
+		byte mode = data[position++];
+		
+		if (mode == FRAME_OF_REFERENCE) {
+			long reference = zigzagDecode(readVarint(position));
+			position = skipVarint(position);
+			int bits = data[position++];
+			return reference + readBits(data, ((long) position << 3) + (long) target * bits, bits);
+		}
+		
+		long value = zigzagDecode(readVarint(position));
+		position = skipVarint(position);
+		
+		if (mode == DELTA_PACKED) {
+			int bits = data[position++];
+			long bitPosition = (long) position << 3;
+			
+			for (int i = 0; i < target; i++, bitPosition += bits) {
+				value += zigzagDecode(readBits(data, bitPosition, bits));
+			}
+		} else {
+			for (int i = 0; i < target; i++) {
+				value += zigzagDecode(readVarint(position));
+				position = skipVarint(position);
+			}
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Decodes all the elements of the block that contains the given index.
+	 *
+	 * @param index  the index of any element of the block
+	 * @param output the array where the elements are decoded, with at least {@link #BLOCK_SIZE} elements
+	 * @return the number of decoded elements
+	 */
+	int decodeBlock(int index, long @NotNull [] output) {
+		int start = index & ~BLOCK_MASK;
+		int count = Math.min(BLOCK_SIZE, size - start);
+		int position = offsets[index >>> BLOCK_SHIFT];
+		byte mode = data[position++];
+		long value = zigzagDecode(readVarint(position));
+		
+		position = skipVarint(position);
+		if (mode == FRAME_OF_REFERENCE) {
+			int bits = data[position++];
+			long bitPosition = (long) position << 3;
+			
+			for (int i = 0; i < count; i++, bitPosition += bits) {
+				output[i] = value + readBits(data, bitPosition, bits);
+			}
+		} else if (mode == DELTA_PACKED) {
+			int bits = data[position++];
+			long bitPosition = (long) position << 3;
+			
+			output[0] = value;
+			for (int i = 1; i < count; i++, bitPosition += bits) {
+				output[i] = output[i - 1] + zigzagDecode(readBits(data, bitPosition, bits));
+			}
+		} else {
+			output[0] = value;
+			for (int i = 1; i < count; i++) {
+				output[i] = output[i - 1] + zigzagDecode(readVarint(position));
+				position = skipVarint(position);
+			}
+		}
+		
+		return count;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Reads the variable length integer at the given position.
+	 *
+	 * @param position the position of the first byte of the integer
+	 * @return the decoded integer
+	 */
+	private long readVarint(int position) {
+		long result = 0;
+		int shift = 0;
+		byte current;
+		
+		do {
+			current = data[position++];
+			result |= (long) (current & 0x7F) << shift;
+			shift += 7;
+		} while (current < 0);
+		
+		return result;
+	}
+	
+	/**
+	 * Gets the position after the variable length integer at the given position.
+	 *
+	 * @param position the position of the first byte of the integer
+	 * @return the position of the next byte after the integer
+	 */
+	private int skipVarint(int position) {
+		while (data[position++] < 0) {
+			// Every byte with the high bit set is followed by another byte
+		}
+		
+		return position;
+	}
+	
+	/**
+	 * Reads an unsigned value packed with the given number of bits.
+	 *
+	 * @param data        the packed data
+	 * @param bitPosition the position of the first bit of the value
+	 * @param bits        the number of bits of the value
+	 * @return the unpacked value
+	 */
+	private static long readBits(byte @NotNull [] data, long bitPosition, int bits) {
+		if (bits == 0) return 0;
+		int position = (int) (bitPosition >>> 3);
+		int shift = (int) (bitPosition & 7);
+		long result = (data[position++] & 0xFFL) >>> shift;
+		int read = 8 - shift;
+		
+		while (read < bits) {
+			result |= (data[position++] & 0xFFL) << read;
+			read += 8;
+		}
+		
+		return bits == Long.SIZE ? result : result & ((1L << bits) - 1);
+	}
+	
+	/**
+	 * Maps a signed value to an unsigned value, so the values close to zero use few bits.
+	 *
+	 * @param value the signed value
+	 * @return the zigzag encoded value
+	 */
+	private static long zigzagEncode(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	/**
+	 * Restores a value encoded with {@link #zigzagEncode(long)}.
+	 *
+	 * @param value the zigzag encoded value
+	 * @return the signed value
+	 */
+	private static long zigzagDecode(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Gets the number of bytes of a variable length integer.
+	 *
+	 * @param value the unsigned value
+	 * @return the number of bytes used to write the value
+	 */
+	private static int varintBytes(long value) {
+		int bits = Long.SIZE - Long.numberOfLeadingZeros(value | 1);
+		return (bits + 6) / 7;
+	}
+	
+	/**
+	 * Gets the number of bits needed to write the given unsigned value.
+	 *
+	 * @param value the unsigned value
+	 * @return the number of bits of the value
+	 */
+	private static int bitWidth(long value) {
+		return Long.SIZE - Long.numberOfLeadingZeros(value);
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Growing buffer where the blocks are encoded.
+	 */
+	private static final class Encoder {
+		
+		private byte[] buffer;
+		private int position;
+		private long bits;
+		private int pendingBits;
+		
+		private Encoder(int size) {
+			// Most of the blocks use about 2 bytes per element
+			buffer = new byte[Math.max(16, Math.min(size, UArrayCommon.MAX_ARRAY_LENGTH / 2) * 2)];
+		}
+		
+		/**
+		 * Encodes a block with the smallest encoding.
+		 *
+		 * @param block the elements of the block
+		 * @param count the number of elements of the block
+		 */
+		private void writeBlock(long @NotNull [] block, int count) {
+			long first = zigzagEncode(block[0]);
+			long min = block[0];
+			long deltaBits = 0;
+			int varintBytes = 0;
+			
+			for (int i = 1; i < count; i++) {
+				long delta = zigzagEncode(block[i] - block[i - 1]);
+				deltaBits |= delta;
+				varintBytes += varintBytes(delta);
+				min = Math.min(min, block[i]);
+			}
+			
+			long referenceBits = 0;
+			for (int i = 0; i < count; i++) {
+				referenceBits |= block[i] - min;
+			}
+			
+			int deltaWidth = bitWidth(deltaBits);
+			int referenceWidth = bitWidth(referenceBits);
+			long packedBytes = ((long) (count - 1) * deltaWidth + 7) >>> 3;
+			long referenceBytes = ((long) count * referenceWidth + 7) >>> 3;
+			
+			if (referenceBytes <= packedBytes && referenceBytes <= varintBytes) {
+				writeByte(FRAME_OF_REFERENCE);
+				writeVarint(zigzagEncode(min));
+				writeByte(referenceWidth);
+				for (int i = 0; i < count; i++) {
+					writeBits(block[i] - min, referenceWidth);
+				}
+			} else if (packedBytes < varintBytes) {
+				writeByte(DELTA_PACKED);
+				writeVarint(first);
+				writeByte(deltaWidth);
+				for (int i = 1; i < count; i++) {
+					writeBits(zigzagEncode(block[i] - block[i - 1]), deltaWidth);
+				}
+			} else {
+				writeByte(DELTA_VARINT);
+				writeVarint(first);
+				for (int i = 1; i < count; i++) {
+					writeVarint(zigzagEncode(block[i] - block[i - 1]));
+				}
+			}
+			flushBits();
+		}
+		
+		/**
+		 * Writes a single byte.
+		 *
+		 * @param value the byte to write
+		 */
+		private void writeByte(int value) {
+			ensureCapacity(1);
+			buffer[position++] = (byte) value;
+		}
+		
+		/**
+		 * Writes an unsigned value as a variable length integer.
+		 *
+		 * @param value the unsigned value
+		 */
+		private void writeVarint(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			
+			buffer[position++] = (byte) value;
+		}
+		
+		/**
+		 * Packs an unsigned value with the given number of bits.
+		 *
+		 * @param value the unsigned value
+		 * @param width the number of bits of the value
+		 */
+		private void writeBits(long value, int width) {
+			ensureCapacity(9);
+			int written = 0;
+			
+			while (written < width) {
+				int chunk = Math.min(width - written, Long.SIZE - pendingBits);
+				long mask = chunk == Long.SIZE ? -1L : (1L << chunk) - 1;
+				
+				bits |= ((value >>> written) & mask) << pendingBits;
+				pendingBits += chunk;
+				written += chunk;
+				
+				// Every complete byte is moved to the buffer
+				while (pendingBits >= 8) {
+					buffer[position++] = (byte) bits;
+					bits >>>= 8;
+					pendingBits -= 8;
+				}
+			}
+		}
+		
+		/**
+		 * Writes the remaining packed bits, so the next block starts at a byte boundary.
+		 */
+		private void flushBits() {
+			if (pendingBits == 0) return;
+			ensureCapacity(1);
+			
+			buffer[position++] = (byte) bits;
+			bits = 0;
+			pendingBits = 0;
+		}
+		
+		/**
+		 * Grows the buffer, if needed, so it can hold the given number of additional bytes.
+		 *
+		 * @param length the number of bytes to write
+		 */
+		private void ensureCapacity(int length) {
+			if (position + length <= buffer.length) return;
+			int required = UArrayCommon.requiredCapacity(position, length);
+			buffer = Arrays.copyOf(buffer, Math.max(required, (int) Math.min(UArrayCommon.MAX_ARRAY_LENGTH, buffer.length * 2L)));
+		}
+		
+	}
+	
+}
@@ -0,0 +1,507 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UCompressedIntegerArray;
+import uoxx3.collection.array.UIntegerArray;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public final class UCompressedIntegerArrayImpl implements UCompressedIntegerArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final UCompressedBlocks blocks;
+	private final int size;
+	private final int offset;
+	private final Class<Integer> componentType;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UCompressedIntegerArrayImpl(@NotNull UIntegerArray source) {
+		UAssert.paramNotNull(source, "UIntegerArray source");
+		blocks = new UCompressedBlocks(source.size(), source::get);
+		size = blocks.size();
+		offset = 0;
+		componentType = int.class;
+	}
+	
+	private UCompressedIntegerArrayImpl(@NotNull UCompressedIntegerArrayImpl source, int offset, int size) {
+		blocks = source.blocks;
+		componentType = int.class;
+		this.offset = offset;
+		this.size = size;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param element The element to add
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void add(int element) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param elements All the elements wants to add
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void addAll(int... elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Add all the elements of the given array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void addAll(@NotNull UIntegerArray elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Add all the elements of the given stream
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void addAll(@NotNull IntStream elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void addAll(@NotNull Spliterator.OfInt elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 * <p>
+	 * The compressed array cannot grow, so its capacity is its size.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return size;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * The compressed blocks are immutable, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Gets the number of bytes used to store the compressed elements.
+	 * <p>
+	 * The views share the storage of their array, so they report the size of the whole storage.
+	 *
+	 * @return the size in bytes of the compressed storage
+	 */
+	@Override
+	public int compressedBytes() {
+		return blocks.bytes();
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Gets the index of the array
+	 * <p>
+	 * Only the block of the element is decoded.
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int get(int index) {
+		UArrayCommon.checkIndex(index, size);
+		return (int) blocks.get(offset + index);
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The elements are stored compressed, so this method returns a decoded copy of them.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public int[] getArray() {
+		int[] result = new int[size];
+		PrimitiveIterator.OfInt iterator = new BlockIterator();
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = iterator.nextInt();
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(int value) {
+		PrimitiveIterator.OfInt iterator = new BlockIterator();
+		
+		for (int i = 0; i < size; i++) {
+			if (iterator.nextInt() == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void insert(int index, int element) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void insertAll(int index, int... elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 * <p>
+	 * The blocks are decoded from the end of the array, one block at a time.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(int value) {
+		long[] buffer = new long[UCompressedBlocks.BLOCK_SIZE];
+		int index = size - 1;
+		
+		while (index >= 0) {
+			int absolute = offset + index;
+			int start = absolute & ~UCompressedBlocks.BLOCK_MASK;
+			blocks.decodeBlock(absolute, buffer);
+			
+			for (int i = absolute - start; i >= 0 && index >= 0; i--, index--) {
+				if ((int) buffer[i] == value) return index;
+			}
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public int removeAt(int index) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate.
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean removeIf(@NotNull IntPredicate filter) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive.
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * <p>
+	 * The compressed array cannot be modified.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public boolean retainAll(@NotNull UIntegerArray elements) {
+		throw unsupported();
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the compressed blocks of the array,
+	 * so no element is copied.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UCompressedIntegerArray slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		return new UCompressedIntegerArrayImpl(this, offset + fromIndex, toIndex - fromIndex);
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 * <p>
+	 * The stream decodes a whole block at a time.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NotNull IntStream stream() {
+		if (isEmpty()) return IntStream.empty();
+		// Generate new array stream
+		return StreamSupport.intStream(Spliterators.spliterator(
+			new BlockIterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 * <p>
+	 * The compressed array has no unused storage, so this method has no effect.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 * <p>
+	 * The compressed blocks are immutable, so the copy shares them.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UIntegerArray copy() {
+		return new UCompressedIntegerArrayImpl(this, offset, size);
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> first() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(0));
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<Integer> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> last() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.of(get(size() - 1));
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}.
+	 *
+	 * @return an Iterator.
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		// Generate new array iterator
+		return new BlockIterator();
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(getArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates the exception thrown by the operations that modify the array.
+	 *
+	 * @return the exception to throw
+	 */
+	private static @NotNull UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("The compressed array cannot be modified");
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator that decodes the elements of the array one block at a time.
+	 */
+	private final class BlockIterator implements PrimitiveIterator.OfInt {
+		
+		private final long[] buffer = new long[UCompressedBlocks.BLOCK_SIZE];
+		private int index;
+		private int position = UCompressedBlocks.BLOCK_SIZE;
+		
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (index >= size) throw new NoSuchElementException();
+			int absolute = offset + index++;
+			
+			// The next block is decoded when the current one is exhausted
+			if (position == UCompressedBlocks.BLOCK_SIZE) {
+				blocks.decodeBlock(absolute, buffer);
+				position = absolute & UCompressedBlocks.BLOCK_MASK;
+			}
+			return (int) buffer[position++];
+		}
+		
+	}
+	
+}
@@ -0,0 +1,613 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import uoxx3.UAssert;
+import uoxx3.UClass;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UArray;
+import uoxx3.collection.array.UConcurrentArray;
+import uoxx3.collection.collection.UList;
+import uoxx3.collection.collection.USet;
+import uoxx3.collection.collection.UStack;
+import uoxx3.collection.collection.UVector;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public final class UConcurrentArrayImpl<T> implements UConcurrentArray<T> {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final Object lock = new Object();
+	private final Class<T> componentType;
+	private volatile T[] array;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	@SafeVarargs
+	public UConcurrentArrayImpl(T @Nullable ... elements) {
+		UAssert.paramNotNull(elements, "T[] elements");
+		array = elements.clone();
+		componentType = UClass.arrayComponentType(elements);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public UConcurrentArrayImpl(@NotNull Class<T> cls) {
+		UAssert.paramNotNull(cls, "Class<T> cls");
+		array = (T[]) Array.newInstance(cls, UCollectionConstants.EMPTY_SIZE);
+		componentType = cls;
+	}
+	
+	private UConcurrentArrayImpl(T[] snapshot, @NotNull Class<T> componentType) {
+		this.array = snapshot;
+		this.componentType = componentType;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(@Nullable T element) {
+		synchronized (lock) {
+			T[] current = array;
+			T[] next = Arrays.copyOf(current, current.length + 1);
+			
+			next[current.length] = element;
+			array = next;
+		}
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void addAll(T @Nullable ... elements) {
+		UAssert.paramNotNull(elements, "T[] elements");
+		if (elements.length == 0) return;
+		
+		synchronized (lock) {
+			T[] current = array;
+			T[] next = Arrays.copyOf(current, UArrayCommon.requiredCapacity(current.length, elements.length));
+			
+			System.arraycopy(elements, 0, next, current.length, elements.length);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given iterable. If the iterable is a collection,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The iterable with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull Iterable<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Iterable<? extends T> elements");
+		// The elements are collected before taking the lock, so the
+		// source is never traversed while the writers are blocked.
+		UArray<T> values = new UArrayImpl<>(componentType);
+		values.addAll(elements);
+		append(values);
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull UArray<? extends T> elements) {
+		UAssert.paramNotNull(elements, "UArray<? extends T> elements");
+		addAll(elements.stream());
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull Spliterator<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Spliterator<? extends T> elements");
+		UArray<T> values = new UArrayImpl<>(componentType);
+		values.addAll(elements);
+		append(values);
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull Stream<? extends T> elements) {
+		UAssert.paramNotNull(elements, "Stream<? extends T> elements");
+		addAll(elements.spliterator());
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return array.length;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * Copy-on-write arrays only share immutable snapshots, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<T> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(@Nullable T value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size,
+	 * so this method has no effect.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<T> first() {
+		T[] snapshot = array;
+		if (snapshot.length == 0) return Optional.empty();
+		return Optional.ofNullable(snapshot[0]);
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public T get(int index) {
+		// The snapshot is read once, so the index check and the access
+		// always refer to the same version of the array.
+		T[] snapshot = array;
+		UArrayCommon.checkIndex(index, snapshot.length);
+		return snapshot[index];
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The snapshot of the array is immutable, so this method returns a copy of it.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public T[] getArray() {
+		return array.clone();
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(@Nullable T value) {
+		T[] snapshot = array;
+		for (int i = 0; i < snapshot.length; i++) {
+			if (Objects.equals(value, snapshot[i])) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, @Nullable T element) {
+		synchronized (lock) {
+			T[] current = array;
+			UArrayCommon.checkPositionIndex(index, current.length);
+			T[] next = Arrays.copyOf(current, current.length + 1);
+			
+			System.arraycopy(current, index, next, index + 1, current.length - index);
+			next[index] = element;
+			array = next;
+		}
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void insertAll(int index, T @Nullable ... elements) {
+		UAssert.paramNotNull(elements, "T[] elements");
+		synchronized (lock) {
+			T[] current = array;
+			UArrayCommon.checkPositionIndex(index, current.length);
+			T[] next = Arrays.copyOf(current, UArrayCommon.requiredCapacity(current.length, elements.length));
+			
+			System.arraycopy(current, index, next, index + elements.length, current.length - index);
+			System.arraycopy(elements, 0, next, index, elements.length);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<T> last() {
+		T[] snapshot = array;
+		if (snapshot.length == 0) return Optional.empty();
+		return Optional.ofNullable(snapshot[snapshot.length - 1]);
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(@Nullable T value) {
+		T[] snapshot = array;
+		for (int i = snapshot.length - 1; i >= 0; i--) {
+			if (Objects.equals(value, snapshot[i])) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public T removeAt(int index) {
+		synchronized (lock) {
+			T[] current = array;
+			UArrayCommon.checkIndex(index, current.length);
+			T[] next = Arrays.copyOf(current, current.length - 1);
+			
+			System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+			array = next;
+			return current[index];
+		}
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The snapshot
+	 * is copied once and compacted in a single pass.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NotNull Predicate<? super T> filter) {
+		UAssert.paramNotNull(filter, "Predicate<? super T> filter");
+		return write(working -> working.removeIf(filter));
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		synchronized (lock) {
+			T[] current = array;
+			UArrayCommon.checkRange(fromIndex, toIndex, current.length);
+			T[] next = Arrays.copyOf(current, current.length - (toIndex - fromIndex));
+			
+			System.arraycopy(current, toIndex, next, fromIndex, current.length - toIndex);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given collection.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The collection with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NotNull Collection<?> elements) {
+		UAssert.paramNotNull(elements, "Collection<?> elements");
+		return write(working -> working.retainAll(elements));
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return array.length;
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The view is taken from the current snapshot of the array and it is not thread-safe.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UArray<T> slice(int fromIndex, int toIndex) {
+		return new UArrayImpl<>(array).slice(fromIndex, toIndex);
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NotNull Stream<T> stream() {
+		return Arrays.stream(array);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size,
+	 * so this method has no effect.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+	
+	/**
+	 * Performs multiple modifications of the array as a single atomic operation. All the
+	 * modifications are applied to a private copy of the array, which is published once
+	 * the action finishes, instead of copying the array on every modification.
+	 * <p>
+	 * The array given to the action must not be used after the action returns.
+	 *
+	 * @param action The action that modifies the array
+	 */
+	@Override
+	public void update(@NotNull Consumer<? super UArray<T>> action) {
+		UAssert.paramNotNull(action, "Consumer<? super UArray<T>> action");
+		write(working -> {
+			action.accept(working);
+			return null;
+		});
+	}
+	
+	/**
+	 * Returns an iterator over elements of type {@code T}.
+	 * <p>
+	 * The iterator traverses the snapshot of the array at the moment it was created.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	public Iterator<T> iterator() {
+		return Arrays.asList(array).iterator();
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UArray<T> copy() {
+		// Snapshots are never modified, so the copy can share it
+		return new UConcurrentArrayImpl<>(array, componentType);
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(array);
+	}
+	
+	/* -----------------------------------------------------
+	 * Conversions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Converts the array to an unmodifiable list.
+	 *
+	 * @return an unmodifiable view of the array as a list
+	 */
+	@Override
+	public @NotNull @UnmodifiableView List<T> toList() {
+		return UList.make(Arrays.asList(array));
+	}
+	
+	/**
+	 * Converts the array to a mutable list.
+	 *
+	 * @return a mutable list containing the elements of the array
+	 */
+	@Override
+	public @NotNull List<T> toMutableList() {
+		return UList.makeMutable(Arrays.asList(array));
+	}
+	
+	/**
+	 * Converts the array to an unmodifiable set.
+	 *
+	 * @return an unmodifiable view of the array as a set
+	 */
+	@Override
+	public @NotNull @UnmodifiableView Set<T> toSet() {
+		return USet.make(Arrays.asList(array));
+	}
+	
+	/**
+	 * Converts the array to a mutable set.
+	 *
+	 * @return a mutable set containing the elements of the array
+	 */
+	@Override
+	public @NotNull Set<T> toMutableSet() {
+		return USet.makeMutable(Arrays.asList(array));
+	}
+	
+	/**
+	 * Converts the array to a vector.
+	 *
+	 * @return a vector containing the elements of the array
+	 */
+	@Override
+	public @NotNull Vector<T> toVector() {
+		return UVector.make(Arrays.asList(array));
+	}
+	
+	/**
+	 * Converts the array to a stack.
+	 *
+	 * @return a stack containing the elements of the array
+	 */
+	@Override
+	public @NotNull Stack<T> toStack() {
+		return UStack.make(Arrays.asList(array));
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Publishes a new snapshot with the given elements after the current elements. The elements
+	 * are read straight from the collected array, so its storage is neither trimmed nor copied.
+	 *
+	 * @param elements the collected elements to add
+	 */
+	private void append(@NotNull UArray<T> elements) {
+		int length = elements.size();
+		if (length == 0) return;
+		
+		synchronized (lock) {
+			T[] current = array;
+			T[] next = Arrays.copyOf(current, UArrayCommon.requiredCapacity(current.length, length));
+			
+			for (int i = 0; i < length; i++) {
+				next[current.length + i] = elements.get(i);
+			}
+			array = next;
+		}
+	}
+	
+	/**
+	 * Applies the given operation to a private copy of the array and publishes the
+	 * result as the new snapshot of the array.
+	 *
+	 * @param operation the operation that modifies the array
+	 * @param <R>       the type of the operation result
+	 * @return the result of the operation
+	 */
+	private <R> R write(@NotNull Function<UArray<T>, R> operation) {
+		synchronized (lock) {
+			UArrayImpl<T> working = new UArrayImpl<>(array.clone());
+			R result = operation.apply(working);
+			
+			array = working.getArray();
+			return result;
+		}
+	}
+	
+}
@@ -0,0 +1,558 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UConcurrentIntegerArray;
+import uoxx3.collection.array.UIntegerArray;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public final class UConcurrentIntegerArrayImpl implements UConcurrentIntegerArray {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final Object lock = new Object();
+	private final Class<Integer> componentType;
+	private volatile int[] array;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UConcurrentIntegerArrayImpl(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		array = elements.clone();
+		componentType = int.class;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the array
+	 *
+	 * @param element The element to add
+	 */
+	@Override
+	public void add(int element) {
+		synchronized (lock) {
+			int[] current = array;
+			int[] next = Arrays.copyOf(current, current.length + 1);
+			
+			next[current.length] = element;
+			array = next;
+		}
+	}
+	
+	/**
+	 * Add multiple elements to the array
+	 *
+	 * @param elements All the elements wants to add
+	 */
+	@Override
+	public void addAll(int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		if (elements.length == 0) return;
+		
+		synchronized (lock) {
+			int[] current = array;
+			int[] next = Arrays.copyOf(current, UArrayCommon.requiredCapacity(current.length, elements.length));
+			
+			System.arraycopy(elements, 0, next, current.length, elements.length);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Add all the elements of the given array. The storage is reserved only once
+	 * and the elements are copied straight into it.
+	 *
+	 * @param elements The array with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		addAll(elements.stream());
+	}
+	
+	/**
+	 * Add all the elements of the given stream. If the size of the stream is known,
+	 * the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The stream with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull IntStream elements) {
+		UAssert.paramNotNull(elements, "IntStream elements");
+		// The elements are collected before taking the lock, so the
+		// source is never traversed while the writers are blocked.
+		addAll(elements.toArray());
+	}
+	
+	/**
+	 * Add all the remaining elements of the given spliterator. If the spliterator
+	 * reports a known size, the storage is reserved only once before the elements are copied.
+	 *
+	 * @param elements The spliterator with all the elements wants to add
+	 */
+	@Override
+	public void addAll(@NotNull Spliterator.OfInt elements) {
+		UAssert.paramNotNull(elements, "Spliterator.OfInt elements");
+		addAll(StreamSupport.intStream(elements, false));
+	}
+	
+	/**
+	 * Gets the number of elements the array can hold before its storage needs to be reallocated.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size.
+	 *
+	 * @return the current capacity of the array
+	 */
+	@Override
+	public int capacity() {
+		return array.length;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * Copy-on-write arrays only share immutable snapshots, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Increases the capacity of the array, if necessary, to ensure that it can hold
+	 * at least the number of elements specified by the minimum capacity argument.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size,
+	 * so this method has no effect.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int get(int index) {
+		// The snapshot is read once, so the index check and the access
+		// always refer to the same version of the array.
+		int[] snapshot = array;
+		UArrayCommon.checkIndex(index, snapshot.length);
+		return snapshot[index];
+	}
+	
+	/**
+	 * Gets the native wrapped array.
+	 * <p>
+	 * The snapshot of the array is immutable, so this method returns a copy of it.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public int[] getArray() {
+		return array.clone();
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(int value) {
+		int[] snapshot = array;
+		for (int i = 0; i < snapshot.length; i++) {
+			if (snapshot[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Inserts a new element at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index   The position where the element is inserted
+	 * @param element The element to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insert(int index, int element) {
+		synchronized (lock) {
+			int[] current = array;
+			UArrayCommon.checkPositionIndex(index, current.length);
+			int[] next = Arrays.copyOf(current, current.length + 1);
+			
+			System.arraycopy(current, index, next, index + 1, current.length - index);
+			next[index] = element;
+			array = next;
+		}
+	}
+	
+	/**
+	 * Inserts multiple elements at the specified position of the array, shifting the
+	 * element currently at that position and all the subsequent elements to the right.
+	 *
+	 * @param index    The position where the first element is inserted
+	 * @param elements All the elements wants to insert
+	 * @throws IndexOutOfBoundsException if the index is not part of the array limits
+	 */
+	@Override
+	public void insertAll(int index, int... elements) {
+		UAssert.paramNotNull(elements, "int[] elements");
+		synchronized (lock) {
+			int[] current = array;
+			UArrayCommon.checkPositionIndex(index, current.length);
+			int[] next = Arrays.copyOf(current, UArrayCommon.requiredCapacity(current.length, elements.length));
+			
+			System.arraycopy(current, index, next, index + elements.length, current.length - index);
+			System.arraycopy(elements, 0, next, index, elements.length);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(int value) {
+		int[] snapshot = array;
+		for (int i = snapshot.length - 1; i >= 0; i--) {
+			if (snapshot[i] == value) return i;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to all the
+	 * elements up to it, like {@link #scan}, splitting the work between the threads of the common
+	 * fork/join pool. The scanned copy is published as a single modification.
+	 * <p>
+	 * The operator must be associative and free of side effects, otherwise the result is
+	 * undefined.
+	 *
+	 * @param operator the associative operator that combines the previous result and an element
+	 */
+	@Override
+	public void parallelScan(@NotNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		write(working -> {
+			working.parallelScan(operator);
+			return null;
+		});
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order, splitting the work between the
+	 * threads of the common fork/join pool. The sorted copy is published as a single modification.
+	 */
+	@Override
+	public void parallelSort() {
+		write(working -> {
+			working.parallelSort();
+			return null;
+		});
+	}
+	
+	/**
+	 * Removes the element at the specified position of the array, shifting all the
+	 * subsequent elements to the left.
+	 *
+	 * @param index The position of the element to remove
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public int removeAt(int index) {
+		synchronized (lock) {
+			int[] current = array;
+			UArrayCommon.checkIndex(index, current.length);
+			int[] next = Arrays.copyOf(current, current.length - 1);
+			
+			System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+			array = next;
+			return current[index];
+		}
+	}
+	
+	/**
+	 * Removes all the elements of the array that satisfy the given predicate. The snapshot
+	 * is copied once and compacted in a single pass.
+	 *
+	 * @param filter The predicate which returns {@code true} for the elements to remove
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean removeIf(@NotNull IntPredicate filter) {
+		UAssert.paramNotNull(filter, "IntPredicate filter");
+		return write(working -> working.removeIf(filter));
+	}
+	
+	/**
+	 * Removes all the elements of the array whose index is between the start index, inclusive,
+	 * and the end index, exclusive, shifting all the subsequent elements to the left.
+	 *
+	 * @param fromIndex The index of the first element to remove
+	 * @param toIndex   The index after the last element to remove
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		synchronized (lock) {
+			int[] current = array;
+			UArrayCommon.checkRange(fromIndex, toIndex, current.length);
+			int[] next = Arrays.copyOf(current, current.length - (toIndex - fromIndex));
+			
+			System.arraycopy(current, toIndex, next, fromIndex, current.length - toIndex);
+			array = next;
+		}
+	}
+	
+	/**
+	 * Retains only the elements of the array that are contained in the given array.
+	 * The array is compacted in a single pass.
+	 *
+	 * @param elements The array with the elements to retain
+	 * @return {@code true} if any element was removed
+	 */
+	@Override
+	public boolean retainAll(@NotNull UIntegerArray elements) {
+		UAssert.paramNotNull(elements, "UIntegerArray elements");
+		// The lookup array is built before taking the lock
+		UIntegerArray values = new UIntegerArrayImpl(elements.stream().toArray());
+		return write(working -> working.retainAll(values));
+	}
+	
+	/**
+	 * Replaces every element of the array with the result of the operator applied to the result of
+	 * the previous element and the element (an inclusive scan). The operator is applied in order,
+	 * so it does not need to be associative. The scanned copy is published as a single modification.
+	 *
+	 * @param operator the operator that combines the previous result and an element
+	 */
+	@Override
+	public void scan(@NotNull IntBinaryOperator operator) {
+		UAssert.paramNotNull(operator, "IntBinaryOperator operator");
+		write(working -> {
+			working.scan(operator);
+			return null;
+		});
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return array.length;
+	}
+	
+	/**
+	 * Gets a view of the portion of the array between the start index, inclusive,
+	 * and the end index, exclusive. The view shares the storage of the array, so no
+	 * element is copied; any modification of the view detaches it from the array first.
+	 * <p>
+	 * The view is taken from the current snapshot of the array and it is not thread-safe.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a view of the given range of the array
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UIntegerArray slice(int fromIndex, int toIndex) {
+		return new UIntegerArrayImpl(array).slice(fromIndex, toIndex);
+	}
+	
+	/**
+	 * Sorts the elements of the array in ascending order. The sorted copy is published
+	 * as a single modification.
+	 */
+	@Override
+	public void sort() {
+		write(working -> {
+			working.sort();
+			return null;
+		});
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NotNull IntStream stream() {
+		return Arrays.stream(array);
+	}
+	
+	/**
+	 * Trims the capacity of the array to be its current size, releasing
+	 * all the unused storage.
+	 * <p>
+	 * Copy-on-write arrays always store their elements in a storage of the exact size,
+	 * so this method has no effect.
+	 */
+	@Override
+	public void trimToSize() {
+	}
+	
+	/**
+	 * Performs multiple modifications of the array as a single atomic operation. All the
+	 * modifications are applied to a private copy of the array, which is published once
+	 * the action finishes, instead of copying the array on every modification.
+	 * <p>
+	 * The array given to the action must not be used after the action returns.
+	 *
+	 * @param action The action that modifies the array
+	 */
+	@Override
+	public void update(@NotNull Consumer<? super UIntegerArray> action) {
+		UAssert.paramNotNull(action, "Consumer<? super UIntegerArray> action");
+		write(working -> {
+			action.accept(working);
+			return null;
+		});
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UIntegerArray copy() {
+		// Snapshots are never modified, so the copy can share it
+		UConcurrentIntegerArrayImpl copy = new UConcurrentIntegerArrayImpl();
+		copy.array = array;
+		return copy;
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> first() {
+		int[] snapshot = array;
+		if (snapshot.length == 0) return Optional.empty();
+		return Optional.of(snapshot[0]);
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<Integer> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<Integer> last() {
+		int[] snapshot = array;
+		if (snapshot.length == 0) return Optional.empty();
+		return Optional.of(snapshot[snapshot.length - 1]);
+	}
+	
+	/**
+	 * Returns an iterator over the elements of the array. The elements are returned
+	 * without boxing through {@link PrimitiveIterator.OfInt#nextInt()}.
+	 * <p>
+	 * The iterator traverses the snapshot of the array at the moment it was created.
+	 *
+	 * @return an Iterator.
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt iterator() {
+		int[] snapshot = array;
+		return UArrayIterators.iterator(snapshot, 0, snapshot.length);
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(array);
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Applies the given operation to a private copy of the array and publishes the
+	 * result as the new snapshot of the array.
+	 *
+	 * @param operation the operation that modifies the array
+	 * @param <R>       the type of the operation result
+	 * @return the result of the operation
+	 */
+	private <R> R write(@NotNull Function<UIntegerArray, R> operation) {
+		synchronized (lock) {
+			UIntegerArrayImpl working = new UIntegerArrayImpl(array.clone());
+			R result = operation.apply(working);
+			
+			array = working.getArray();
+			return result;
+		}
+	}
+	
+}
@@ -0,0 +1,82 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Utilities to release the memory of direct and mapped buffers.
+ */
+final class UDirectMemory {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * The platform method that releases the memory of a direct buffer. The method is part of
+	 * the {@code jdk.unsupported} module, so it is always present in the supported platforms;
+	 * when it cannot be found, the failure is kept and reported by {@link #release(ByteBuffer)}.
+	 */
+	private static final @Nullable Object UNSAFE;
+	private static final @Nullable Method INVOKE_CLEANER;
+	private static final @Nullable Exception LOOKUP_FAILURE;
+	
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		Exception failure = null;
+		
+		try {
+			Class<?> cls = Class.forName("sun.misc.Unsafe");
+			Field field = cls.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			
+			unsafe = field.get(null);
+			invokeCleaner = cls.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			failure = e;
+		}
+		
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+		LOOKUP_FAILURE = failure;
+	}
+	
+	/**
+	 * This class cannot be instantiated
+	 */
+	private UDirectMemory() {
+		throw new IllegalStateException("This class cannot be instantiated");
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Releases the memory of the given direct buffer. The buffer and all the buffers that
+	 * share its memory must not be used after this call.
+	 *
+	 * @param buffer the buffer to release
+	 * @throws IllegalStateException if the platform method cannot be found or fails to release the memory
+	 */
+	static void release(@NotNull ByteBuffer buffer) {
+		if (INVOKE_CLEANER == null) {
+			throw new IllegalStateException("The platform cannot release the direct memory", LOOKUP_FAILURE);
+		}
+		
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+		} catch (InvocationTargetException e) {
+			throw new IllegalStateException("The direct memory cannot be released", e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The direct memory cannot be released", e);
+		}
+	}
+	
+}
\ No newline at end of file
@@ -0,0 +1,365 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * File storage shared by the memory-mapped arrays.
+ * <p>
+ * The file is mapped in regions of 1 GB, so files larger than the limit of a single
+ * mapping can be accessed. The region size is a multiple of every element size,
+ * so an element never crosses two regions.
+ */
+final class UMappedStorage {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int REGION_BITS = 30;
+	private static final long REGION_SIZE = 1L << REGION_BITS;
+	private static final long REGION_MASK = REGION_SIZE - 1;
+	
+	private final FileChannel channel;
+	private final boolean readOnly;
+	private final int elementBytes;
+	private final int length;
+	private MappedByteBuffer[] regions = new MappedByteBuffer[0];
+	private long mapped;
+	private boolean closed;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Opens the given file and maps all its content. A writable file is created if it does not exist.
+	 *
+	 * @param file         the file to map
+	 * @param elementBytes the number of bytes of every element
+	 * @param readOnly     {@code true} to open the file in read-only mode
+	 * @throws IllegalArgumentException if the file size is not a multiple of the element size or
+	 *                                  the file has more elements than an array can hold
+	 * @throws UncheckedIOException     if the file cannot be opened or mapped
+	 */
+	UMappedStorage(@NotNull Path file, int elementBytes, boolean readOnly) {
+		UAssert.paramNotNull(file, "Path file");
+		this.elementBytes = elementBytes;
+		this.readOnly = readOnly;
+		
+		try {
+			channel = readOnly ?
+				FileChannel.open(file, StandardOpenOption.READ) :
+				FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		try {
+			long bytes = channel.size();
+			if (bytes % elementBytes != 0) {
+				throw new IllegalArgumentException("The file size is not a multiple of the element size: " + bytes);
+			}
+			if (bytes / elementBytes > UArrayCommon.MAX_ARRAY_LENGTH) {
+				throw new IllegalArgumentException("The file has too many elements: " + bytes / elementBytes);
+			}
+			
+			length = (int) (bytes / elementBytes);
+			map(bytes);
+		} catch (IOException e) {
+			closeQuietly();
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			closeQuietly();
+			throw e;
+		}
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Gets the number of elements of the file when it was opened.
+	 *
+	 * @return the number of elements of the file
+	 */
+	int length() {
+		return length;
+	}
+	
+	/**
+	 * Gets the number of elements covered by the mapped regions.
+	 *
+	 * @return the number of mapped elements
+	 */
+	int capacity() {
+		return (int) (mapped / elementBytes);
+	}
+	
+	/**
+	 * Checks if the file was opened in read-only mode.
+	 *
+	 * @return {@code true} if the file is read-only
+	 */
+	boolean isReadOnly() {
+		return readOnly;
+	}
+	
+	/**
+	 * Checks if the storage is closed.
+	 *
+	 * @return {@code true} if the storage is closed
+	 */
+	boolean isClosed() {
+		return closed;
+	}
+	
+	/**
+	 * Checks that the storage was not closed.
+	 *
+	 * @throws IllegalStateException if the storage is closed
+	 */
+	void checkOpen() {
+		if (closed) throw new IllegalStateException("The array is closed");
+	}
+	
+	/**
+	 * Extends the file and the mapped regions so they can hold at least the given number of elements.
+	 *
+	 * @param capacity the number of elements to map
+	 * @throws UncheckedIOException if the file cannot be mapped
+	 */
+	void ensureCapacity(int capacity) {
+		long bytes = (long) capacity * elementBytes;
+		if (bytes <= mapped) return;
+		
+		try {
+			map(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Writes all the changes of the mapped regions to the file. A writable file is truncated
+	 * to the given number of elements and mapped again, so the unused capacity is never
+	 * part of the file when it is opened again.
+	 *
+	 * @param size the number of elements of the file
+	 * @throws UncheckedIOException if the file cannot be truncated or mapped
+	 */
+	void force(int size) {
+		checkOpen();
+		if (readOnly) return;
+		
+		forceRegions();
+		long bytes = (long) size * elementBytes;
+		if (bytes == mapped) return;
+		
+		for (MappedByteBuffer region : regions) {
+			UDirectMemory.release(region);
+		}
+		
+		regions = new MappedByteBuffer[0];
+		mapped = 0;
+		try {
+			try {
+				channel.truncate(bytes);
+			} finally {
+				map(bytes);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Releases the mapped regions and closes the file. A writable file is truncated
+	 * to the given number of elements, removing the unused capacity.
+	 *
+	 * @param size the number of elements of the file
+	 * @throws UncheckedIOException  if the file cannot be truncated or closed
+	 * @throws IllegalStateException if the mapped regions cannot be released; the file is closed
+	 *                               without truncating it
+	 */
+	void close(int size) {
+		if (closed) return;
+		if (!readOnly) forceRegions();
+		closed = true;
+		
+		try {
+			for (MappedByteBuffer region : regions) {
+				UDirectMemory.release(region);
+			}
+			
+			regions = new MappedByteBuffer[0];
+			if (!readOnly) channel.truncate((long) size * elementBytes);
+			channel.close();
+		} catch (IOException e) {
+			closeQuietly();
+			throw new UncheckedIOException(e);
+		} catch (IllegalStateException e) {
+			// The file is never truncated while its regions are still mapped
+			closeQuietly();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Gets the int element at the given index.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the given index
+	 */
+	int getInt(int index) {
+		long position = (long) index * elementBytes;
+		return regions[(int) (position >>> REGION_BITS)].getInt((int) (position & REGION_MASK));
+	}
+	
+	/**
+	 * Gets the long element at the given index.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the given index
+	 */
+	long getLong(int index) {
+		long position = (long) index * elementBytes;
+		return regions[(int) (position >>> REGION_BITS)].getLong((int) (position & REGION_MASK));
+	}
+	
+	/**
+	 * Gets the double element at the given index.
+	 *
+	 * @param index the index of the element
+	 * @return the element at the given index
+	 */
+	double getDouble(int index) {
+		long position = (long) index * elementBytes;
+		return regions[(int) (position >>> REGION_BITS)].getDouble((int) (position & REGION_MASK));
+	}
+	
+	/**
+	 * Replaces the int element at the given index.
+	 *
+	 * @param index   the index of the element
+	 * @param element the new element
+	 */
+	void putInt(int index, int element) {
+		long position = (long) index * elementBytes;
+		regions[(int) (position >>> REGION_BITS)].putInt((int) (position & REGION_MASK), element);
+	}
+	
+	/**
+	 * Replaces the long element at the given index.
+	 *
+	 * @param index   the index of the element
+	 * @param element the new element
+	 */
+	void putLong(int index, long element) {
+		long position = (long) index * elementBytes;
+		regions[(int) (position >>> REGION_BITS)].putLong((int) (position & REGION_MASK), element);
+	}
+	
+	/**
+	 * Replaces the double element at the given index.
+	 *
+	 * @param index   the index of the element
+	 * @param element the new element
+	 */
+	void putDouble(int index, double element) {
+		long position = (long) index * elementBytes;
+		regions[(int) (position >>> REGION_BITS)].putDouble((int) (position & REGION_MASK), element);
+	}
+	
+	/**
+	 * Moves a range of elements to a new position. The source and the destination can overlap.
+	 *
+	 * @param from  the index of the first element to move
+	 * @param to    the index where the first element is moved
+	 * @param count the number of elements to move
+	 */
+	void move(int from, int to, int count) {
+		if (to < from) {
+			for (int i = 0; i < count; i++) {
+				copy(from + i, to + i);
+			}
+		} else if (to > from) {
+			for (int i = count - 1; i >= 0; i--) {
+				copy(from + i, to + i);
+			}
+		}
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Maps the file up to the given number of bytes. The regions that are already
+	 * fully mapped are kept, only the last partial region is mapped again and its
+	 * previous mapping is released. Mapping a writable file beyond its end extends the file.
+	 *
+	 * @param bytes the number of bytes to map
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private void map(long bytes) throws IOException {
+		FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+		int count = (int) ((bytes + REGION_MASK) >>> REGION_BITS);
+		MappedByteBuffer[] next = Arrays.copyOf(regions, count);
+		
+		for (int i = (int) (mapped >>> REGION_BITS); i < count; i++) {
+			long position = (long) i << REGION_BITS;
+			MappedByteBuffer region = channel.map(mode, position, Math.min(REGION_SIZE, bytes - position));
+			if (next[i] != null) UDirectMemory.release(next[i]);
+			next[i] = region;
+		}
+		
+		regions = next;
+		mapped = bytes;
+	}
+	
+	/**
+	 * Writes the changes of every mapped region to the file.
+	 */
+	private void forceRegions() {
+		for (MappedByteBuffer region : regions) {
+			region.force();
+		}
+	}
+	
+	/**
+	 * Copies the element at the given index to another index.
+	 *
+	 * @param from the index of the element to copy
+	 * @param to   the index where the element is copied
+	 */
+	private void copy(int from, int to) {
+		// Every element is copied as raw bits, so doubles keep their exact representation
+		if (elementBytes == Long.BYTES) {
+			putLong(to, getLong(from));
+		} else {
+			putInt(to, getInt(from));
+		}
+	}
+	
+	/**
+	 * Closes the file ignoring any error. Used when the storage cannot be opened or closed normally.
+	 */
+	private void closeQuietly() {
+		try {
+			channel.close();
+		} catch (IOException ignored) {
+			// The original error is more relevant
+		}
+	}
+	
+}
@@ -0,0 +1,542 @@
+package uoxx3.collection.internal.array;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import uoxx3.UAssert;
+import uoxx3.UClass;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.array.UArray;
+import uoxx3.collection.array.UPersistentArray;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class UPersistentArrayImpl<T> implements UPersistentArray<T> {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final Trie trie;
+	private final int offset;
+	private final int size;
+	private final Class<T> componentType;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	@SafeVarargs
+	public UPersistentArrayImpl(T @Nullable ... elements) {
+		UAssert.paramNotNull(elements, "T[] elements");
+		trie = Trie.EMPTY.appendAll(elements);
+		offset = 0;
+		size = elements.length;
+		componentType = UClass.arrayComponentType(elements);
+	}
+	
+	public UPersistentArrayImpl(@NotNull Class<T> cls) {
+		UAssert.paramNotNull(cls, "Class<T> cls");
+		trie = Trie.EMPTY;
+		offset = 0;
+		size = UCollectionConstants.EMPTY_SIZE;
+		componentType = cls;
+	}
+	
+	private UPersistentArrayImpl(@NotNull Trie trie, int offset, int size, @NotNull Class<T> componentType) {
+		this.trie = trie;
+		this.offset = offset;
+		this.size = size;
+		this.componentType = componentType;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Creates a new version of the array with the given element at the end.
+	 *
+	 * @param element The element to add
+	 * @return a new version of the array containing the element
+	 */
+	@Override
+	public @NotNull UPersistentArray<T> add(@Nullable T element) {
+		int end = offset + size;
+		// A slice that does not end at the end of the trie overwrites
+		// the next position in a new version of the trie.
+		Trie next = end == trie.count ? trie.append(element) : trie.assoc(end, element);
+		return new UPersistentArrayImpl<>(next, offset, size + 1, componentType);
+	}
+	
+	/**
+	 * Creates a new version of the array with the given elements at the end.
+	 *
+	 * @param elements All the elements wants to add
+	 * @return a new version of the array containing the elements
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public @NotNull UPersistentArray<T> addAll(T @Nullable ... elements) {
+		UAssert.paramNotNull(elements, "T[] elements");
+		Trie next = trie;
+		int end = offset + size;
+		int index = 0;
+		
+		// Overwrite the positions after the end of a slice first
+		for (; index < elements.length && end + index < next.count; index++) {
+			next = next.assoc(end + index, elements[index]);
+		}
+		
+		// The remaining elements fill whole leaves at once
+		if (index < elements.length) {
+			next = next.appendAll(Arrays.copyOfRange(elements, index, elements.length, Object[].class));
+		}
+		return new UPersistentArrayImpl<>(next, offset, size + elements.length, componentType);
+	}
+	
+	/**
+	 * Gets the type of the array component.
+	 *
+	 * @return the component type of the object
+	 */
+	@Override
+	public @NotNull Class<T> componentType() {
+		return componentType;
+	}
+	
+	/**
+	 * Detaches the array from the storage it shares with other arrays, copying its
+	 * elements into a new storage of the exact size. Arrays that own their storage
+	 * are not modified.
+	 * <p>
+	 * Persistent arrays share their storage by design, so this method has no effect.
+	 */
+	@Override
+	public void compact() {
+	}
+	
+	/**
+	 * Checks if the array contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the array contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(@Nullable T value) {
+		return indexOf(value) != UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Returns an Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the first element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<T> first() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.ofNullable(get(0));
+	}
+	
+	/**
+	 * Gets the index of the array
+	 *
+	 * @param index The index of the element want to access
+	 * @return the element of the array
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T get(int index) {
+		UArrayCommon.checkIndex(index, size);
+		return (T) trie.get(offset + index);
+	}
+	
+	/**
+	 * Returns the index of the first occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the first occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the
+	 * 	value is not found.
+	 */
+	@Override
+	public int indexOf(@Nullable T value) {
+		int index = 0;
+		// Walk the leaves instead of searching every element from the root
+		while (index < size) {
+			Object[] leaf = trie.leafFor(offset + index);
+			int start = (offset + index) & Trie.MASK;
+			int length = Math.min(leaf.length - start, size - index);
+			
+			for (int i = 0; i < length; i++) {
+				if (Objects.equals(value, leaf[start + i])) return index + i;
+			}
+			index += length;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Returns an Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 *
+	 * @return An Optional containing the last element of the array, or an empty Optional if the array is empty.
+	 */
+	@Override
+	public @NotNull Optional<T> last() {
+		if (isEmpty()) return Optional.empty();
+		return Optional.ofNullable(get(size() - 1));
+	}
+	
+	/**
+	 * Returns the index of the last occurrence of the specified value in the array,
+	 * or {@link UCollectionConstants#INDEX_NOT_FOUND} if the value is not found.
+	 *
+	 * @param value The value to search for.
+	 * @return The index of the last occurrence of the value, or {@link UCollectionConstants#INDEX_NOT_FOUND}
+	 * 	if the value is not found.
+	 */
+	@Override
+	public int lastIndexOf(@Nullable T value) {
+		int index = size - 1;
+		// Walk the leaves backwards instead of searching every element from the root
+		while (index >= 0) {
+			Object[] leaf = trie.leafFor(offset + index);
+			int end = (offset + index) & Trie.MASK;
+			int length = Math.min(end + 1, index + 1);
+			
+			for (int i = 0; i < length; i++) {
+				if (Objects.equals(value, leaf[end - i])) return index - i;
+			}
+			index -= length;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/**
+	 * Creates a new version of the array with the element at the specified position replaced.
+	 *
+	 * @param index   The position of the element to replace
+	 * @param element The new element
+	 * @return a new version of the array containing the element
+	 * @throws IndexOutOfBoundsException if the array index is not part of its limits
+	 */
+	@Override
+	public @NotNull UPersistentArray<T> set(int index, @Nullable T element) {
+		UArrayCommon.checkIndex(index, size);
+		return new UPersistentArrayImpl<>(trie.assoc(offset + index, element), offset, size, componentType);
+	}
+	
+	/**
+	 * Returns the size of the array.
+	 *
+	 * @return The size of the array.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Gets the portion of the array between the start index, inclusive, and the end
+	 * index, exclusive. The new version shares the whole structure of the array.
+	 *
+	 * @param fromIndex The index of the first element of the view
+	 * @param toIndex   The index after the last element of the view
+	 * @return a version of the array with the given range
+	 * @throws IndexOutOfBoundsException if the range is not part of the array limits
+	 */
+	@Override
+	public @NotNull UPersistentArray<T> slice(int fromIndex, int toIndex) {
+		UArrayCommon.checkRange(fromIndex, toIndex, size);
+		return new UPersistentArrayImpl<>(trie, offset + fromIndex, toIndex - fromIndex, componentType);
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the array as its source.
+	 *
+	 * @return A Stream of the elements in the array.
+	 */
+	@Override
+	public @NotNull Stream<T> stream() {
+		if (isEmpty()) return Stream.empty();
+		// Generate new array stream
+		return StreamSupport.stream(
+			Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE),
+			false
+		);
+	}
+	
+	/**
+	 * Returns an iterator over elements of type {@code T}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	public Iterator<T> iterator() {
+		if (isEmpty()) return Collections.emptyIterator();
+		// Generate new leaf iterator
+		return new Iterator<>() {
+			private int index;
+			private Object[] leaf;
+			
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+			
+			@SuppressWarnings("unchecked")
+			@Override
+			public T next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				
+				int position = offset + index++;
+				// The leaf only changes every 32 elements
+				if (leaf == null || (position & Trie.MASK) == 0) leaf = trie.leafFor(position);
+				return (T) leaf[position & Trie.MASK];
+			}
+		};
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return toList().toString();
+	}
+	
+	/* -----------------------------------------------------
+	 * Conversions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Converts the array to an unmodifiable list.
+	 *
+	 * @return an unmodifiable view of the array as a list
+	 */
+	@Override
+	public @NotNull @UnmodifiableView List<T> toList() {
+		return new AbstractList<>() {
+			@Override
+			public T get(int index) {
+				return UPersistentArrayImpl.this.get(index);
+			}
+			
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+	
+	/**
+	 * Converts the array to a mutable array.
+	 *
+	 * @return a mutable array containing the elements of the array
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public @NotNull UArray<T> toMutableArray() {
+		T[] elements = (T[]) Array.newInstance(componentType, size);
+		int index = 0;
+		
+		// Copy the elements leaf by leaf
+		while (index < size) {
+			Object[] leaf = trie.leafFor(offset + index);
+			int start = (offset + index) & Trie.MASK;
+			int length = Math.min(leaf.length - start, size - index);
+			
+			System.arraycopy(leaf, start, elements, index, length);
+			index += length;
+		}
+		return new UArrayImpl<>(elements);
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Immutable 32-way trie with the same layout as the persistent vectors of Clojure.
+	 * <p>
+	 * The elements are stored in leaves of 32 elements, and the last leaf (the tail) is
+	 * kept out of the tree, so most of the additions only copy the tail. Every modification
+	 * copies the path from the root to the modified leaf, which has {@code log32(n)} nodes.
+	 */
+	private static final class Trie {
+		
+		static final int BITS = 5;
+		static final int WIDTH = 1 << BITS;
+		static final int MASK = WIDTH - 1;
+		
+		static final Trie EMPTY = new Trie(0, BITS, new Object[WIDTH], new Object[0]);
+		
+		final int count;
+		final int shift;
+		final Object[] root;
+		final Object[] tail;
+		
+		Trie(int count, int shift, Object[] root, Object[] tail) {
+			this.count = count;
+			this.shift = shift;
+			this.root = root;
+			this.tail = tail;
+		}
+		
+		/**
+		 * Gets the index of the first element stored in the tail.
+		 *
+		 * @return the offset of the tail
+		 */
+		int tailOffset() {
+			return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+		}
+		
+		/**
+		 * Gets the leaf that stores the element at the given index.
+		 *
+		 * @param index the index of the element
+		 * @return the leaf of the element
+		 */
+		Object[] leafFor(int index) {
+			if (index >= tailOffset()) return tail;
+			
+			Object[] node = root;
+			for (int level = shift; level > 0; level -= BITS) {
+				node = (Object[]) node[(index >>> level) & MASK];
+			}
+			return node;
+		}
+		
+		Object get(int index) {
+			return leafFor(index)[index & MASK];
+		}
+		
+		/**
+		 * Creates a new trie with the element at the given index replaced.
+		 *
+		 * @param index   the index of the element
+		 * @param element the new element
+		 * @return a new trie
+		 */
+		Trie assoc(int index, Object element) {
+			if (index >= tailOffset()) {
+				Object[] newTail = tail.clone();
+				newTail[index & MASK] = element;
+				return new Trie(count, shift, root, newTail);
+			}
+			
+			return new Trie(count, shift, assoc(shift, root, index, element), tail);
+		}
+		
+		/**
+		 * Creates a new trie with the element at the end.
+		 *
+		 * @param element the element to add
+		 * @return a new trie
+		 */
+		Trie append(Object element) {
+			if (tail.length < WIDTH) {
+				Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+				newTail[tail.length] = element;
+				return new Trie(count + 1, shift, root, newTail);
+			}
+			
+			return pushTail(new Object[]{element});
+		}
+		
+		/**
+		 * Creates a new trie with all the elements at the end. The elements are
+		 * copied a whole leaf at a time.
+		 *
+		 * @param elements the elements to add
+		 * @return a new trie
+		 */
+		Trie appendAll(Object[] elements) {
+			Trie result = this;
+			int index = 0;
+			
+			while (index < elements.length) {
+				int tailLength = result.tail.length;
+				if (tailLength == WIDTH) {
+					int length = Math.min(WIDTH, elements.length - index);
+					result = result.pushTail(Arrays.copyOfRange(elements, index, index + length, Object[].class));
+					index += length;
+				} else {
+					int length = Math.min(WIDTH - tailLength, elements.length - index);
+					Object[] newTail = Arrays.copyOf(result.tail, tailLength + length, Object[].class);
+					
+					System.arraycopy(elements, index, newTail, tailLength, length);
+					result = new Trie(result.count + length, result.shift, result.root, newTail);
+					index += length;
+				}
+			}
+			return result;
+		}
+		
+		/**
+		 * Moves the full tail into the tree and starts a new tail.
+		 *
+		 * @param newTail the new tail of the trie
+		 * @return a new trie
+		 */
+		private Trie pushTail(Object[] newTail) {
+			Object[] newRoot;
+			int newShift = shift;
+			
+			// The root overflows when the tree is full
+			if ((count >>> BITS) > (1 << shift)) {
+				newRoot = new Object[WIDTH];
+				newRoot[0] = root;
+				newRoot[1] = newPath(shift, tail);
+				newShift += BITS;
+			} else {
+				newRoot = pushTail(shift, root, tail);
+			}
+			return new Trie(count + newTail.length, newShift, newRoot, newTail);
+		}
+		
+		private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+			int index = ((count - 1) >>> level) & MASK;
+			Object[] copy = parent.clone();
+			
+			if (level == BITS) {
+				copy[index] = leaf;
+			} else {
+				Object[] child = (Object[]) parent[index];
+				copy[index] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+			}
+			return copy;
+		}
+		
+		private static Object[] newPath(int level, Object[] leaf) {
+			if (level == 0) return leaf;
+			
+			Object[] path = new Object[WIDTH];
+			path[0] = newPath(level - BITS, leaf);
+			return path;
+		}
+		
+		private static Object[] assoc(int level, Object[] node, int index, Object element) {
+			Object[] copy = node.clone();
+			if (level == 0) {
+				copy[index & MASK] = element;
+			} else {
+				int child = (index >>> level) & MASK;
+				copy[child] = assoc(level - BITS, (Object[]) node[child], index, element);
+			}
+			return copy;
+		}
+		
+	}
+	
+}
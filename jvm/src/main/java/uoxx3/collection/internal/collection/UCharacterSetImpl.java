@@ -0,0 +1,383 @@
+package uoxx3.collection.internal.collection;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.UCharacterSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public final class UCharacterSetImpl implements UCharacterSet {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final char FREE = 0;
+	
+	private char[] table;
+	private int mask;
+	private int maxFill;
+	private int assigned;
+	private boolean containsFree;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UCharacterSetImpl(int expected) {
+		allocate(UHashCommon.tableLength(expected));
+	}
+	
+	public UCharacterSetImpl() {
+		this(UCollectionConstants.COLLECTION_SIZE_THRESHOLD);
+	}
+	
+	private UCharacterSetImpl(@NotNull UCharacterSetImpl source) {
+		table = source.table.clone();
+		mask = source.mask;
+		maxFill = source.maxFill;
+		assigned = source.assigned;
+		containsFree = source.containsFree;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Add a new element to the set
+	 *
+	 * @param element The element to add
+	 * @return {@code true} if the set did not contain the element
+	 */
+	@Override
+	public boolean add(char element) {
+		if (element == FREE) {
+			if (containsFree) return false;
+			return containsFree = true;
+		}
+		
+		int slot = UHashCommon.mix((int) element) & mask;
+		for (char current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == element) return false;
+			slot = (slot + 1) & mask;
+		}
+		
+		table[slot] = element;
+		if (++assigned > maxFill) rehash(table.length << 1);
+		return true;
+	}
+	
+	/**
+	 * Add multiple elements to the set
+	 *
+	 * @param elements All the elements wants to add
+	 * @return {@code true} if the set changed
+	 */
+	@Override
+	public boolean addAll(char... elements) {
+		UAssert.paramNotNull(elements, "char[] elements");
+		// Reserve the table for all the elements at once
+		ensureCapacity(size() + elements.length);
+		
+		boolean changed = false;
+		for (char element : elements) {
+			changed |= add(element);
+		}
+		
+		return changed;
+	}
+	
+	/**
+	 * Gets an iterator over the elements of the set that returns them without boxing,
+	 * as int values, in no particular order.
+	 *
+	 * @return an iterator over the elements of the set
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt charIterator() {
+		return new TableIterator();
+	}
+	
+	/**
+	 * Removes all the elements of the set. The table keeps its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(table, FREE);
+		assigned = 0;
+		containsFree = false;
+	}
+	
+	/**
+	 * Checks if the set contains the specified value.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the set contains the value, false otherwise.
+	 */
+	@Override
+	public boolean contains(char value) {
+		if (value == FREE) return containsFree;
+		
+		int slot = UHashCommon.mix((int) value) & mask;
+		for (char current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == value) return true;
+			slot = (slot + 1) & mask;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Increases the capacity of the set, if necessary, to ensure that it can hold
+	 * at least the given number of elements without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > maxFill) rehash(UHashCommon.tableLength(minCapacity));
+	}
+	
+	/**
+	 * Removes the specified element from the set.
+	 *
+	 * @param element The element to remove
+	 * @return {@code true} if the set contained the element
+	 */
+	@Override
+	public boolean remove(char element) {
+		if (element == FREE) {
+			if (!containsFree) return false;
+			containsFree = false;
+			return true;
+		}
+		
+		int slot = UHashCommon.mix((int) element) & mask;
+		for (char current = table[slot]; current != FREE; current = table[slot]) {
+			if (current == element) {
+				shiftKeys(slot);
+				assigned--;
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns the number of elements of the set.
+	 *
+	 * @return The number of elements of the set.
+	 */
+	@Override
+	public int size() {
+		return containsFree ? assigned + 1 : assigned;
+	}
+	
+	/**
+	 * Gets a sequential Stream with the elements of the set as its source.
+	 *
+	 * @return A Stream of the elements in the set.
+	 */
+	@Override
+	public @NotNull IntStream stream() {
+		return StreamSupport.intStream(
+			Spliterators.spliterator(charIterator(), size(), Spliterator.DISTINCT),
+			false
+		);
+	}
+	
+	/**
+	 * Gets the elements of the set as a native array, in no particular order.
+	 *
+	 * @return a native array
+	 */
+	@Override
+	public char[] toArray() {
+		char[] result = new char[size()];
+		int index = 0;
+		for (char element : table) {
+			if (element != FREE) result[index++] = element;
+		}
+		if (containsFree) result[index] = FREE;
+		
+		return result;
+	}
+	
+	/**
+	 * Returns an iterator over elements of type {@code T}.
+	 *
+	 * @return an Iterator.
+	 */
+	@NotNull
+	@Override
+	public Iterator<Character> iterator() {
+		PrimitiveIterator.OfInt iterator = charIterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public Character next() {
+				return (char) iterator.nextInt();
+			}
+		};
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UCharacterSet copy() {
+		return new UCharacterSetImpl(this);
+	}
+	
+	/**
+	 * Checks if the given object is a char set with the same elements.
+	 *
+	 * @param obj the object to compare
+	 * @return {@code true} if the object is a char set with the same elements
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof UCharacterSet)) return false;
+		
+		UCharacterSet other = (UCharacterSet) obj;
+		if (other.size() != size()) return false;
+		for (PrimitiveIterator.OfInt iterator = charIterator(); iterator.hasNext(); ) {
+			if (!other.contains((char) iterator.nextInt())) return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the hash code of the set, the sum of the hash codes of its elements.
+	 *
+	 * @return the hash code of the set
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (char element : table) {
+			hash += Character.hashCode(element);
+		}
+		
+		return hash;
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		return Arrays.toString(toArray());
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Replaces the table with a new empty table of the given length.
+	 *
+	 * @param length the length of the table
+	 */
+	private void allocate(int length) {
+		table = new char[length];
+		mask = length - 1;
+		maxFill = UHashCommon.maxFill(length);
+	}
+	
+	/**
+	 * Moves all the elements to a new table of the given length.
+	 *
+	 * @param length the length of the new table
+	 */
+	private void rehash(int length) {
+		char[] old = table;
+		allocate(length);
+		
+		for (char element : old) {
+			if (element == FREE) continue;
+			
+			int slot = UHashCommon.mix((int) element) & mask;
+			while (table[slot] != FREE) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = element;
+		}
+	}
+	
+	/**
+	 * Frees the given slot, moving back the elements of the probe sequence that follows it.
+	 * The table never contains deleted markers, so the searches do not slow down after
+	 * many removals.
+	 *
+	 * @param free the slot to free
+	 */
+	private void shiftKeys(int free) {
+		int slot = free;
+		while (true) {
+			slot = (slot + 1) & mask;
+			char current = table[slot];
+			if (current == FREE) break;
+			
+			if (UHashCommon.canShift(free, slot, UHashCommon.mix((int) current) & mask)) {
+				table[free] = current;
+				free = slot;
+			}
+		}
+		
+		table[free] = FREE;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator over the slots of the table, followed by the free value if the set contains it.
+	 * The elements are widened to int values.
+	 */
+	private final class TableIterator implements PrimitiveIterator.OfInt {
+		
+		private int slot = -1;
+		private int remaining = size();
+		
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (remaining <= 0) throw new NoSuchElementException();
+			remaining--;
+			
+			while (++slot < table.length) {
+				if (table[slot] != FREE) return table[slot];
+			}
+			return FREE;
+		}
+	
+	}
+	
+}
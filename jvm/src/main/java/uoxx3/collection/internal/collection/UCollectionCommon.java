@@ -7,6 +7,7 @@ import uoxx3.collection.UCollectionConstants;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Vector;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -197,6 +198,97 @@ public abstract class UCollectionCommon {
 		return deque;
 	}
 	
+	/* -----------------------------------------------------
+	 * Map bulk actions
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks if the parallel key and value arrays have the same number of elements.
+	 *
+	 * @param keys   the number of keys
+	 * @param values the number of values
+	 * @return the number of entries
+	 * @throws IllegalArgumentException if the numbers are different
+	 */
+	protected static int checkEntries(int keys, int values) {
+		if (keys != values) {
+			throw new IllegalArgumentException("Keys and values sizes differ: " + keys + " != " + values);
+		}
+		
+		return keys;
+	}
+	
+	/**
+	 * Puts all entries from the specified array into the given map.
+	 *
+	 * @param <K>     the type of keys in the map
+	 * @param <V>     the type of values in the map
+	 * @param <M>     the type of the map
+	 * @param map     the map into which the entries are to be put
+	 * @param entries the array containing entries to be put into the map
+	 * @return the same map, but with all the entries from the array
+	 */
+	protected static <K, V, M extends Map<K, V>> @NotNull M mapPutAll(@NotNull M map, Map.Entry<K, V> @NotNull [] entries) {
+		UAssert.paramNotNull(map, "<M extends Map<K, V>> map");
+		UAssert.paramNotNull(entries, "Map.Entry<K, V>[] entries");
+		
+		for (Map.Entry<K, V> entry : entries) {
+			map.put(entry.getKey(), entry.getValue());
+		}
+		
+		// We return the same map, but with all the entries inside.
+		return map;
+	}
+	
+	/**
+	 * Puts all the keys from the specified array into the given map, associated with
+	 * the value at the same index of the values array.
+	 *
+	 * @param <K>    the type of keys in the map
+	 * @param <V>    the type of values in the map
+	 * @param <M>    the type of the map
+	 * @param map    the map into which the entries are to be put
+	 * @param keys   the array containing the keys to be put into the map
+	 * @param values the array containing the values of the keys
+	 * @return the same map, but with all the entries from the arrays
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	protected static <K, V, M extends Map<K, V>> @NotNull M mapPutAll(@NotNull M map, K @NotNull [] keys, V @NotNull [] values) {
+		UAssert.paramNotNull(map, "<M extends Map<K, V>> map");
+		UAssert.paramNotNull(keys, "K[] keys");
+		UAssert.paramNotNull(values, "V[] values");
+		int size = checkEntries(keys.length, values.length);
+		
+		for (int i = 0; i < size; i++) {
+			map.put(keys[i], values[i]);
+		}
+		
+		// We return the same map, but with all the entries inside.
+		return map;
+	}
+	
+	/**
+	 * Puts all entries from the specified iterator into the given map.
+	 *
+	 * @param <K>      the type of keys in the map
+	 * @param <V>      the type of values in the map
+	 * @param <M>      the type of the map
+	 * @param map      the map into which the entries are to be put
+	 * @param iterator the iterator providing entries to be put into the map
+	 * @return the same map, but with all the entries from the iterator
+	 */
+	protected static <K, V, M extends Map<K, V>> @NotNull M mapPutAll(@NotNull M map,
+		@NotNull Iterator<Map.Entry<K, V>> iterator) {
+		UAssert.paramNotNull(map, "<M extends Map<K, V>> map");
+		UAssert.paramNotNull(iterator, "Iterator<Map.Entry<K, V>> iterator");
+		// We use the functional way of traversing the iterator and put that same
+		// data into the map.
+		iterator.forEachRemaining(entry -> map.put(entry.getKey(), entry.getValue()));
+		
+		// We return the same map, but with all the entries inside.
+		return map;
+	}
+	
 	/* -----------------------------------------------------
 	 * Collection transform actions
 	 * ----------------------------------------------------- */
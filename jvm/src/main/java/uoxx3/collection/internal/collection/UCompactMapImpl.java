@@ -0,0 +1,397 @@
+package uoxx3.collection.internal.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable map that stores its keys and values in two dense arrays, in insertion order.
+ * <p>
+ * The small maps search the keys linearly, and the larger maps use an open-addressing table
+ * of positions into the dense arrays, so the map uses two references and about two ints per
+ * entry instead of a node of a {@code HashMap} and its table slot. A repeated key keeps the
+ * position of its first occurrence and the last of its values.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class UCompactMapImpl<K, V> extends AbstractMap<K, V> {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private final Object[] keys;
+	private final Object[] values;
+	private final int size;
+	private final int[] index;
+	private final int mask;
+	private Set<Map.Entry<K, V>> entrySet;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UCompactMapImpl(int expected, @NotNull Iterator<Map.Entry<K, V>> iterator) {
+		this(build(expected, iterator));
+	}
+	
+	public UCompactMapImpl(K @NotNull [] keys, V @NotNull [] values) {
+		this(build(keys, values));
+	}
+	
+	private UCompactMapImpl(@NotNull Builder builder) {
+		builder.compact();
+		keys = builder.keys;
+		values = builder.values;
+		size = builder.size;
+		index = builder.index;
+		mask = builder.mask;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Returns the number of entries of the map.
+	 *
+	 * @return The number of entries of the map.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Checks if the map contains the specified key.
+	 *
+	 * @param key The key to check for.
+	 * @return true if the map contains the key, false otherwise.
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return find(key) >= 0;
+	}
+	
+	/**
+	 * Checks if the map contains the specified value. The values are searched linearly.
+	 *
+	 * @param value The value to check for.
+	 * @return true if the map contains the value, false otherwise.
+	 */
+	@Override
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < size; i++) {
+			if (Objects.equals(values[i], value)) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Gets the value of the key.
+	 *
+	 * @param key The key of the value
+	 * @return the value of the key, or {@code null} if the map does not contain the key
+	 */
+	@Override
+	public @Nullable V get(Object key) {
+		int position = find(key);
+		return position >= 0 ? value(position) : null;
+	}
+	
+	/**
+	 * Gets the value of the key, or the given default value if the map does not contain the key.
+	 *
+	 * @param key          The key of the value
+	 * @param defaultValue The value returned if the map does not contain the key
+	 * @return the value of the key, or the default value
+	 */
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		int position = find(key);
+		return position >= 0 ? value(position) : defaultValue;
+	}
+	
+	/**
+	 * Performs the given action for each entry of the map, in insertion order,
+	 * without creating the entry objects.
+	 *
+	 * @param action The action to perform
+	 */
+	@Override
+	public void forEach(@NotNull BiConsumer<? super K, ? super V> action) {
+		UAssert.paramNotNull(action, "BiConsumer<? super K, ? super V> action");
+		for (int i = 0; i < size; i++) {
+			action.accept(key(i), value(i));
+		}
+	}
+	
+	/**
+	 * Gets an immutable set view of the entries of the map, in insertion order.
+	 *
+	 * @return a set view of the entries of the map
+	 */
+	@Override
+	public @NotNull Set<Map.Entry<K, V>> entrySet() {
+		if (entrySet == null) entrySet = new EntrySet();
+		return entrySet;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Collects the entries of the given iterator into the dense arrays of a new map.
+	 *
+	 * @param expected the expected number of entries
+	 * @param iterator the iterator of the entries
+	 * @param <K>      the type of the keys
+	 * @param <V>      the type of the values
+	 * @return the builder with the entries of the iterator
+	 * @throws IllegalArgumentException if the expected number of entries is negative
+	 */
+	private static <K, V> @NotNull Builder build(int expected, @NotNull Iterator<Map.Entry<K, V>> iterator) {
+		UAssert.paramNotNull(iterator, "Iterator<Map.Entry<K, V>> iterator");
+		if (expected < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + expected);
+		}
+		
+		Builder builder = new Builder(expected);
+		while (iterator.hasNext()) {
+			Map.Entry<K, V> entry = iterator.next();
+			builder.append(entry.getKey(), entry.getValue());
+		}
+		return builder;
+	}
+	
+	/**
+	 * Collects the given keys and values into the dense arrays of a new map.
+	 *
+	 * @param keys   the keys of the entries
+	 * @param values the values of the entries
+	 * @param <K>    the type of the keys
+	 * @param <V>    the type of the values
+	 * @return the builder with the given entries
+	 * @throws IllegalArgumentException if the number of keys and values differ
+	 */
+	private static <K, V> @NotNull Builder build(K @NotNull [] keys, V @NotNull [] values) {
+		UAssert.paramNotNull(keys, "K[] keys");
+		UAssert.paramNotNull(values, "V[] values");
+		int entries = UCollectionCommon.checkEntries(keys.length, values.length);
+		
+		Builder builder = new Builder(entries);
+		for (int i = 0; i < entries; i++) {
+			builder.append(keys[i], values[i]);
+		}
+		return builder;
+	}
+	
+	/**
+	 * Casts a key of the dense array to the type of the keys.
+	 *
+	 * @param position the position of the key
+	 * @return the key at the position
+	 */
+	@SuppressWarnings("unchecked")
+	private K key(int position) {
+		return (K) keys[position];
+	}
+	
+	/**
+	 * Casts a value of the dense array to the type of the values.
+	 *
+	 * @param position the position of the value
+	 * @return the value at the position
+	 */
+	@SuppressWarnings("unchecked")
+	private V value(int position) {
+		return (V) values[position];
+	}
+	
+	/**
+	 * Searches the position of the given key in the dense arrays.
+	 *
+	 * @param key the key to search
+	 * @return the position of the key, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the map does not contain it
+	 */
+	private int find(Object key) {
+		return find(keys, size, index, mask, key);
+	}
+	
+	/**
+	 * Searches the position of the given key in the given dense keys. The keys are searched
+	 * linearly when there is no table of positions.
+	 *
+	 * @param keys  the dense array of keys
+	 * @param size  the number of keys
+	 * @param index the table of positions, or {@code null}
+	 * @param mask  the mask of the table slots
+	 * @param key   the key to search
+	 * @return the position of the key, or {@link UCollectionConstants#INDEX_NOT_FOUND} if the keys do not contain it
+	 */
+	private static int find(Object @NotNull [] keys, int size, int @Nullable [] index, int mask, Object key) {
+		if (index == null) {
+			for (int i = 0; i < size; i++) {
+				if (Objects.equals(keys[i], key)) return i;
+			}
+			return UCollectionConstants.INDEX_NOT_FOUND;
+		}
+		
+		int slot = UHashCommon.mix(Objects.hashCode(key)) & mask;
+		for (int position = index[slot]; position != 0; position = index[slot]) {
+			if (Objects.equals(keys[position - 1], key)) return position - 1;
+			slot = (slot + 1) & mask;
+		}
+		
+		return UCollectionConstants.INDEX_NOT_FOUND;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Mutable dense arrays used while the map is built. The map takes its arrays once
+	 * all the entries are added.
+	 */
+	private static final class Builder {
+		
+		private Object[] keys;
+		private Object[] values;
+		private int size;
+		private int[] index;
+		private int mask;
+		
+		Builder(int capacity) {
+			keys = new Object[capacity];
+			values = new Object[capacity];
+			reindex();
+		}
+		
+		/**
+		 * Adds an entry to the arrays. A repeated key only replaces its value.
+		 *
+		 * @param key   the key of the entry
+		 * @param value the value of the entry
+		 */
+		void append(Object key, Object value) {
+			int position = find(keys, size, index, mask, key);
+			if (position >= 0) {
+				values[position] = value;
+				return;
+			}
+			
+			if (size == keys.length) {
+				int capacity = Math.max(keys.length << 1, UCollectionConstants.COLLECTION_SIZE_THRESHOLD);
+				keys = Arrays.copyOf(keys, capacity);
+				values = Arrays.copyOf(values, capacity);
+				reindex();
+			}
+			
+			keys[size] = key;
+			values[size] = value;
+			if (index != null) insertIndex(size);
+			size++;
+		}
+		
+		/**
+		 * Trims the dense arrays to the number of entries once the map is built.
+		 */
+		void compact() {
+			if (size == keys.length) return;
+			
+			keys = Arrays.copyOf(keys, size);
+			values = Arrays.copyOf(values, size);
+			reindex();
+		}
+		
+		/**
+		 * Rebuilds the table of positions for the capacity of the dense arrays. The arrays
+		 * small enough to be searched linearly do not have a table.
+		 */
+		private void reindex() {
+			if (keys.length <= UCollectionConstants.COLLECTION_SIZE_THRESHOLD) {
+				index = null;
+				mask = 0;
+				return;
+			}
+			
+			index = new int[UHashCommon.tableLength(keys.length)];
+			mask = index.length - 1;
+			for (int i = 0; i < size; i++) {
+				insertIndex(i);
+			}
+		}
+		
+		/**
+		 * Stores the position of the key in the first free slot of its probe sequence.
+		 * The positions are stored plus one, so the zero value marks a free slot.
+		 *
+		 * @param position the position of the key in the dense arrays
+		 */
+		private void insertIndex(int position) {
+			int slot = UHashCommon.mix(Objects.hashCode(keys[position])) & mask;
+			while (index[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			index[slot] = position + 1;
+		}
+		
+	}
+	
+	/**
+	 * Immutable view of the entries of the map.
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		
+		@Override
+		public int size() {
+			return size;
+		}
+		
+		@Override
+		public boolean contains(Object obj) {
+			if (!(obj instanceof Map.Entry)) return false;
+			
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+			int position = find(entry.getKey());
+			return position >= 0 && Objects.equals(values[position], entry.getValue());
+		}
+		
+		@Override
+		public @NotNull Iterator<Map.Entry<K, V>> iterator() {
+			return new Iterator<Map.Entry<K, V>>() {
+				private int position;
+				
+				@Override
+				public boolean hasNext() {
+					return position < size;
+				}
+				
+				@Override
+				public Map.Entry<K, V> next() {
+					if (position >= size) throw new NoSuchElementException();
+					
+					int current = position++;
+					return new AbstractMap.SimpleImmutableEntry<>(key(current), value(current));
+				}
+			};
+		}
+	
+	}
+	
+}
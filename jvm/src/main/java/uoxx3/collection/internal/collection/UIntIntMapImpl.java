@@ -0,0 +1,463 @@
+package uoxx3.collection.internal.collection;
+
+import org.jetbrains.annotations.NotNull;
+import uoxx3.UAssert;
+import uoxx3.collection.UCollectionConstants;
+import uoxx3.collection.collection.UIntIntMap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+import java.util.function.IntUnaryOperator;
+
+public final class UIntIntMapImpl implements UIntIntMap {
+	
+	/* -----------------------------------------------------
+	 * Properties
+	 * ----------------------------------------------------- */
+	
+	private static final int FREE = 0;
+	
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int maxFill;
+	private int assigned;
+	private boolean containsFree;
+	private int freeValue;
+	private final float loadFactor;
+	
+	/* -----------------------------------------------------
+	 * Constructor
+	 * ----------------------------------------------------- */
+	
+	public UIntIntMapImpl(int expected, float loadFactor) {
+		this.loadFactor = UHashCommon.checkLoadFactor(loadFactor);
+		allocate(UHashCommon.tableLength(expected, loadFactor));
+	}
+	
+	public UIntIntMapImpl(int expected) {
+		this(expected, UCollectionConstants.COLLECTION_HASH_FACTOR);
+	}
+	
+	public UIntIntMapImpl() {
+		this(UCollectionConstants.COLLECTION_SIZE_THRESHOLD);
+	}
+	
+	private UIntIntMapImpl(@NotNull UIntIntMapImpl source) {
+		keys = source.keys.clone();
+		values = source.values.clone();
+		mask = source.mask;
+		maxFill = source.maxFill;
+		assigned = source.assigned;
+		containsFree = source.containsFree;
+		freeValue = source.freeValue;
+		loadFactor = source.loadFactor;
+	}
+	
+	/* -----------------------------------------------------
+	 * Methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Adds the given increment to the value of the key. If the map does not contain the key,
+	 * the increment is stored as its value.
+	 *
+	 * @param key       The key of the value
+	 * @param increment The amount to add to the value
+	 * @return the new value of the key
+	 */
+	@Override
+	public int addTo(int key, int increment) {
+		if (key == FREE) {
+			freeValue = containsFree ? freeValue + increment : increment;
+			containsFree = true;
+			return freeValue;
+		}
+		
+		int slot = find(key);
+		if (slot >= 0) return values[slot] += increment;
+		
+		insert(~slot, key, increment);
+		return increment;
+	}
+	
+	/**
+	 * Removes all the entries of the map. The table keeps its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(keys, FREE);
+		assigned = 0;
+		containsFree = false;
+	}
+	
+	/**
+	 * Gets the value of the key. If the map does not contain the key, the value is calculated
+	 * with the given function and stored in the map.
+	 *
+	 * @param key     The key of the value
+	 * @param mapping The function that calculates the value of a missing key
+	 * @return the current or the calculated value of the key
+	 */
+	@Override
+	public int computeIfAbsent(int key, @NotNull IntUnaryOperator mapping) {
+		UAssert.paramNotNull(mapping, "IntUnaryOperator mapping");
+		if (key == FREE) {
+			if (!containsFree) {
+				freeValue = mapping.applyAsInt(key);
+				containsFree = true;
+			}
+			return freeValue;
+		}
+		
+		int slot = find(key);
+		if (slot >= 0) return values[slot];
+		
+		// The function is called before the insertion, so it can safely
+		// modify the map; the slot is searched again after the call.
+		int value = mapping.applyAsInt(key);
+		slot = find(key);
+		if (slot >= 0) values[slot] = value;
+		else insert(~slot, key, value);
+		
+		return value;
+	}
+	
+	/**
+	 * Checks if the map contains the specified key.
+	 *
+	 * @param key The key to check for.
+	 * @return true if the map contains the key, false otherwise.
+	 */
+	@Override
+	public boolean containsKey(int key) {
+		if (key == FREE) return containsFree;
+		return find(key) >= 0;
+	}
+	
+	/**
+	 * Increases the capacity of the map, if necessary, to ensure that it can hold
+	 * at least the given number of entries without rebuilding its table.
+	 *
+	 * @param minCapacity the desired minimum capacity
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > maxFill) rehash(UHashCommon.tableLength(minCapacity, loadFactor));
+	}
+	
+	/**
+	 * Gets the value of the key, or the given default value if the map does not contain the key.
+	 *
+	 * @param key          The key of the value
+	 * @param defaultValue The value returned if the map does not contain the key
+	 * @return the value of the key, or the default value
+	 */
+	@Override
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == FREE) return containsFree ? freeValue : defaultValue;
+		
+		int slot = find(key);
+		return slot >= 0 ? values[slot] : defaultValue;
+	}
+	
+	/**
+	 * Returns an iterator over the keys of the map, without boxing and in no particular order.
+	 *
+	 * @return an iterator over the keys of the map
+	 */
+	@Override
+	public @NotNull PrimitiveIterator.OfInt keyIterator() {
+		return new KeyIterator();
+	}
+	
+	/**
+	 * Gets the keys of the map as a native array, in the same order as {@link #values()}.
+	 *
+	 * @return a native array with the keys
+	 */
+	@Override
+	public int[] keys() {
+		int[] result = new int[size()];
+		int index = 0;
+		for (int key : keys) {
+			if (key != FREE) result[index++] = key;
+		}
+		if (containsFree) result[index] = FREE;
+		
+		return result;
+	}
+	
+	/**
+	 * Associates the value with the key, replacing the previous value of the key.
+	 *
+	 * @param key   The key of the value
+	 * @param value The value of the key
+	 * @return {@code true} if the map did not contain the key
+	 */
+	@Override
+	public boolean put(int key, int value) {
+		if (key == FREE) {
+			boolean added = !containsFree;
+			freeValue = value;
+			containsFree = true;
+			return added;
+		}
+		
+		int slot = find(key);
+		if (slot >= 0) {
+			values[slot] = value;
+			return false;
+		}
+		
+		insert(~slot, key, value);
+		return true;
+	}
+	
+	/**
+	 * Removes the key and its value from the map.
+	 *
+	 * @param key The key to remove
+	 * @return {@code true} if the map contained the key
+	 */
+	@Override
+	public boolean remove(int key) {
+		if (key == FREE) {
+			if (!containsFree) return false;
+			containsFree = false;
+			return true;
+		}
+		
+		int slot = find(key);
+		if (slot < 0) return false;
+		
+		shiftKeys(slot);
+		assigned--;
+		return true;
+	}
+	
+	/**
+	 * Returns the number of entries of the map.
+	 *
+	 * @return The number of entries of the map.
+	 */
+	@Override
+	public int size() {
+		return containsFree ? assigned + 1 : assigned;
+	}
+	
+	/**
+	 * Gets the values of the map as a native array, in the same order as {@link #keys()}.
+	 *
+	 * @return a native array with the values
+	 */
+	@Override
+	public int[] values() {
+		int[] result = new int[size()];
+		int index = 0;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) result[index++] = values[slot];
+		}
+		if (containsFree) result[index] = freeValue;
+		
+		return result;
+	}
+	
+	/**
+	 * Creates a deep copy of the object.
+	 *
+	 * @return A deep copy of the object.
+	 */
+	@Override
+	public @NotNull UIntIntMap copy() {
+		return new UIntIntMapImpl(this);
+	}
+	
+	/**
+	 * Checks if the given object is a int map with the same entries.
+	 *
+	 * @param obj the object to compare
+	 * @return {@code true} if the object is a int map with the same entries
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof UIntIntMap)) return false;
+		
+		UIntIntMap other = (UIntIntMap) obj;
+		if (other.size() != size()) return false;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE && !containsEntry(other, keys[slot], values[slot])) return false;
+		}
+		
+		return !containsFree || containsEntry(other, FREE, freeValue);
+	}
+	
+	/**
+	 * Gets the hash code of the map, the sum of the hash codes of its entries.
+	 *
+	 * @return the hash code of the map
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) hash += Integer.hashCode(keys[slot]) ^ Integer.hashCode(values[slot]);
+		}
+		if (containsFree) hash += Integer.hashCode(freeValue);
+		
+		return hash;
+	}
+	
+	/**
+	 * Object string representation
+	 *
+	 * @return object string representation
+	 */
+	@Override
+	public @NotNull String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "{", "}");
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != FREE) joiner.add(keys[slot] + "=" + values[slot]);
+		}
+		if (containsFree) joiner.add(FREE + "=" + freeValue);
+		
+		return joiner.toString();
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Checks if the given map contains the key associated with the value.
+	 *
+	 * @param map   the map to check
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @return {@code true} if the map contains the entry
+	 */
+	private static boolean containsEntry(@NotNull UIntIntMap map, int key, int value) {
+		return map.containsKey(key) && map.getOrDefault(key, value) == value;
+	}
+	
+	/**
+	 * Replaces the tables with new empty tables of the given length.
+	 *
+	 * @param length the length of the tables
+	 */
+	private void allocate(int length) {
+		keys = new int[length];
+		values = new int[length];
+		mask = length - 1;
+		maxFill = UHashCommon.maxFill(length, loadFactor);
+	}
+	
+	/**
+	 * Searches the slot of the given key, which is never the free key.
+	 *
+	 * @param key the key to search
+	 * @return the slot of the key, or the complement of the free slot where the key would be inserted
+	 */
+	private int find(int key) {
+		int slot = UHashCommon.mix(key) & mask;
+		for (int current = keys[slot]; current != FREE; current = keys[slot]) {
+			if (current == key) return slot;
+			slot = (slot + 1) & mask;
+		}
+		
+		return ~slot;
+	}
+	
+	/**
+	 * Stores a new entry in the given free slot, rebuilding the tables if they are too full.
+	 *
+	 * @param slot  the free slot of the entry
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 */
+	private void insert(int slot, int key, int value) {
+		keys[slot] = key;
+		values[slot] = value;
+		if (++assigned > maxFill) rehash(keys.length << 1);
+	}
+	
+	/**
+	 * Moves all the entries to new tables of the given length.
+	 *
+	 * @param length the length of the new tables
+	 */
+	private void rehash(int length) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(length);
+		
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == FREE) continue;
+			
+			int slot = UHashCommon.mix(oldKeys[i]) & mask;
+			while (keys[slot] != FREE) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+	
+	/**
+	 * Frees the given slot, moving back the entries of the probe sequence that follows it.
+	 * The tables never contain deleted markers, so the searches do not slow down after
+	 * many removals.
+	 *
+	 * @param free the slot to free
+	 */
+	private void shiftKeys(int free) {
+		int slot = free;
+		while (true) {
+			slot = (slot + 1) & mask;
+			int current = keys[slot];
+			if (current == FREE) break;
+			
+			if (UHashCommon.canShift(free, slot, UHashCommon.mix(current) & mask)) {
+				keys[free] = current;
+				values[free] = values[slot];
+				free = slot;
+			}
+		}
+		
+		keys[free] = FREE;
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal classes
+	 * ----------------------------------------------------- */
+	
+	/**
+	 * Iterator over the keys of the table, followed by the free key if the map contains it.
+	 */
+	private final class KeyIterator implements PrimitiveIterator.OfInt {
+		
+		private int slot = -1;
+		private int remaining = size();
+		
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		@Override
+		public int nextInt() {
+			if (remaining <= 0) throw new NoSuchElementException();
+			remaining--;
+			
+			while (++slot < keys.length) {
+				if (keys[slot] != FREE) return keys[slot];
+			}
+			return FREE;
+		}
+	
+	}
+	
+}
@@ -0,0 +1,97 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+class UAppendOnlyArrayTest {
+	
+	@Test
+	public void concurrentAddTest() throws InterruptedException {
+		UAppendOnlyLongArray array = UArrays.appendOnlyOfLong();
+		AtomicBoolean consistent = new AtomicBoolean(true);
+		List<Thread> threads = new ArrayList<>();
+		int writers = 4;
+		int elements = 50_000;
+		
+		// Every writer appends positive values, so a published zero is an unwritten slot
+		for (int t = 0; t < writers; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 1; i <= elements; i++) {
+					if (i % 100 == 0) {
+						array.addAll(i, i);
+					} else {
+						array.add(i);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		Thread reader = new Thread(() -> {
+			while (threads.stream().anyMatch(Thread::isAlive)) {
+				ULongArray snapshot = array.snapshot();
+				if (snapshot.stream().anyMatch(value -> value == 0)) consistent.set(false);
+			}
+		});
+		reader.start();
+		
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		reader.join();
+		
+		Assertions.assertTrue(consistent.get(),
+							  "The readers cannot see unwritten slots");
+		Assertions.assertEquals(writers * (elements + elements / 100), array.size(),
+								"Invalid array size");
+		Assertions.assertTrue(array.capacity() >= array.size(),
+							  "The capacity cannot be less than the size");
+	}
+	
+	@Test
+	public void segmentsTest() {
+		UAppendOnlyIntegerArray array = UArrays.appendOnlyOfInt();
+		
+		for (int i = 0; i < 1_000; i++) {
+			array.add(i);
+		}
+		array.addAll(new int[]{1_000, 1_001, 1_002});
+		
+		Assertions.assertEquals(1_003, array.size(),
+								"Invalid array size");
+		Assertions.assertEquals(500, array.get(500),
+								"Invalid array element");
+		Assertions.assertEquals(1_002, array.lastIndexOf(1_002),
+								"Invalid element index");
+		Assertions.assertEquals(1_003 * 1_002 / 2, array.stream().sum(),
+								"Invalid stream elements");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> array.get(1_003));
+		Assertions.assertThrows(UnsupportedOperationException.class,
+								() -> array.removeAt(0));
+	}
+	
+	@Test
+	public void snapshotTest() {
+		UAppendOnlyLongArray array = UArrays.appendOnlyOfLong(LongStream.range(0, 100).toArray());
+		ULongArray snapshot = array.snapshot();
+		ULongArray slice = array.slice(10, 40);
+		
+		array.add(100);
+		Assertions.assertEquals(100, snapshot.size(),
+								"The snapshot cannot see the new elements");
+		Assertions.assertEquals(101, array.size(),
+								"Invalid array size");
+		Assertions.assertArrayEquals(LongStream.range(10, 40).toArray(), slice.getArray(),
+									 "Invalid slice elements");
+		Assertions.assertThrows(UnsupportedOperationException.class,
+								() -> snapshot.add(1));
+	}
+	
+}
@@ -0,0 +1,119 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class UArrayAggregateTest {
+	
+	static final int SIZE = 200_000;
+	
+	@Test
+	public void aggregateTest() {
+		UIntegerArray ints = UArrays.ofInt(IntStream.range(0, SIZE).map(i -> (i * 31) % 1_000 - 500).toArray());
+		ULongArray longs = UArrays.ofLong(IntStream.range(0, SIZE).asLongStream().map(i -> i * 1_000_003L).toArray());
+		UDoubleArray doubles = UArrays.ofDouble(IntStream.range(0, SIZE).asDoubleStream().map(i -> i / 8).toArray());
+		UFloatArray floats = UArrays.ofFloat();
+		for (int i = 0; i < SIZE; i++) {
+			floats.add(i % 100 - 50.5f);
+		}
+		
+		Assertions.assertEquals(ints.stream().asLongStream().sum(), ints.sum(), "Invalid int sum");
+		Assertions.assertEquals(ints.stream().min(), ints.min(), "Invalid int minimum");
+		Assertions.assertEquals(ints.stream().max(), ints.max(), "Invalid int maximum");
+		Assertions.assertEquals(ints.stream().average(), ints.average(), "Invalid int average");
+		
+		IntSummaryStatistics statistics = ints.summaryStatistics();
+		Assertions.assertEquals(SIZE, statistics.getCount(), "Invalid statistics count");
+		Assertions.assertEquals(ints.sum(), statistics.getSum(), "Invalid statistics sum");
+		Assertions.assertEquals(ints.min().getAsInt(), statistics.getMin(), "Invalid statistics minimum");
+		
+		Assertions.assertEquals(longs.stream().sum(), longs.sum(), "Invalid long sum");
+		Assertions.assertEquals(longs.stream().max(), longs.max(), "Invalid long maximum");
+		Assertions.assertEquals(longs.stream().summaryStatistics().toString(), longs.summaryStatistics().toString(),
+								"Invalid long statistics");
+		
+		Assertions.assertEquals(doubles.stream().sum(), doubles.sum(), 1e-6, "Invalid double sum");
+		Assertions.assertEquals(doubles.stream().sum(), doubles.compensatedSum(), "Invalid double compensated sum");
+		Assertions.assertEquals(doubles.stream().max(), doubles.max(), "Invalid double maximum");
+		
+		DoubleSummaryStatistics floatStatistics = floats.summaryStatistics();
+		Assertions.assertEquals(-50.5, floatStatistics.getMin(), "Invalid float minimum");
+		Assertions.assertEquals(48.5, floatStatistics.getMax(), "Invalid float maximum");
+		Assertions.assertEquals(-200_000.0, floats.sum(), 1e-6, "Invalid float sum");
+		Assertions.assertEquals(-1.0, floats.average().getAsDouble(), 1e-12, "Invalid float average");
+	}
+	
+	@Test
+	public void edgeCaseTest() {
+		Assertions.assertFalse(UArrays.ofInt().min().isPresent(), "The empty arrays have no minimum");
+		Assertions.assertFalse(UArrays.ofDouble().average().isPresent(), "The empty arrays have no average");
+		Assertions.assertEquals(0L, UArrays.ofLong().sum(), "The empty arrays add zero");
+		
+		UIntegerArray overflow = UArrays.ofInt(Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+		Assertions.assertEquals(2L * Integer.MAX_VALUE + 1, overflow.sum(), "The int sum must not overflow");
+		
+		UIntegerArray sorted = UArrays.ofInt(9, 3, 7, 1, 5);
+		sorted.sort();
+		Assertions.assertEquals(OptionalInt.of(1), sorted.min(), "Invalid sorted minimum");
+		Assertions.assertEquals(OptionalInt.of(9), sorted.max(), "Invalid sorted maximum");
+		Assertions.assertEquals(OptionalInt.of(7), sorted.slice(1, 4).max(), "Invalid slice maximum");
+		
+		UDoubleArray special = UArrays.ofDouble(1.0, Double.NaN, -1.0);
+		Assertions.assertTrue(Double.isNaN(special.min().getAsDouble()), "The NaN element must be the minimum");
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, UArrays.ofDouble(Double.POSITIVE_INFINITY, 1.0).compensatedSum(),
+								"The infinite sums must stay infinite");
+	}
+	
+	@Test
+	public void compensatedSumTest() {
+		UDoubleArray values = UArrays.ofDouble(1.0);
+		for (int i = 0; i < 10_000; i++) {
+			values.add(1e-16);
+		}
+		
+		// Every small element alone is lost when added to one
+		Assertions.assertEquals(1.000000000001, values.compensatedSum(), 1e-15, "The rounding error must be compensated");
+	}
+	
+	@Test
+	public void scanTest() {
+		UIntegerArray lengths = UArrays.ofInt(3, 0, 5, 2);
+		ULongArray offsets = lengths.toPrefixSum();
+		Assertions.assertArrayEquals(new long[]{3, 3, 8, 10}, offsets.getArray(), "Invalid offsets");
+		Assertions.assertArrayEquals(new int[]{3, 0, 5, 2}, lengths.getArray(), "The source array must not change");
+		
+		lengths.prefixSum();
+		Assertions.assertArrayEquals(new int[]{3, 3, 8, 10}, lengths.getArray(), "Invalid in-place prefix sum");
+		
+		UIntegerArray source = UArrays.ofInt(4, 1, 7, 2, 9);
+		UIntegerArray slice = source.slice(1, 4);
+		slice.scan(Math::max);
+		Assertions.assertArrayEquals(new int[]{1, 7, 7}, slice.getArray(), "Invalid running maximum");
+		Assertions.assertArrayEquals(new int[]{4, 1, 7, 2, 9}, source.getArray(), "The scan of a slice must not change its source");
+		
+		UIntegerArray large = UArrays.ofInt(IntStream.range(0, SIZE).map(i -> i % 7).toArray());
+		long[] expected = new long[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			expected[i] = (i == 0 ? 0 : expected[i - 1]) + i % 7;
+		}
+		Assertions.assertArrayEquals(expected, large.toPrefixSum().getArray(), "Invalid parallel offsets");
+		large.parallelScan(Integer::sum);
+		Assertions.assertArrayEquals(LongStream.of(expected).mapToInt(value -> (int) value).toArray(), large.getArray(),
+									 "Invalid parallel scan");
+		
+		UIntegerArray overflow = UArrays.ofInt(Integer.MAX_VALUE, 1);
+		Assertions.assertEquals(Integer.MAX_VALUE + 1L, overflow.toPrefixSum().get(1), "The offsets must not overflow");
+		
+		UFloatArray floats = UArrays.ofFloat(0.5f, 1.5f, 2f);
+		floats.prefixSum();
+		Assertions.assertArrayEquals(new float[]{0.5f, 2f, 4f}, floats.getArray(), "Invalid float prefix sum");
+	}
+	
+}
@@ -0,0 +1,146 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.lang.reflect.Method;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+class UArrayIterationTest {
+	
+	static final int SIZE = 100_000;
+	static final int ROUNDS = 100;
+	
+	long total;
+	
+	@Test
+	public void primitiveIteratorTest() {
+		UIntegerArray array = UArrays.ofInt(1, 2, 3, 4, 5).slice(1, 4);
+		PrimitiveIterator.OfInt iterator = array.iterator();
+		
+		Assertions.assertEquals(2, iterator.nextInt(), "Invalid first element");
+		Assertions.assertEquals(3, iterator.nextInt(), "Invalid second element");
+		Assertions.assertEquals(4, iterator.nextInt(), "Invalid last element");
+		Assertions.assertFalse(iterator.hasNext(), "The iterator must be consumed");
+		
+		StringBuilder builder = new StringBuilder();
+		UArrays.ofChar("text".toCharArray()).forEachChar(builder::appendCodePoint);
+		Assertions.assertEquals("text", builder.toString(), "Invalid characters");
+		
+		int[] sum = new int[1];
+		UArrays.ofByte(-1, 2, -3).forEachByte(value -> sum[0] += value);
+		Assertions.assertEquals(-2, sum[0], "The bytes must keep their sign");
+		
+		int boxed = 0;
+		for (Short element : UArrays.ofShort(10, 20, 30)) {
+			boxed += element;
+		}
+		Assertions.assertEquals(60, boxed, "Invalid boxed elements");
+	}
+	
+	@Test
+	public void snapshotIteratorTest() {
+		UConcurrentIntegerArray concurrent = UArrays.concurrentOfInt(1, 2, 3);
+		PrimitiveIterator.OfInt values = concurrent.iterator();
+		concurrent.add(4);
+		int sum = 0;
+		while (values.hasNext()) {
+			sum += values.nextInt();
+		}
+		Assertions.assertEquals(6, sum, "The iterator must traverse its snapshot");
+		
+		UAppendOnlyLongArray appendOnly = UArrays.appendOnlyOfLong();
+		for (long i = 0; i < 100; i++) {
+			appendOnly.add(i);
+		}
+		PrimitiveIterator.OfLong longs = appendOnly.iterator();
+		appendOnly.add(100);
+		long total = 0;
+		while (longs.hasNext()) {
+			total += longs.nextLong();
+		}
+		Assertions.assertEquals(4_950, total, "The iterator must traverse the published elements");
+		Assertions.assertThrows(NoSuchElementException.class, longs::nextLong,
+								"The iterator must be consumed");
+	}
+	
+	@Test
+	public void indexedIterationTest() {
+		UIntegerArray array = UArrays.ofInt(1, 2, 3, 4, 5).slice(1, 4);
+		int[] weighted = new int[1];
+		array.forEachIndexedInt((index, element) -> weighted[0] += index * element);
+		Assertions.assertEquals(3 + 2 * 4, weighted[0], "The indexes must start at the slice start");
+		
+		StringBuilder builder = new StringBuilder();
+		UArrays.ofChar("text".toCharArray())
+			.forEachIndexedChar((index, element) -> builder.append(index).append((char) element));
+		Assertions.assertEquals("0t1e2x3t", builder.toString(), "Invalid indexed characters");
+		
+		long[] longs = new long[3];
+		UArrays.ofLong(7L, 8L, 9L).forEachIndexedLong((index, element) -> longs[index] = element);
+		Assertions.assertArrayEquals(new long[]{7L, 8L, 9L}, longs, "Invalid indexed longs");
+		
+		UArray<String> strings = UArrays.of("a", null, "c");
+		StringBuilder objects = new StringBuilder();
+		strings.forEachIndexedObj((index, element) -> objects.append(index).append(element));
+		Assertions.assertEquals("0a1null2c", objects.toString(), "Invalid indexed elements");
+		
+		StringBuilder notNull = new StringBuilder();
+		strings.forEachIndexedNotNull((index, element) -> notNull.append(index).append(element));
+		Assertions.assertEquals("0a2c", notNull.toString(), "The null elements must keep their index");
+	}
+	
+	@Test
+	public void allocationTest() throws ReflectiveOperationException {
+		Object threadBean = Class.forName("java.lang.management.ManagementFactory")
+			.getMethod("getThreadMXBean")
+			.invoke(null);
+		Class<?> beanType = Class.forName("com.sun.management.ThreadMXBean");
+		Assumptions.assumeTrue(beanType.isInstance(threadBean), "The allocated bytes are not measurable");
+		Method allocated = beanType.getMethod("getCurrentThreadAllocatedBytes");
+		
+		UIntegerArray array = UArrays.ofInt();
+		for (int i = 0; i < SIZE; i++) {
+			array.add(i);
+		}
+		IntConsumer consumer = value -> total += value;
+		UIndexedConsumer.OfInt indexed = (index, value) -> total += value;
+		
+		// Warm up the iteration, so the measured rounds only contain the traversals
+		for (int round = 0; round < ROUNDS; round++) {
+			traverse(array, consumer, indexed);
+		}
+		long baseline = measure(allocated, threadBean);
+		long bytes = (long) allocated.invoke(threadBean);
+		for (int round = 0; round < ROUNDS; round++) {
+			traverse(array, consumer, indexed);
+		}
+		bytes = (long) allocated.invoke(threadBean) - bytes - baseline;
+		
+		// Only the iterator object of every round is allocated, never the elements
+		Assertions.assertTrue(bytes / ROUNDS < 64,
+							  "The traversals must not allocate the elements: " + bytes + " bytes");
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	private static long measure(Method allocated, Object threadBean) throws ReflectiveOperationException {
+		long bytes = (long) allocated.invoke(threadBean);
+		return (long) allocated.invoke(threadBean) - bytes;
+	}
+	
+	private void traverse(UIntegerArray array, IntConsumer consumer, UIndexedConsumer.OfInt indexed) {
+		array.forEachInt(consumer);
+		array.forEachIndexedInt(indexed);
+		for (PrimitiveIterator.OfInt iterator = array.iterator(); iterator.hasNext(); ) {
+			total += iterator.nextInt();
+		}
+	}
+	
+}
@@ -0,0 +1,149 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uoxx3.collection.UArrays;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class UArraySerializationTest {
+	
+	@TempDir
+	Path directory;
+	
+	@Test
+	public void roundTripTest() throws IOException {
+		UIntegerArray integers = UArrays.ofInt(IntStream.range(0, 100_000).toArray());
+		UDoubleArray doubles = UArrays.ofDouble(DoubleStream.of(1.5, -0.0, Double.NaN).toArray());
+		UShortArray shorts = UArrays.ofShort((short) 1, (short) -2);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		
+		integers.writeTo(Channels.newChannel(output));
+		doubles.writeTo(Channels.newChannel(output));
+		shorts.writeTo(Channels.newChannel(output));
+		Assertions.assertEquals(3 * 16 + 100_000 * Integer.BYTES + 3 * Double.BYTES + 2 * Short.BYTES, output.size(),
+								"Invalid serialized size");
+		
+		// Every array is read from the same channel, one after another
+		ReadableByteChannel input = Channels.newChannel(new ByteArrayInputStream(output.toByteArray()));
+		UIntegerArray readIntegers = UArrays.ofInt();
+		UDoubleArray readDoubles = UArrays.ofDouble();
+		UShortArray readShorts = UArrays.ofShort();
+		
+		readIntegers.readFrom(input);
+		readDoubles.readFrom(input);
+		readShorts.readFrom(input);
+		Assertions.assertArrayEquals(integers.getArray(), readIntegers.getArray(),
+									 "Invalid int elements");
+		Assertions.assertArrayEquals(doubles.getArray(), readDoubles.getArray(),
+									 "Invalid double elements");
+		Assertions.assertArrayEquals(shorts.getArray(), readShorts.getArray(),
+									 "Invalid short elements");
+	}
+	
+	@Test
+	public void writeOnlyReadsTest() throws IOException {
+		ULongArray array = UArrays.ofLong(1234, UGrowthPolicy.defaultPolicy());
+		array.addAll(LongStream.range(0, 1000));
+		Assertions.assertTrue(array.isSorted(), "Ordered appends must keep the array sorted");
+		ULongArray slice = array.slice(10, 20);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		
+		// Writing the array or a slice never touches their storage
+		array.writeTo(Channels.newChannel(output));
+		slice.writeTo(Channels.newChannel(output));
+		Assertions.assertEquals(1234, array.capacity(), "The capacity must not change");
+		Assertions.assertTrue(array.isSorted(), "The sorted state must not change");
+		
+		ReadableByteChannel input = Channels.newChannel(new ByteArrayInputStream(output.toByteArray()));
+		ULongArray copy = UArrays.ofLong();
+		copy.readFrom(input);
+		copy.readFrom(input);
+		Assertions.assertEquals(1010, copy.size(), "Invalid read size");
+		Assertions.assertEquals(10, copy.get(1000), "Invalid slice element");
+	}
+	
+	@Test
+	public void byteOrderTest() throws IOException {
+		ByteOrder order = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		ByteBuffer buffer = ByteBuffer.allocate(16 + 2 * Long.BYTES);
+		
+		// An array written on a platform with the opposite byte order
+		buffer.putInt(0x55415252).put((byte) 1).put((byte) 5)
+			.put((byte) (order == ByteOrder.LITTLE_ENDIAN ? 1 : 0)).put((byte) 0)
+			.putLong(2);
+		buffer.order(order).putLong(42).putLong(-7);
+		
+		ULongArray array = UArrays.ofLong();
+		array.readFrom(Channels.newChannel(new ByteArrayInputStream(buffer.array())));
+		Assertions.assertArrayEquals(new long[]{42, -7}, array.getArray(),
+									 "Invalid long elements");
+	}
+	
+	@Test
+	public void invalidInputTest() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		UArrays.ofFloat(1f, 2f).writeTo(Channels.newChannel(output));
+		byte[] bytes = output.toByteArray();
+		
+		Assertions.assertThrows(IOException.class,
+								() -> UArrays.ofInt().readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+		Assertions.assertThrows(EOFException.class,
+								() -> UArrays.ofFloat().readFrom(Channels.newChannel(
+									new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)))));
+	}
+	
+	@Test
+	public void corruptLengthTest() throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(16 + 2 * Integer.BYTES);
+		
+		// A header that declares the maximum length, followed by only two elements
+		buffer.putInt(0x55415252).put((byte) 1).put((byte) 4)
+			.put((byte) (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 0)).put((byte) 0)
+			.putLong(Integer.MAX_VALUE - 8);
+		Path file = Files.write(directory.resolve("corrupt.bin"), buffer.array());
+		
+		// The file size rejects the length before any storage is reserved
+		try (FileChannel channel = FileChannel.open(file)) {
+			UIntegerArray array = UArrays.ofInt(7);
+			Assertions.assertThrows(EOFException.class,
+									() -> array.readFrom(channel));
+			Assertions.assertArrayEquals(new int[]{7}, array.getArray(),
+										 "A failed read cannot add elements");
+		}
+		
+		// A stream of unknown size only grows the storage as the elements arrive
+		Assertions.assertThrows(EOFException.class,
+								() -> UArrays.ofInt().readFrom(Channels.newChannel(new ByteArrayInputStream(buffer.array()))));
+	}
+	
+	@Test
+	public void directByteArrayTest() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		
+		try (UDirectByteArray array = UArrays.directOfByte((byte) 1, (byte) 2, (byte) 3)) {
+			array.slice(1, 3).writeTo(Channels.newChannel(output));
+		}
+		
+		UByteArray array = UArrays.ofByte();
+		array.readFrom(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+		Assertions.assertArrayEquals(new byte[]{2, 3}, array.getArray(),
+									 "Invalid byte elements");
+	}
+	
+}
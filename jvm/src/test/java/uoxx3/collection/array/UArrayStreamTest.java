@@ -0,0 +1,60 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+class UArrayStreamTest {
+	
+	static final int SIZE = 100_000;
+	
+	@Test
+	public void parallelStreamTest() {
+		UByteArray bytes = UArrays.ofByte();
+		UShortArray shorts = UArrays.ofShort();
+		UCharacterArray chars = UArrays.ofChar();
+		UFloatArray floats = UArrays.ofFloat();
+		for (int i = 0; i < SIZE; i++) {
+			bytes.add(i % 100);
+			shorts.add(i % 1_000);
+			chars.add((char) ('a' + i % 26));
+			floats.add(i % 10);
+		}
+		
+		Assertions.assertEquals(bytes.stream().sum(), bytes.parallelStream().sum(), "Invalid parallel byte sum");
+		Assertions.assertEquals(shorts.stream().sum(), shorts.parallelStream().sum(), "Invalid parallel short sum");
+		Assertions.assertEquals(chars.chars().sum(), chars.chars().parallel().sum(), "Invalid parallel char sum");
+		Assertions.assertEquals(SIZE, chars.parallelStream().count(), "Invalid parallel char count");
+		Assertions.assertEquals(floats.stream().sum(), floats.parallelStream().sum(), "Invalid parallel float sum");
+		
+		// The parallel streams of the slices only cover their own range
+		UShortArray slice = shorts.slice(1_000, 3_000);
+		Assertions.assertEquals(2 * IntStream.range(0, 1_000).sum(), slice.parallelStream().sum(),
+								"Invalid parallel sum of the slice");
+		Assertions.assertArrayEquals(slice.stream().toArray(), slice.parallelStream().toArray(),
+									 "The parallel stream must keep the order");
+	}
+	
+	@Test
+	public void spliteratorTest() {
+		UByteArray array = UArrays.ofByte(new byte[SIZE]);
+		Spliterator.OfInt spliterator = array.stream().spliterator();
+		
+		Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED),
+							  "The spliterator must be sized and ordered");
+		Assertions.assertEquals(SIZE, spliterator.getExactSizeIfKnown(), "Invalid spliterator size");
+		
+		Spliterator.OfInt prefix = spliterator.trySplit();
+		Assertions.assertNotNull(prefix, "The spliterator must split");
+		Assertions.assertEquals(SIZE / 2, prefix.estimateSize(), "The spliterator must split in halves");
+		Assertions.assertEquals(SIZE / 2, spliterator.estimateSize(), "The spliterator must split in halves");
+		
+		// The generic parallel stream of the array type is also available
+		Assertions.assertTrue(UArrays.ofBoolean(new boolean[SIZE]).parallelStream().isParallel(),
+							  "The boolean array must have a parallel stream");
+	}
+	
+}
@@ -4,7 +4,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import uoxx3.collection.UArrays;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 class UArrayTest {
 	
@@ -46,6 +50,77 @@ class UArrayTest {
 		System.out.println(sharedArray);
 	}
 	
+	@Test
+	public void addAllSourcesTest() {
+		UArray<String> array = UArrays.of(String.class);
+		
+		array.addAll(List.of("a", "b"));
+		array.addAll(sharedArray);
+		array.addAll(Stream.of("c", "d").map(String::toUpperCase));
+		array.addAll(Set.of("e").spliterator());
+		Assertions.assertEquals(9, array.size(),
+								"Invalid array size");
+		Assertions.assertEquals("C", array.get(6),
+								"Invalid stream element");
+		
+		// The array can be appended to itself
+		array.addAll(array);
+		Assertions.assertEquals(18, array.size(),
+								"Invalid array size");
+		Assertions.assertEquals(array.get(0), array.get(9),
+								"Invalid copied element");
+		
+		System.out.println(array);
+	}
+	
+	@Test
+	public void addCapacityTest() {
+		UArray<Integer> array = UArrays.of(Integer.class);
+		int elements = 10_000;
+		
+		for (int i = 0; i < elements; i++) {
+			array.add(i);
+		}
+		
+		Assertions.assertEquals(elements, array.size(),
+								"Invalid array size");
+		Assertions.assertTrue(array.capacity() >= array.size(),
+							  "The capacity cannot be less than the size");
+		Assertions.assertEquals(elements - 1, array.get(elements - 1),
+								"Invalid last element");
+		Assertions.assertEquals(elements, array.stream().count(),
+								"Invalid stream size");
+		Assertions.assertEquals(elements, array.toList().size(),
+								"Invalid list size");
+		Assertions.assertEquals(elements, array.toSet().size(),
+								"Invalid set size");
+		Assertions.assertEquals(elements, array.getArray().length,
+								"The native array must not contain unused capacity");
+	}
+	
+	@Test
+	public void ensureCapacityTest() {
+		UArray<String> array = UArrays.of(String.class);
+		array.ensureCapacity(100);
+		
+		Assertions.assertTrue(array.capacity() >= 100,
+							  "Invalid array capacity");
+		Assertions.assertTrue(array.isEmpty(),
+							  "The array must be empty");
+		
+		array.addAll("Hello", "World");
+		Assertions.assertEquals(2, array.size(),
+								"Invalid array size");
+		Assertions.assertEquals(-1, array.indexOf(null),
+								"The unused capacity cannot be part of the array");
+		
+		array.trimToSize();
+		Assertions.assertEquals(array.size(), array.capacity(),
+								"The capacity must be equal to the size");
+		
+		System.out.println(array);
+	}
+	
 	@Test
 	public void componentTypeTest() {
 		Class<?> expected = String.class;
@@ -131,6 +206,71 @@ class UArrayTest {
 							  "Must be executed at least once");
 	}
 	
+	@Test
+	public void insertTest() {
+		sharedArray.insert(0, ">");
+		sharedArray.insertAll(2, "a", "b");
+		sharedArray.insert(sharedArray.size(), "<");
+		
+		Assertions.assertEquals(List.of(">", "Hello", "a", "b", ", ", "World", "!", "<"), sharedArray.toList(),
+								"Invalid array elements");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> sharedArray.insert(sharedArray.size() + 1, "?"));
+	}
+	
+	@Test
+	public void removeTest() {
+		Assertions.assertEquals(", ", sharedArray.removeAt(1),
+								"Invalid removed element");
+		Assertions.assertEquals(List.of("Hello", "World", "!"), sharedArray.toList(),
+								"Invalid array elements");
+		
+		sharedArray.removeRange(0, 2);
+		Assertions.assertEquals(List.of("!"), sharedArray.toList(),
+								"Invalid array elements");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> sharedArray.removeRange(1, 0));
+	}
+	
+	@Test
+	public void removeIfTest() {
+		String[] nullValues = {null, "1", null, "2", null};
+		sharedArray.addAll(nullValues);
+		
+		Assertions.assertTrue(sharedArray.removeIf(Objects::isNull),
+							  "The array must be modified");
+		Assertions.assertFalse(sharedArray.removeIf(Objects::isNull),
+							   "The array cannot be modified");
+		Assertions.assertEquals(6, sharedArray.size(),
+								"Invalid array size");
+		
+		Assertions.assertTrue(sharedArray.retainAll(Set.of("Hello", "1")),
+							  "The array must be modified");
+		Assertions.assertEquals(List.of("Hello", "1"), sharedArray.toList(),
+								"Invalid array elements");
+	}
+	
+	@Test
+	public void sliceTest() {
+		UArray<String> slice = sharedArray.slice(1, 3);
+		
+		Assertions.assertEquals(List.of(", ", "World"), slice.toList(),
+								"Invalid slice elements");
+		Assertions.assertEquals(1, slice.indexOf("World"),
+								"Invalid slice index");
+		Assertions.assertEquals(-1, slice.indexOf("Hello"),
+								"The slice cannot access elements out of its range");
+		Assertions.assertEquals("World", slice.slice(1, 2).get(0),
+								"Invalid nested slice element");
+		
+		// Modifying the slice never modifies the original array
+		slice.add("?");
+		Assertions.assertEquals(List.of(", ", "World", "?"), slice.toList(),
+								"Invalid slice elements");
+		Assertions.assertEquals("!", sharedArray.get(3),
+								"The slice cannot modify the original array");
+	}
+	
 	@Test
 	public void lastTest() {
 		var element = sharedArray.last();
@@ -0,0 +1,108 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+import uoxx3.collection.UCollectionConstants;
+
+import java.util.BitSet;
+import java.util.Random;
+
+class UBooleanArrayTest {
+	
+	@Test
+	public void packedElementsTest() {
+		Random random = new Random(3);
+		boolean[] elements = new boolean[1_000];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = random.nextInt(3) == 0;
+		}
+		
+		UBooleanArray array = UArrays.ofBoolean(elements);
+		Assertions.assertArrayEquals(elements, array.getArray(),
+									 "Invalid packed elements");
+		Assertions.assertEquals(16, array.toLongArray().length,
+								"Invalid number of words");
+		
+		BitSet expected = BitSet.valueOf(array.toLongArray());
+		Assertions.assertEquals(expected.cardinality(), array.cardinality(),
+								"Invalid cardinality");
+		for (int i = 0; i < elements.length; i++) {
+			Assertions.assertEquals(expected.nextSetBit(i), array.nextSetBit(i),
+									"Invalid next set bit from " + i);
+			Assertions.assertEquals(expected.nextClearBit(i), array.nextClearBit(i),
+									"Invalid next clear bit from " + i);
+			Assertions.assertEquals(expected.previousSetBit(i), array.previousSetBit(i),
+									"Invalid previous set bit from " + i);
+		}
+	}
+	
+	@Test
+	public void bulkOperationsTest() {
+		UBooleanArray flags = UArrays.ofBoolean(true, true, false, false, true);
+		UBooleanArray mask = UArrays.ofBoolean(true, false, true);
+		
+		UBooleanArray and = flags.copy();
+		and.and(mask);
+		Assertions.assertArrayEquals(new boolean[]{true, false, false, false, false}, and.getArray(),
+									 "Invalid and elements");
+		
+		UBooleanArray andNot = flags.copy();
+		andNot.andNot(mask);
+		Assertions.assertArrayEquals(new boolean[]{false, true, false, false, true}, andNot.getArray(),
+									 "Invalid and not elements");
+		
+		UBooleanArray or = mask.copy();
+		or.or(flags);
+		Assertions.assertArrayEquals(new boolean[]{true, true, true, false, true}, or.getArray(),
+									 "Invalid or elements");
+		
+		UBooleanArray xor = flags.copy();
+		xor.xor(mask);
+		Assertions.assertArrayEquals(new boolean[]{false, true, true, false, true}, xor.getArray(),
+									 "Invalid xor elements");
+	}
+	
+	@Test
+	public void modificationTest() {
+		UBooleanArray array = UArrays.ofBoolean(0, UGrowthPolicy.defaultPolicy());
+		for (int i = 0; i < 200; i++) {
+			array.add(i % 3 == 0);
+		}
+		
+		array.insert(1, true);
+		Assertions.assertTrue(array.get(1), "Invalid inserted element");
+		Assertions.assertTrue(array.get(4), "Invalid shifted element");
+		Assertions.assertTrue(array.removeAt(1), "Invalid removed element");
+		
+		array.removeRange(10, 150);
+		Assertions.assertEquals(60, array.size(), "Invalid array size");
+		Assertions.assertEquals(21, array.cardinality(), "Invalid cardinality");
+		Assertions.assertEquals(UCollectionConstants.INDEX_NOT_FOUND, array.nextSetBit(60),
+								"Removed elements must be cleared");
+		
+		array.set(2, true);
+		array.flip(0);
+		Assertions.assertEquals(2, array.indexOf(true), "Invalid element index");
+		Assertions.assertEquals(59, array.lastIndexOf(false), "Invalid last element index");
+	}
+	
+	@Test
+	public void sliceTest() {
+		boolean[] elements = new boolean[300];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = i % 7 == 0;
+		}
+		
+		UBooleanArray array = UArrays.ofBoolean(elements);
+		UBooleanArray slice = array.slice(70, 270);
+		Assertions.assertEquals(29, slice.cardinality(), "Invalid slice cardinality");
+		Assertions.assertEquals(0, slice.nextSetBit(0), "Invalid slice set bit");
+		Assertions.assertEquals(7, slice.nextSetBit(1), "Invalid slice set bit");
+		
+		slice.set(1, true);
+		Assertions.assertFalse(array.get(71), "The slice must be detached before modification");
+		Assertions.assertTrue(slice.get(1), "Invalid slice element");
+	}
+	
+}
@@ -0,0 +1,89 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+class UByteArrayTest {
+	
+	@Test
+	public void indexOfTest() {
+		Random random = new Random(19);
+		for (int size = 0; size <= 40; size++) {
+			byte[] elements = new byte[size];
+			random.nextBytes(elements);
+			UByteArray array = UArrays.ofByte(elements);
+			
+			for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+				Assertions.assertEquals(expectedIndexOf(elements, (byte) value), array.indexOf(value),
+										"Invalid index of the value " + value);
+				Assertions.assertEquals(expectedLastIndexOf(elements, (byte) value), array.lastIndexOf(value),
+										"Invalid last index of the value " + value);
+			}
+		}
+	}
+	
+	@Test
+	public void sliceIndexOfTest() {
+		UByteArray array = UArrays.ofByte("a,b;c\nd,e;f\ng,h".getBytes(StandardCharsets.US_ASCII));
+		UByteArray slice = array.slice(2, 13);
+		
+		Assertions.assertEquals(1, slice.indexOf(';'), "Invalid index in the slice");
+		Assertions.assertEquals(7, slice.lastIndexOf(';'), "Invalid last index in the slice");
+		Assertions.assertEquals(-1, slice.indexOf('h'), "The value is outside the slice");
+		Assertions.assertEquals(-1, slice.lastIndexOf('a'), "The value is outside the slice");
+	}
+	
+	@Test
+	public void indexOfAnyTest() {
+		UByteArray array = UArrays.ofByte("GET /index.html HTTP/1.1\r\nHost: local\r\n".getBytes(StandardCharsets.US_ASCII));
+		
+		Assertions.assertEquals(3, array.indexOfAny((byte) ' ', (byte) '\r'), "Invalid index of the delimiters");
+		Assertions.assertEquals(24, array.indexOfAny((byte) '\r', (byte) '\n'), "Invalid index of the line end");
+		Assertions.assertEquals(4, array.indexOfAny((byte) '/', (byte) '.', (byte) ':', (byte) '?', (byte) '#', (byte) '&'),
+								"Invalid index with the table of values");
+		Assertions.assertEquals(-1, array.indexOfAny((byte) '{', (byte) '}'), "The values must not be found");
+		Assertions.assertEquals(-1, array.indexOfAny(), "No values must never be found");
+		
+		UByteArray slice = array.slice(26, array.size());
+		Assertions.assertEquals(4, slice.indexOfAny((byte) ':', (byte) '\r'), "Invalid index in the slice");
+	}
+	
+	@Test
+	public void indexOfSequenceTest() {
+		UByteArray array = UArrays.ofByte("--boundary\r\nfirst\r\n--boundary\r\nsecond\r\n--boundary--".getBytes(StandardCharsets.US_ASCII));
+		byte[] delimiter = "\r\n--boundary".getBytes(StandardCharsets.US_ASCII);
+		
+		Assertions.assertEquals(17, array.indexOf(delimiter), "Invalid index of the sequence");
+		Assertions.assertEquals(0, array.indexOf(new byte[0]), "An empty sequence must be found at the start");
+		Assertions.assertEquals(-1, array.indexOf("boundary!".getBytes(StandardCharsets.US_ASCII)),
+								"The sequence must not be found");
+		
+		UByteArray slice = array.slice(18, array.size());
+		Assertions.assertEquals(19, slice.indexOf(delimiter), "Invalid index in the slice");
+		Assertions.assertEquals(-1, slice.slice(0, 30).indexOf(delimiter),
+								"A sequence crossing the end of the slice must not be found");
+	}
+	
+	/* -----------------------------------------------------
+	 * Internal methods
+	 * ----------------------------------------------------- */
+	
+	private static int expectedIndexOf(byte[] elements, byte value) {
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i] == value) return i;
+		}
+		return -1;
+	}
+	
+	private static int expectedLastIndexOf(byte[] elements, byte value) {
+		for (int i = elements.length - 1; i >= 0; i--) {
+			if (elements[i] == value) return i;
+		}
+		return -1;
+	}
+	
+}
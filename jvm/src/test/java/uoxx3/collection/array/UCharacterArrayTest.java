@@ -0,0 +1,49 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.nio.CharBuffer;
+
+class UCharacterArrayTest {
+	
+	@Test
+	public void appendTest() {
+		UCharacterArray text = UArrays.ofChar();
+		text.append("level=")
+			.append(new StringBuilder("INFO"))
+			.append(' ')
+			.append(CharBuffer.wrap("message=started"), 8, 15)
+			.append(null);
+		
+		Assertions.assertEquals("level=INFO startednull", text.asString(), "Invalid appended text");
+		Assertions.assertEquals(text.asString(), text.toString(), "The string must be the text of the array");
+		Assertions.assertEquals(22, text.length(), "Invalid length of the text");
+		
+		// The array can be appended to itself
+		text.append(text, 0, 5);
+		Assertions.assertEquals("level=INFO startednulllevel", text.toString(), "Invalid text appended from itself");
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> text.append("abc", 2, 4),
+								"The range must be part of the sequence");
+	}
+	
+	@Test
+	public void charSequenceTest() {
+		UCharacterArray text = UArrays.ofChar("key: value".toCharArray());
+		
+		Assertions.assertEquals('v', text.charAt(5), "Invalid character");
+		Assertions.assertEquals("value", text.subSequence(5, 10).toString(), "Invalid subsequence");
+		Assertions.assertEquals("key: value".chars().sum(), text.chars().sum(), "Invalid characters stream");
+		Assertions.assertTrue("key: value".contentEquals(text), "The text must be equal to the string");
+		
+		// A reused buffer keeps its storage after the text is removed
+		int capacity = text.capacity();
+		text.removeRange(0, text.length());
+		Assertions.assertTrue(text.isEmpty(), "The text must be empty");
+		text.append("next");
+		Assertions.assertEquals(capacity, text.capacity(), "The storage must be reused");
+		Assertions.assertEquals("next", text.asString(), "Invalid text after the reuse");
+	}
+	
+}
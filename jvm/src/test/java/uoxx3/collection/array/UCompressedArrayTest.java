@@ -0,0 +1,79 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.Random;
+import java.util.stream.LongStream;
+
+class UCompressedArrayTest {
+	
+	@Test
+	public void sortedIdentifiersTest() {
+		Random random = new Random(42);
+		long[] identifiers = new long[100_000];
+		
+		// Sorted identifiers with small gaps between them
+		identifiers[0] = 1_000_000_000L;
+		for (int i = 1; i < identifiers.length; i++) {
+			identifiers[i] = identifiers[i - 1] + 1 + random.nextInt(1_000);
+		}
+		
+		UCompressedLongArray array = UArrays.compressedOfLong(UArrays.ofLong(identifiers));
+		Assertions.assertTrue(array.compressedBytes() * 3 < identifiers.length * Long.BYTES,
+							  "The array must use less memory than the plain array");
+		Assertions.assertArrayEquals(identifiers, array.getArray(),
+									 "Invalid decoded elements");
+		Assertions.assertArrayEquals(identifiers, array.stream().toArray(),
+									 "Invalid stream elements");
+		
+		for (int i = 0; i < 1_000; i++) {
+			int index = random.nextInt(identifiers.length);
+			Assertions.assertEquals(identifiers[index], array.get(index),
+									"Invalid element at index " + index);
+		}
+	}
+	
+	@Test
+	public void mixedBlocksTest() {
+		Random random = new Random(7);
+		int[] values = new int[1_000];
+		
+		// Random values, negative steps and a constant run
+		for (int i = 0; i < values.length; i++) {
+			if (i < 300) values[i] = random.nextInt();
+			else if (i < 600) values[i] = 500 - i * 3;
+			else values[i] = 9;
+		}
+		values[999] = Integer.MIN_VALUE;
+		
+		UCompressedIntegerArray array = UArrays.compressedOfInt(UArrays.ofInt(values));
+		for (int i = 0; i < values.length; i++) {
+			Assertions.assertEquals(values[i], array.get(i),
+									"Invalid element at index " + i);
+		}
+		Assertions.assertEquals(600, array.indexOf(9),
+								"Invalid element index");
+		Assertions.assertEquals(998, array.lastIndexOf(9),
+								"Invalid last element index");
+		Assertions.assertArrayEquals(new int[]{9, 9, Integer.MIN_VALUE}, array.slice(997, 1_000).getArray(),
+									 "Invalid slice elements");
+		Assertions.assertThrows(UnsupportedOperationException.class,
+								() -> array.add(1));
+	}
+	
+	@Test
+	public void extremeValuesTest() {
+		long[] values = LongStream.of(Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, Long.MAX_VALUE).toArray();
+		ULongArray array = UArrays.compressedOfLong(UArrays.ofLong(values));
+		
+		Assertions.assertArrayEquals(values, array.getArray(),
+									 "Invalid decoded elements");
+		Assertions.assertEquals(4, array.lastIndexOf(Long.MAX_VALUE),
+								"Invalid last element index");
+		Assertions.assertTrue(UArrays.compressedOfLong(UArrays.ofLong()).isEmpty(),
+							  "The array must be empty");
+	}
+	
+}
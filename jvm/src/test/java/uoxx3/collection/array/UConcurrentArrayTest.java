@@ -0,0 +1,113 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+class UConcurrentArrayTest {
+	
+	@Test
+	public void concurrentAddTest() throws InterruptedException {
+		UConcurrentArray<Integer> array = UArrays.concurrentOf(Integer.class);
+		List<Thread> threads = new ArrayList<>();
+		int elements = 1_000;
+		
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < elements; i++) {
+					array.add(i);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		
+		Assertions.assertEquals(4 * elements, array.size(),
+								"Invalid array size");
+	}
+	
+	@Test
+	public void snapshotTest() throws InterruptedException {
+		UConcurrentIntegerArray array = UArrays.concurrentOfInt();
+		AtomicBoolean consistent = new AtomicBoolean(true);
+		
+		// Every snapshot must contain pairs of equal elements
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 1_000; i++) {
+				int value = i;
+				array.update(working -> {
+					working.add(value);
+					working.add(value);
+				});
+			}
+		});
+		Thread reader = new Thread(() -> {
+			while (writer.isAlive()) {
+				int[] snapshot = array.getArray();
+				if (snapshot.length % 2 != 0) consistent.set(false);
+				for (int i = 0; i + 1 < snapshot.length; i += 2) {
+					if (snapshot[i] != snapshot[i + 1]) consistent.set(false);
+				}
+			}
+		});
+		
+		writer.start();
+		reader.start();
+		writer.join();
+		reader.join();
+		
+		Assertions.assertTrue(consistent.get(),
+							  "The readers cannot see a partial update");
+		Assertions.assertEquals(2_000, array.size(),
+								"Invalid array size");
+	}
+	
+	@Test
+	public void iteratorTest() {
+		UConcurrentArray<String> array = UArrays.concurrentOf("a", "b", "c");
+		int count = 0;
+		
+		// The iterator traverses the snapshot taken when it was created
+		for (String ignored : array) {
+			array.add("d");
+			count++;
+		}
+		
+		Assertions.assertEquals(3, count,
+								"Invalid iterated elements");
+		Assertions.assertEquals(6, array.size(),
+								"Invalid array size");
+	}
+	
+	@Test
+	public void writeTest() {
+		UConcurrentIntegerArray array = UArrays.concurrentOfInt(IntStream.range(0, 10).toArray());
+		
+		Assertions.assertTrue(array.removeIf(i -> i % 2 != 0),
+							  "The array must be modified");
+		array.insert(0, -1);
+		array.removeRange(1, 2);
+		Assertions.assertEquals(8, array.removeAt(4),
+								"Invalid removed element");
+		Assertions.assertArrayEquals(new int[]{-1, 2, 4, 6}, array.getArray(),
+									 "Invalid array elements");
+		
+		UIntegerArray copy = array.copy();
+		array.add(10);
+		Assertions.assertEquals(4, copy.size(),
+								"The copy cannot be modified by the original array");
+		
+		array.prefixSum();
+		Assertions.assertArrayEquals(new int[]{-1, 1, 5, 11, 21}, array.getArray(),
+									 "Invalid prefix sum");
+	}
+	
+}
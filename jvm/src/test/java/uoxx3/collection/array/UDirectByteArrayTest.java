@@ -0,0 +1,99 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.nio.ByteBuffer;
+
+class UDirectByteArrayTest {
+	
+	@Test
+	public void addTest() {
+		try (UDirectByteArray array = UArrays.directOfByte(0, UGrowthPolicy.defaultPolicy())) {
+			for (int i = 0; i < 1_000; i++) {
+				array.add(i % 100);
+			}
+			array.addAll(new byte[]{-1, -2, -3});
+			
+			Assertions.assertEquals(1_003, array.size(),
+									"Invalid array size");
+			Assertions.assertEquals(99, array.get(999),
+									"Invalid array element");
+			Assertions.assertEquals(1_000, array.indexOf(-1),
+									"Invalid element index");
+			Assertions.assertEquals(999, array.lastIndexOf(99),
+									"Invalid element index");
+			Assertions.assertEquals(49_500 - 6, array.stream().sum(),
+									"Invalid stream elements");
+		}
+	}
+	
+	@Test
+	public void insertTest() {
+		try (UDirectByteArray array = UArrays.directOfByte((byte) 1, (byte) 2, (byte) 3, (byte) 4)) {
+			array.insert(0, 0);
+			array.insertAll(3, (byte) 10, (byte) 20);
+			Assertions.assertArrayEquals(new byte[]{0, 1, 2, 10, 20, 3, 4}, array.getArray(),
+										 "Invalid array elements");
+			
+			Assertions.assertEquals(10, array.removeAt(3),
+									"Invalid removed element");
+			array.removeRange(0, 2);
+			Assertions.assertTrue(array.removeIf(value -> value == 3),
+								  "The array must be modified");
+			Assertions.assertArrayEquals(new byte[]{2, 20, 4}, array.getArray(),
+										 "Invalid array elements");
+		}
+	}
+	
+	@Test
+	public void growTest() {
+		try (UDirectByteArray array = UArrays.directOfByte((byte) 1, (byte) 2, (byte) 3, (byte) 4)) {
+			UDirectByteArray slice = array.slice(1, 3);
+			ByteBuffer buffer = array.asByteBuffer();
+			
+			// The storage referenced by the view and the buffer is kept after the array grows
+			for (int i = 0; i < 1_000; i++) {
+				array.add(i % 100);
+			}
+			Assertions.assertEquals(2, slice.get(0),
+									"Invalid view element");
+			Assertions.assertEquals(4, buffer.get(3),
+									"Invalid buffer element");
+			
+			array.trimToSize();
+			Assertions.assertEquals(1_004, array.capacity(),
+									"Invalid array capacity");
+			Assertions.assertEquals(99, array.get(1_003),
+									"Invalid array element");
+		}
+	}
+	
+	@Test
+	public void bufferTest() {
+		UDirectByteArray array = UArrays.directOfByte((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+		UDirectByteArray slice = array.slice(1, 3);
+		
+		try (array) {
+			ByteBuffer buffer = slice.asByteBuffer();
+			
+			Assertions.assertTrue(buffer.isDirect(),
+								  "The buffer must be direct");
+			Assertions.assertTrue(buffer.isReadOnly(),
+								  "The buffer must be read-only");
+			Assertions.assertEquals(2, buffer.remaining(),
+									"Invalid buffer size");
+			Assertions.assertEquals(2, buffer.get(0),
+									"Invalid buffer element");
+		}
+		
+		Assertions.assertTrue(slice.isClosed(),
+							  "The view must be closed with its array");
+		Assertions.assertThrows(IllegalStateException.class,
+								() -> slice.get(0));
+		Assertions.assertThrows(IllegalStateException.class,
+								() -> array.add(1));
+	}
+	
+}
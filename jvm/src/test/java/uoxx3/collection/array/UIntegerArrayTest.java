@@ -0,0 +1,276 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.stream.IntStream;
+
+class UIntegerArrayTest {
+	
+	UIntegerArray sharedArray = UArrays.ofInt(
+		1, 2, 3, 4, 5
+	);
+	
+	@Test
+	public void addTest() {
+		int element = 6;
+		
+		sharedArray.add(element);
+		int last = sharedArray.get(sharedArray.size() - 1);
+		
+		Assertions.assertEquals(element, last,
+								"The element is not equals");
+		Assertions.assertEquals(6, sharedArray.size(),
+								"Invalid array size");
+		
+		System.out.println(sharedArray);
+	}
+	
+	@Test
+	public void addAllSourcesTest() {
+		UIntegerArray array = UArrays.ofInt();
+		
+		// A sized stream reserves the exact storage
+		array.addAll(IntStream.range(0, 100));
+		Assertions.assertEquals(100, array.capacity(),
+								"Invalid array capacity");
+		
+		array.addAll(IntStream.range(0, 100).filter(i -> i % 2 == 0));
+		array.addAll(sharedArray);
+		Assertions.assertEquals(155, array.size(),
+								"Invalid array size");
+		
+		// The array can be appended to itself
+		array.addAll(array);
+		Assertions.assertEquals(310, array.size(),
+								"Invalid array size");
+		Assertions.assertEquals(5, array.get(309),
+								"Invalid last element");
+	}
+	
+	@Test
+	public void initialCapacityTest() {
+		UIntegerArray array = UArrays.ofInt(64, UGrowthPolicy.defaultPolicy());
+		
+		Assertions.assertEquals(64, array.capacity(),
+								"Invalid array capacity");
+		Assertions.assertTrue(array.isEmpty(),
+							  "The array must be empty");
+		Assertions.assertThrows(IllegalArgumentException.class,
+								() -> UArrays.ofInt(-1, UGrowthPolicy.defaultPolicy()));
+	}
+	
+	@Test
+	public void growthPolicyTest() {
+		UGrowthPolicy[] policies = {
+			UGrowthPolicy.doubling(),
+			UGrowthPolicy.oneAndHalf(),
+			UGrowthPolicy.fixedChunk(100),
+			UGrowthPolicy.capped(1024)
+		};
+		int elements = 10_000;
+		
+		for (UGrowthPolicy policy : policies) {
+			UIntegerArray array = UArrays.ofInt(0, policy);
+			for (int i = 0; i < elements; i++) {
+				array.add(i);
+			}
+			
+			Assertions.assertEquals(elements, array.size(),
+									"Invalid array size");
+			Assertions.assertTrue(array.capacity() >= array.size(),
+								  "The capacity cannot be less than the size");
+			Assertions.assertEquals(elements - 1, array.get(elements - 1),
+									"Invalid last element");
+			Assertions.assertEquals(elements, array.getArray().length,
+									"The native array must not contain unused capacity");
+		}
+		
+		// The suggested capacity of large arrays must not overflow
+		for (UGrowthPolicy policy : policies) {
+			Assertions.assertTrue(policy.grow(Integer.MAX_VALUE - 8, Integer.MAX_VALUE - 7, Integer.BYTES) > 0,
+								  "The policy capacity overflowed");
+		}
+	}
+	
+	@Test
+	public void fixedChunkPolicyTest() {
+		UIntegerArray array = UArrays.ofInt(0, UGrowthPolicy.fixedChunk(10));
+		array.add(1);
+		
+		Assertions.assertEquals(10, array.capacity(),
+								"Invalid array capacity");
+		
+		// A policy smaller than the requested capacity is ignored
+		array.addAll(new int[25]);
+		Assertions.assertEquals(26, array.capacity(),
+								"Invalid array capacity");
+	}
+	
+	@Test
+	public void insertTest() {
+		sharedArray.insert(0, 0);
+		sharedArray.insertAll(3, 10, 20);
+		
+		Assertions.assertArrayEquals(new int[]{0, 1, 2, 10, 20, 3, 4, 5}, sharedArray.getArray(),
+									 "Invalid array elements");
+	}
+	
+	@Test
+	public void removeTest() {
+		Assertions.assertEquals(3, sharedArray.removeAt(2),
+								"Invalid removed element");
+		
+		sharedArray.removeRange(0, 1);
+		Assertions.assertArrayEquals(new int[]{2, 4, 5}, sharedArray.getArray(),
+									 "Invalid array elements");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> sharedArray.removeAt(3));
+	}
+	
+	@Test
+	public void removeIfTest() {
+		UIntegerArray array = UArrays.ofInt();
+		array.addAll(IntStream.range(0, 1_000));
+		
+		Assertions.assertTrue(array.removeIf(i -> i % 2 != 0),
+							  "The array must be modified");
+		Assertions.assertEquals(500, array.size(),
+								"Invalid array size");
+		
+		Assertions.assertTrue(array.retainAll(UArrays.ofInt(998, 4, 7, 0)),
+							  "The array must be modified");
+		Assertions.assertArrayEquals(new int[]{0, 4, 998}, array.getArray(),
+									 "Invalid array elements");
+	}
+	
+	@Test
+	public void sliceTest() {
+		UIntegerArray slice = sharedArray.slice(1, 4);
+		
+		Assertions.assertEquals(3, slice.size(),
+								"Invalid slice size");
+		Assertions.assertEquals(2, slice.get(0),
+								"Invalid slice element");
+		Assertions.assertEquals(2, slice.indexOf(4),
+								"Invalid slice index");
+		Assertions.assertEquals(9, slice.stream().sum(),
+								"Invalid slice stream");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> slice.get(3));
+		
+		slice.compact();
+		Assertions.assertArrayEquals(new int[]{2, 3, 4}, slice.getArray(),
+									 "Invalid compacted slice");
+		
+		UIntegerArray array = UArrays.ofInt();
+		array.addAll(sharedArray.slice(3, 5));
+		Assertions.assertArrayEquals(new int[]{4, 5}, array.getArray(),
+									 "Invalid copied slice");
+	}
+	
+	@Test
+	public void copyTest() {
+		sharedArray.ensureCapacity(100);
+		UIntegerArray copy = sharedArray.copy();
+		
+		Assertions.assertArrayEquals(sharedArray.getArray(), copy.getArray(),
+									 "The copy must contain the same elements");
+		
+		copy.add(6);
+		Assertions.assertEquals(5, sharedArray.size(),
+								"The copy cannot modify the original array");
+	}
+	
+	@Test
+	public void searchTest() {
+		// The sizes cover whole blocks of the search and the elements left after them
+		for (int size = 0; size <= 11; size++) {
+			UIntegerArray array = UArrays.ofInt(IntStream.iterate(size, i -> i - 1).limit(size).toArray());
+			for (int value = 1; value <= size; value++) {
+				Assertions.assertEquals(size - value, array.indexOf(value),
+										"Invalid index of the value " + value);
+				Assertions.assertEquals(size - value, array.lastIndexOf(value),
+										"Invalid last index of the value " + value);
+			}
+			Assertions.assertFalse(array.contains(0), "The value must not be found");
+		}
+		
+		UIntegerArray array = UArrays.ofInt(7, 1, 7, 2, 7, 3, 7, 4, 7);
+		Assertions.assertEquals(5, array.count(7), "Invalid count of the value");
+		Assertions.assertEquals(0, array.count(5), "The value must not be counted");
+		
+		UIntegerArray slice = array.slice(1, 8);
+		Assertions.assertEquals(1, slice.indexOf(7), "Invalid index in the slice");
+		Assertions.assertEquals(5, slice.lastIndexOf(7), "Invalid last index in the slice");
+		Assertions.assertEquals(3, slice.count(7), "Invalid count in the slice");
+		
+		array.sort();
+		Assertions.assertEquals(5, array.count(7), "Invalid count of the sorted array");
+	}
+	
+	@Test
+	public void sortTest() {
+		UIntegerArray array = UArrays.ofInt(5, 3, 9, 3, 1, 7, 3);
+		Assertions.assertFalse(array.isSorted(), "A new array is not known to be sorted");
+		
+		array.sort();
+		Assertions.assertTrue(array.isSorted(), "The array must be sorted");
+		Assertions.assertArrayEquals(new int[]{1, 3, 3, 3, 5, 7, 9}, array.stream().toArray(),
+									 "Invalid sorted elements");
+		Assertions.assertEquals(1, array.indexOf(3), "Invalid first index of a repeated value");
+		Assertions.assertEquals(3, array.lastIndexOf(3), "Invalid last index of a repeated value");
+		Assertions.assertFalse(array.contains(4), "The value must not be found");
+		Assertions.assertEquals(-5, array.binarySearch(4), "Invalid insertion point");
+		
+		// Ordered appends and removals keep the state
+		array.add(10);
+		array.removeAt(0);
+		Assertions.assertTrue(array.isSorted(), "The array must stay sorted");
+		Assertions.assertEquals(5, array.indexOf(9), "Invalid index after the modifications");
+		
+		array.add(0);
+		Assertions.assertFalse(array.isSorted(), "An unordered append must clear the state");
+		Assertions.assertEquals(7, array.indexOf(0), "Invalid index of the unordered element");
+	}
+	
+	@Test
+	public void readOnlyArgumentTest() {
+		UIntegerArray source = UArrays.ofInt(100, UGrowthPolicy.defaultPolicy());
+		source.addAll(1, 2, 3);
+		source.sort();
+		
+		// Reading an array as an argument must not detach, trim or unsort it
+		UAppendOnlyIntegerArray target = UArrays.appendOnlyOfInt();
+		target.addAll(source);
+		Assertions.assertArrayEquals(new int[]{1, 2, 3}, target.getArray(), "Invalid added elements");
+		Assertions.assertTrue(source.isSorted(), "The argument must stay sorted");
+		Assertions.assertEquals(100, source.capacity(), "The argument must keep its capacity");
+		
+		int[] copy = source.toArray();
+		copy[0] = 9;
+		Assertions.assertEquals(1, source.get(0), "The copy cannot share the storage");
+	}
+	
+	@Test
+	public void sortedSliceTest() {
+		UIntegerArray array = UArrays.ofInt();
+		for (int i = 0; i < 10_000; i++) {
+			array.add(i * 2);
+		}
+		Assertions.assertTrue(array.isSorted(), "Ordered appends must keep the array sorted");
+		
+		UIntegerArray slice = array.slice(100, 200);
+		Assertions.assertTrue(slice.isSorted(), "The slice of a sorted array must be sorted");
+		Assertions.assertEquals(50, slice.indexOf(300), "Invalid index in the slice");
+		Assertions.assertEquals(-1, slice.indexOf(100), "The value is outside the slice");
+		Assertions.assertEquals(-101, slice.binarySearch(1_000), "Invalid insertion point in the slice");
+		
+		slice.insert(0, 1_000_000);
+		slice.parallelSort();
+		Assertions.assertEquals(1_000_000, slice.get(100), "Invalid parallel sort result");
+		Assertions.assertEquals(200, array.get(100), "Sorting the slice must not modify the array");
+	}
+	
+}
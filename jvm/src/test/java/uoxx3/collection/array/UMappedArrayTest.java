@@ -0,0 +1,168 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uoxx3.collection.UArrays;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class UMappedArrayTest {
+	
+	@TempDir
+	Path directory;
+	
+	@Test
+	public void writeAndReadTest() throws IOException {
+		Path file = directory.resolve("ids.bin");
+		
+		try (UMappedLongArray array = UArrays.mappedOfLong(file, false)) {
+			array.addAll(LongStream.range(0, 10_000));
+			array.add(-1);
+			Assertions.assertTrue(array.capacity() >= array.size(),
+								  "The capacity cannot be less than the size");
+		}
+		// The unused capacity is removed when the array is closed
+		Assertions.assertEquals(10_001L * Long.BYTES, Files.size(file),
+								"Invalid file size");
+		
+		try (UMappedLongArray array = UArrays.mappedOfLong(file, true)) {
+			Assertions.assertEquals(10_001, array.size(),
+									"Invalid array size");
+			Assertions.assertEquals(9_999, array.get(9_999),
+									"Invalid array element");
+			Assertions.assertEquals(10_000, array.indexOf(-1),
+									"Invalid element index");
+			Assertions.assertEquals(49_995_000 - 1, array.stream().sum(),
+									"Invalid stream elements");
+			Assertions.assertArrayEquals(new long[]{10, 11, 12}, array.slice(10, 13).getArray(),
+										 "Invalid slice elements");
+			Assertions.assertThrows(UnsupportedOperationException.class,
+									() -> array.add(1));
+			Assertions.assertThrows(UnsupportedOperationException.class,
+									array::sort);
+			Assertions.assertThrows(UnsupportedOperationException.class,
+									array::prefixSum);
+		}
+	}
+	
+	@Test
+	public void modifyTest() {
+		Path file = directory.resolve("offsets.bin");
+		
+		UMappedIntegerArray array = UArrays.mappedOfInt(file, false);
+		
+		try (array) {
+			array.addAll(1, 2, 3, 4, 5);
+			array.insert(0, 0);
+			array.insertAll(3, 10, 20);
+			Assertions.assertEquals(10, array.removeAt(3),
+									"Invalid removed element");
+			array.removeRange(0, 1);
+			Assertions.assertTrue(array.removeIf(value -> value % 2 != 0),
+								  "The array must be modified");
+			Assertions.assertArrayEquals(new int[]{2, 20, 4}, array.getArray(),
+										 "Invalid array elements");
+			
+			array.sort();
+			Assertions.assertArrayEquals(new int[]{2, 4, 20}, array.getArray(),
+										 "Invalid sorted elements");
+		}
+		
+		Assertions.assertThrows(IllegalStateException.class,
+								() -> array.get(0));
+	}
+	
+	@Test
+	public void forceTest() throws IOException {
+		Path file = directory.resolve("forced.bin");
+		
+		try (UMappedLongArray array = UArrays.mappedOfLong(file, false)) {
+			array.addAll(LongStream.range(0, 11));
+			array.force();
+			Assertions.assertEquals(11L * Long.BYTES, Files.size(file),
+									"The unused capacity must not be written");
+			
+			// The file is opened again before the array is closed
+			try (UMappedLongArray copy = UArrays.mappedOfLong(file, true)) {
+				Assertions.assertArrayEquals(LongStream.range(0, 11).toArray(), copy.getArray(),
+											 "Invalid forced elements");
+			}
+			
+			array.add(11);
+			Assertions.assertEquals(11, array.get(11),
+									"Invalid element after force");
+		}
+		Assertions.assertEquals(12L * Long.BYTES, Files.size(file),
+								"Invalid file size");
+	}
+	
+	@Test
+	public void scanTest() {
+		Path file = directory.resolve("sums.bin");
+		int size = 200_000;
+		
+		try (UMappedIntegerArray array = UArrays.mappedOfInt(file, false)) {
+			array.addAll(IntStream.range(0, size).map(i -> i % 7));
+			int[] expected = array.getArray();
+			Arrays.parallelPrefix(expected, Integer::sum);
+			
+			// Large arrays are scanned in place with the two-pass algorithm
+			array.prefixSum();
+			Assertions.assertArrayEquals(expected, array.getArray(),
+										 "Invalid prefix sum");
+			
+			UIntegerArray slice = array.slice(0, 3);
+			Assertions.assertThrows(UnsupportedOperationException.class,
+									() -> slice.scan(Integer::sum));
+		}
+		
+		try (UMappedDoubleArray array = UArrays.mappedOfDouble(directory.resolve("running.bin"), false)) {
+			array.addAll(3, 1, 4, 1, 5);
+			array.scan(Math::max);
+			Assertions.assertArrayEquals(new double[]{3, 3, 4, 4, 5}, array.getArray(),
+										 "Invalid running maximum");
+			
+			PrimitiveIterator.OfDouble iterator = array.slice(1, 3).iterator();
+			Assertions.assertEquals(3, iterator.nextDouble(),
+									"Invalid first element");
+			Assertions.assertEquals(4, iterator.nextDouble(),
+									"Invalid last element");
+			Assertions.assertFalse(iterator.hasNext(),
+								   "The iterator must be consumed");
+		}
+	}
+	
+	@Test
+	public void multipleRegionsTest() throws IOException {
+		Path file = directory.resolve("large.bin");
+		long regionSize = 1L << 30;
+		
+		// A sparse file that crosses the limit of a single mapped region
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(regionSize + 2 * Double.BYTES);
+			raf.seek(regionSize - Double.BYTES);
+			raf.writeDouble(1.5);
+			raf.writeDouble(2.5);
+		}
+		
+		try (UMappedDoubleArray array = UArrays.mappedOfDouble(file, true)) {
+			int last = (int) (regionSize / Double.BYTES);
+			
+			Assertions.assertEquals(last + 2, array.size(),
+									"Invalid array size");
+			Assertions.assertEquals(1.5, array.get(last - 1),
+									"Invalid element at the end of the first region");
+			Assertions.assertEquals(2.5, array.get(last),
+									"Invalid element at the start of the second region");
+		}
+	}
+	
+}
@@ -0,0 +1,87 @@
+package uoxx3.collection.array;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class UPersistentArrayTest {
+	
+	UPersistentArray<String> sharedArray = UArrays.persistentOf(
+		"Hello", ", ", "World", "!"
+	);
+	
+	@Test
+	public void addTest() {
+		UPersistentArray<String> next = sharedArray.add("extra");
+		
+		Assertions.assertEquals(4, sharedArray.size(),
+								"The previous version cannot be modified");
+		Assertions.assertEquals(5, next.size(),
+								"Invalid array size");
+		Assertions.assertEquals("extra", next.get(4),
+								"Invalid last element");
+		
+		System.out.println(next);
+	}
+	
+	@Test
+	public void largeArrayTest() {
+		int elements = 100_000;
+		UPersistentArray<Integer> array = UArrays.persistentOf(Integer.class);
+		for (int i = 0; i < elements; i++) {
+			array = array.add(i);
+		}
+		
+		UPersistentArray<Integer> bulk = UArrays.persistentOf(Integer.class)
+			.addAll(IntStream.range(0, elements).boxed().toArray(Integer[]::new));
+		
+		for (int i = 0; i < elements; i += 997) {
+			Assertions.assertEquals(i, array.get(i),
+									"Invalid element");
+			Assertions.assertEquals(i, bulk.get(i),
+									"Invalid bulk element");
+		}
+		Assertions.assertEquals(elements - 1, array.indexOf(elements - 1),
+								"Invalid index");
+		Assertions.assertEquals((long) elements * (elements - 1) / 2,
+								bulk.stream().mapToLong(Integer::longValue).sum(),
+								"Invalid stream elements");
+	}
+	
+	@Test
+	public void setTest() {
+		UPersistentArray<Integer> array = UArrays.persistentOf(Integer.class)
+			.addAll(IntStream.range(0, 1_000).boxed().toArray(Integer[]::new));
+		UPersistentArray<Integer> next = array.set(500, -1);
+		
+		Assertions.assertEquals(500, array.get(500),
+								"The previous version cannot be modified");
+		Assertions.assertEquals(-1, next.get(500),
+								"Invalid modified element");
+		Assertions.assertEquals(500, next.lastIndexOf(-1),
+								"Invalid modified index");
+		Assertions.assertThrows(IndexOutOfBoundsException.class,
+								() -> array.set(1_000, 0));
+	}
+	
+	@Test
+	public void sliceTest() {
+		UPersistentArray<String> slice = sharedArray.slice(1, 3);
+		
+		Assertions.assertEquals(List.of(", ", "World"), slice.toList(),
+								"Invalid slice elements");
+		
+		// Adding to a slice never modifies the original array
+		UPersistentArray<String> next = slice.add("?");
+		Assertions.assertEquals(List.of(", ", "World", "?"), next.toList(),
+								"Invalid slice elements");
+		Assertions.assertEquals("!", sharedArray.get(3),
+								"The slice cannot modify the original array");
+		Assertions.assertArrayEquals(new String[]{", ", "World", "?"}, next.toMutableArray().getArray(),
+									 "Invalid mutable array");
+	}
+	
+}
@@ -0,0 +1,80 @@
+package uoxx3.collection.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.internal.collection.UCompactMapImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class UMapTest {
+	
+	@Test
+	public void compactMapTest() {
+		Map<String, Integer> expected = new HashMap<>();
+		List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			expected.put("key" + (i % 700), i);
+			entries.add(UMap.entry("key" + (i % 700), i));
+		}
+		
+		Map<String, Integer> map = UMap.make(entries.iterator());
+		Assertions.assertEquals(expected, map,
+								"The compact map must have the same entries");
+		Assertions.assertEquals(expected.hashCode(), map.hashCode(),
+								"Invalid map hash code");
+		Assertions.assertEquals(999, map.get("key299"),
+								"A repeated key must keep the last value");
+		Assertions.assertNull(map.get("missing"),
+							  "A missing key must not have a value");
+		Assertions.assertEquals("key0", map.keySet().iterator().next(),
+								"The entries must keep the insertion order");
+		Assertions.assertSame(map, UMap.make(map),
+							  "An immutable map must not be copied");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new UCompactMapImpl<>(-1, entries.iterator()),
+								"The expected size cannot be negative");
+	}
+	
+	@Test
+	public void smallCompactMapTest() {
+		Map<String, String> map = UMap.make(
+			UMap.entry("a", "1"),
+			UMap.entry(null, "null key"),
+			UMap.entry("b", null)
+		);
+		Assertions.assertEquals(3, map.size(), "Invalid map size");
+		Assertions.assertEquals("null key", map.get(null), "Invalid value of the null key");
+		Assertions.assertTrue(map.containsKey("b"), "The key with a null value must be present");
+		Assertions.assertNull(map.getOrDefault("b", "default"), "A null value is not a missing key");
+		Assertions.assertEquals("default", map.getOrDefault("c", "default"), "Invalid default value");
+		Assertions.assertTrue(map.containsValue("1"), "Invalid containsValue result");
+		
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> map.put("c", "3"),
+								"The map must be immutable");
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> map.remove("a"),
+								"The map must be immutable");
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue("2"),
+								"The entries must be immutable");
+	}
+	
+	@Test
+	public void keysAndValuesTest() {
+		String[] keys = {"c", "a", "b"};
+		Integer[] values = {3, 1, 2};
+		
+		Assertions.assertEquals(UMap.make(keys, values), UMap.makeMutable(keys, values),
+								"The immutable and the mutable maps must be equal");
+		Assertions.assertEquals("[a, b, c]", UMap.makeTree(keys, values).keySet().toString(),
+								"The tree map must sort the keys");
+		Assertions.assertEquals("[c, b, a]", UMap.makeTree(Comparator.reverseOrder(), keys, values).keySet().toString(),
+								"The tree map must use the comparator");
+		Assertions.assertEquals("[c, a, b]", UMap.makeLinked(keys, values).keySet().toString(),
+								"The linked map must keep the insertion order");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> UMap.make(keys, new Integer[2]),
+								"The arrays must have the same length");
+	}
+	
+}
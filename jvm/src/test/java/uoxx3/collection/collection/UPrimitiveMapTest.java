@@ -0,0 +1,129 @@
+package uoxx3.collection.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+class UPrimitiveMapTest {
+	
+	@Test
+	public void intIntMapTest() {
+		Random random = new Random(17);
+		Map<Integer, Integer> expected = new HashMap<>();
+		UIntIntMap map = UMap.makeIntInt(0, 0.5f);
+		
+		// Small range of keys, so the removals and the insertions collide often
+		for (int i = 0; i < 100_000; i++) {
+			int key = random.nextInt(2_000) - 1_000;
+			int value = random.nextInt();
+			switch (random.nextInt(4)) {
+				case 0:
+					Assertions.assertEquals(expected.remove(key) != null, map.remove(key),
+											"Invalid remove result for " + key);
+					break;
+				case 1:
+					Assertions.assertEquals(expected.merge(key, value, Integer::sum), map.addTo(key, value),
+											"Invalid addTo result for " + key);
+					break;
+				default:
+					Assertions.assertEquals(expected.put(key, value) == null, map.put(key, value),
+											"Invalid put result for " + key);
+			}
+		}
+		
+		Assertions.assertEquals(expected.size(), map.size(),
+								"Invalid map size");
+		for (int key = -1_000; key < 1_000; key++) {
+			Assertions.assertEquals(expected.containsKey(key), map.containsKey(key),
+									"Invalid containsKey result for " + key);
+			Assertions.assertEquals(expected.getOrDefault(key, -1), map.getOrDefault(key, -1),
+									"Invalid value for " + key);
+		}
+		
+		int[] keys = map.keys();
+		int[] values = map.values();
+		for (int i = 0; i < keys.length; i++) {
+			Assertions.assertEquals(expected.get(keys[i]), values[i],
+									"Keys and values are not parallel at " + i);
+		}
+		Assertions.assertEquals(expected.hashCode(), map.hashCode(),
+								"Invalid map hash code");
+		Assertions.assertEquals(map, map.copy(),
+								"The copy must be equal to the map");
+	}
+	
+	@Test
+	public void computeIfAbsentTest() {
+		UIntIntMap map = UMap.makeIntInt();
+		Assertions.assertEquals(10, map.computeIfAbsent(5, key -> key * 2),
+								"Invalid computed value");
+		Assertions.assertEquals(10, map.computeIfAbsent(5, key -> -1),
+								"The value must not be computed again");
+		Assertions.assertEquals(0, map.computeIfAbsent(0, key -> 0),
+								"Invalid computed value for the zero key");
+		Assertions.assertTrue(map.containsKey(0),
+							  "The zero key must be stored");
+		
+		ULongObjectMap<String> objects = UMap.makeLongObject();
+		Assertions.assertEquals("7", objects.computeIfAbsent(7L, Long::toString),
+								"Invalid computed value");
+		Assertions.assertEquals("7", objects.computeIfAbsent(7L, key -> "other"),
+								"The value must not be computed again");
+	}
+	
+	@Test
+	public void longLongMapTest() {
+		ULongLongMap map = UMap.makeLongLong(
+			UArrays.ofLong(0L, Long.MIN_VALUE, 1L << 32, 1L << 33, 1L << 32),
+			UArrays.ofLong(1L, 2L, 3L, 4L, 5L)
+		);
+		Assertions.assertEquals(4, map.size(), "Invalid map size");
+		Assertions.assertEquals(5L, map.getOrDefault(1L << 32, 0L),
+								"A repeated key must keep the last value");
+		Assertions.assertEquals(11L, map.addTo(0L, 10L), "Invalid addTo result for the zero key");
+		Assertions.assertEquals(7L, map.addTo(1L, 7L), "Invalid addTo result for a new key");
+		
+		long sum = 0;
+		for (PrimitiveIterator.OfLong iterator = map.keyIterator(); iterator.hasNext(); ) {
+			sum += map.getOrDefault(iterator.nextLong(), 0L);
+		}
+		Assertions.assertEquals(11L + 2L + 5L + 4L + 7L, sum, "Invalid sum of the values");
+		
+		Assertions.assertThrows(IllegalArgumentException.class,
+								() -> UMap.makeLongLong(UArrays.ofLong(1L), UArrays.ofLong()),
+								"The arrays must have the same size");
+		Assertions.assertThrows(IllegalArgumentException.class,
+								() -> UMap.makeLongLong(10, 1f),
+								"The load factor must be less than one");
+	}
+	
+	@Test
+	public void longObjectMapTest() {
+		ULongObjectMap<String> map = UMap.makeLongObject(
+			UArrays.ofLong(0L, 1L, 2L),
+			UArrays.of("zero", "one", "two")
+		);
+		Assertions.assertEquals("one", map.put(1L, "uno"), "Invalid previous value");
+		Assertions.assertNull(map.put(3L, "three"), "A new key must not have a previous value");
+		Assertions.assertEquals("zero", map.remove(0L), "Invalid removed value");
+		Assertions.assertNull(map.get(0L), "The zero key must be removed");
+		Assertions.assertEquals("none", map.getOrDefault(0L, "none"), "Invalid default value");
+		Assertions.assertEquals(3, map.size(), "Invalid map size");
+		
+		for (long key = 4; key < 1_000; key++) {
+			map.put(key, Long.toString(key));
+		}
+		for (long key = 4; key < 1_000; key += 2) {
+			Assertions.assertEquals(Long.toString(key), map.remove(key), "Invalid removed value");
+		}
+		Assertions.assertEquals(3 + 498, map.size(), "Invalid map size after the removals");
+		Assertions.assertEquals("999", map.get(999L), "Invalid value after the removals");
+		Assertions.assertEquals(map.size(), map.values().size(), "Invalid number of values");
+	}
+	
+}
@@ -0,0 +1,78 @@
+package uoxx3.collection.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import uoxx3.collection.UArrays;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+class UPrimitiveSetTest {
+	
+	@Test
+	public void intSetTest() {
+		Random random = new Random(11);
+		Set<Integer> expected = new HashSet<>();
+		UIntSet set = USet.makeInt();
+		
+		// Small range of values, so the removals and the additions collide often
+		for (int i = 0; i < 100_000; i++) {
+			int value = random.nextInt(2_000) - 1_000;
+			if (random.nextInt(3) == 0) {
+				Assertions.assertEquals(expected.remove(value), set.remove(value),
+										"Invalid remove result for " + value);
+			} else {
+				Assertions.assertEquals(expected.add(value), set.add(value),
+										"Invalid add result for " + value);
+			}
+		}
+		
+		Assertions.assertEquals(expected.size(), set.size(),
+								"Invalid set size");
+		for (int value = -1_000; value < 1_000; value++) {
+			Assertions.assertEquals(expected.contains(value), set.contains(value),
+									"Invalid contains result for " + value);
+		}
+		
+		int[] elements = set.toArray();
+		Arrays.sort(elements);
+		Assertions.assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), elements,
+									 "Invalid set elements");
+		Assertions.assertEquals(expected.hashCode(), set.hashCode(),
+								"Invalid set hash code");
+	}
+	
+	@Test
+	public void longSetTest() {
+		ULongSet set = USet.makeLong(0L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 32, 1L << 33);
+		Assertions.assertEquals(5, set.size(), "Invalid set size");
+		Assertions.assertFalse(set.add(0L), "The zero element must be already present");
+		Assertions.assertTrue(set.remove(1L << 32), "Invalid remove result");
+		Assertions.assertTrue(set.contains(1L << 33), "Invalid contains result");
+		
+		long[] elements = set.stream().sorted().toArray();
+		Assertions.assertArrayEquals(new long[]{Long.MIN_VALUE, 0L, 1L << 33, Long.MAX_VALUE}, elements,
+									 "Invalid stream elements");
+		
+		ULongSet copy = set.copy();
+		copy.clear();
+		Assertions.assertTrue(copy.isEmpty(), "The set must be empty");
+		Assertions.assertEquals(4, set.size(), "The copy must not share the table");
+	}
+	
+	@Test
+	public void arrayConversionTest() {
+		UIntSet intSet = UArrays.ofInt(3, 1, 3, 2, 1).toIntSet();
+		Assertions.assertEquals(USet.makeInt(1, 2, 3), intSet,
+								"Invalid int set");
+		
+		UCharacterSet charSet = UArrays.ofChar("hello".toCharArray()).toCharSet();
+		char[] elements = charSet.toArray();
+		Arrays.sort(elements);
+		Assertions.assertArrayEquals("ehlo".toCharArray(), elements,
+									 "Invalid char set");
+	}
+	
+}